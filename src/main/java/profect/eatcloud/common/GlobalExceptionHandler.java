@@ -12,6 +12,7 @@ import profect.eatcloud.domain.admin.exception.AdminErrorCode;
 import profect.eatcloud.domain.admin.exception.AdminException;
 import profect.eatcloud.domain.customer.exception.CustomerErrorCode;
 import profect.eatcloud.domain.customer.exception.CustomerException;
+import profect.eatcloud.global.redis.RedisUnavailableException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -30,6 +31,13 @@ public class GlobalExceptionHandler {
 			.body(e.getMessage());
 	}
 
+	@ExceptionHandler(RedisUnavailableException.class)
+	public ResponseEntity<String> handleRedisUnavailable(RedisUnavailableException e) {
+		return ResponseEntity
+			.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.body(e.getMessage());
+	}
+
 	@ExceptionHandler(AdminException.class)
 	public ResponseEntity<ApiResponse<Void>> handleAdminException(AdminException ex) {
 		AdminErrorCode errorCode = ex.getErrorCode();
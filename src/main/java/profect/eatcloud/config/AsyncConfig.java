@@ -22,5 +22,17 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
 
+    @Bean(name = "cartSyncExecutor")
+    public ThreadPoolTaskExecutor cartSyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);        // 초과 시 거절 → 대기열에 다시 적재
+        executor.setThreadNamePrefix("cartSync-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,11 +1,15 @@
 package profect.eatcloud.config;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,10 +18,15 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import profect.eatcloud.global.redis.codec.RedisCodecRegistry;
+import profect.eatcloud.global.redis.codec.RedisValueCodec;
+import profect.eatcloud.global.redis.codec.VersionedRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
@@ -67,29 +76,50 @@ public class RedisConfig {
 
     @Bean
     @Primary
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+        List<RedisValueCodec<?>> codecs,
+        @Value("${redis.codec.binary-writes:false}") boolean binaryWrites) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
         ObjectMapper objectMapper = createObjectMapper();
+        // 기존에 @class 타입 정보와 함께 저장된 값도 읽을 수 있도록 기본 타이핑 유지.
+        // 역직렬화 대상은 애플리케이션 타입과 JDK 컬렉션/시간 타입으로 제한한다
+        PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("profect.eatcloud.")
+            .allowIfSubType("java.util.")
+            .allowIfSubType("java.time.")
+            .build();
+        objectMapper.activateDefaultTyping(typeValidator,
+            ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
 
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         GenericJackson2JsonRedisSerializer jsonSerializer =
             new GenericJackson2JsonRedisSerializer(objectMapper);
+        VersionedRedisSerializer valueSerializer =
+            new VersionedRedisSerializer(new RedisCodecRegistry(codecs), jsonSerializer, binaryWrites);
 
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(stringSerializer);
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(jsonSerializer);
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         template.setDefaultSerializer(jsonSerializer);
 
         template.afterPropertiesSet();
 
-        log.info("RedisTemplate configured with JSON serialization");
+        log.info("RedisTemplate configured with codecs {} (binary writes: {})",
+            codecs.stream().map(codec -> codec.type().getSimpleName()).toList(), binaryWrites);
 
         return template;
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     private ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
 
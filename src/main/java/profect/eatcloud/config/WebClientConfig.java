@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import profect.eatcloud.global.http.OutboundHttpClientFactory;
 
 @Configuration
 public class WebClientConfig {
@@ -16,18 +17,20 @@ public class WebClientConfig {
 
     @Bean
     @Qualifier("tossWebClient")
-    public WebClient tossWebClient() {
-        return WebClient.builder()
-                .baseUrl("https://api.tosspayments.com/v1")
+    public WebClient tossWebClient(OutboundHttpClientFactory httpClientFactory,
+            @Value("${toss.api.base-url}") String tossBaseUrl) {
+        return httpClientFactory.create("toss", tossBaseUrl + "/v1")
+                .mutate()
                 .defaultHeader("Content-Type", "application/json")
                 .build();
     }
 
 
     @Bean(name = "geminiWebClient")
-    public WebClient geminiWebClient(@Value("${google.ai.api.base-url}") String googleAiBaseUrl) {
-        return WebClient.builder()
-                .baseUrl(googleAiBaseUrl)
+    public WebClient geminiWebClient(OutboundHttpClientFactory httpClientFactory,
+            @Value("${google.ai.api.base-url}") String googleAiBaseUrl) {
+        return httpClientFactory.create("gemini", googleAiBaseUrl)
+                .mutate()
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
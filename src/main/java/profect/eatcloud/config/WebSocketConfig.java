@@ -0,0 +1,69 @@
+package profect.eatcloud.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import profect.eatcloud.security.config.SecurityConfig;
+import profect.eatcloud.security.config.StompAuthChannelInterceptor;
+
+/**
+ * 매장 주문 실시간 알림용 STOMP 설정.
+ * websocket.broker-relay.enabled=true 이면 외부 STOMP 브로커(RabbitMQ 등)로 relay 하고,
+ * 아니면 인스턴스 내장 브로커를 쓰고 인스턴스 간 전파는 StoreOrderPushService 가 Redis pub/sub 으로 처리한다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+	private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+	private final boolean brokerRelayEnabled;
+	private final String relayHost;
+	private final int relayPort;
+	private final String relayLogin;
+	private final String relayPasscode;
+
+	public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+		@Value("${websocket.broker-relay.enabled:false}") boolean brokerRelayEnabled,
+		@Value("${websocket.broker-relay.host:localhost}") String relayHost,
+		@Value("${websocket.broker-relay.port:61613}") int relayPort,
+		@Value("${websocket.broker-relay.login:guest}") String relayLogin,
+		@Value("${websocket.broker-relay.passcode:guest}") String relayPasscode) {
+		this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+		this.brokerRelayEnabled = brokerRelayEnabled;
+		this.relayHost = relayHost;
+		this.relayPort = relayPort;
+		this.relayLogin = relayLogin;
+		this.relayPasscode = relayPasscode;
+	}
+
+	@Override
+	public void registerStompEndpoints(StompEndpointRegistry registry) {
+		registry.addEndpoint("/ws")
+			.setAllowedOrigins(SecurityConfig.ALLOWED_ORIGINS.toArray(String[]::new));
+	}
+
+	@Override
+	public void configureMessageBroker(MessageBrokerRegistry registry) {
+		if (brokerRelayEnabled) {
+			registry.enableStompBrokerRelay("/topic")
+				.setRelayHost(relayHost)
+				.setRelayPort(relayPort)
+				.setClientLogin(relayLogin)
+				.setClientPasscode(relayPasscode)
+				.setSystemLogin(relayLogin)
+				.setSystemPasscode(relayPasscode);
+		} else {
+			registry.enableSimpleBroker("/topic");
+		}
+	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.interceptors(stompAuthChannelInterceptor);
+	}
+}
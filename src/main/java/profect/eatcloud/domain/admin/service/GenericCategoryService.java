@@ -3,6 +3,7 @@ package profect.eatcloud.domain.admin.service;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +12,7 @@ import profect.eatcloud.domain.admin.exception.AdminErrorCode;
 import profect.eatcloud.domain.admin.exception.AdminException;
 import profect.eatcloud.domain.globalCategory.entity.BaseCategory;
 import profect.eatcloud.domain.globalCategory.repository.BaseCategoryRepository;
+import profect.eatcloud.domain.globalCategory.service.CodeTableChangedEvent;
 
 @Service
 public class GenericCategoryService {
@@ -20,11 +22,14 @@ public class GenericCategoryService {
 	 * value: 해당 리포지토리 빈
 	 */
 	private final Map<String, BaseCategoryRepository<? extends BaseCategory>> repoMap;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public GenericCategoryService(
-		Map<String, BaseCategoryRepository<? extends BaseCategory>> repoMap
+		Map<String, BaseCategoryRepository<? extends BaseCategory>> repoMap,
+		ApplicationEventPublisher eventPublisher
 	) {
 		this.repoMap = repoMap;
+		this.eventPublisher = eventPublisher;
 	}
 
 	private BaseCategoryRepository<BaseCategory> repo(String type) {
@@ -44,6 +49,7 @@ public class GenericCategoryService {
 		entity.setSortOrder(dto.getSortOrder());
 		entity.setIsActive(dto.getIsActive());
 		BaseCategory saved = repo(type).save(entity);
+		eventPublisher.publishEvent(new CodeTableChangedEvent(type));
 		return toDto(saved);
 	}
 
@@ -57,6 +63,7 @@ public class GenericCategoryService {
 		entity.setSortOrder(dto.getSortOrder());
 		entity.setIsActive(dto.getIsActive());
 		BaseCategory updated = repository.save(entity);
+		eventPublisher.publishEvent(new CodeTableChangedEvent(type));
 		return toDto(updated);
 	}
 
@@ -66,6 +73,7 @@ public class GenericCategoryService {
 		BaseCategory entity = repository.findById(id)
 			.orElseThrow(() -> new AdminException(AdminErrorCode.CATEGORY_NOT_FOUND));
 		repository.delete(entity);
+		eventPublisher.publishEvent(new CodeTableChangedEvent(type));
 	}
 
 	public List<CategoryDto> list(String type) {
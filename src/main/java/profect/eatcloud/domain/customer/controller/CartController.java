@@ -20,9 +20,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import profect.eatcloud.domain.customer.dto.CartItem;
 import profect.eatcloud.domain.customer.dto.request.AddCartItemRequest;
+import profect.eatcloud.domain.customer.dto.request.BatchCartRequest;
 import profect.eatcloud.domain.customer.dto.request.UpdateCartItemRequest;
 import profect.eatcloud.domain.customer.exception.CustomerErrorCode;
 import profect.eatcloud.domain.customer.exception.CustomerException;
@@ -131,4 +133,22 @@ public class CartController {
 		cartService.clearCart(customerId);
 		return profect.eatcloud.common.ApiResponse.success(ResponseMessage.CART_CLEAR_SUCCESS);
 	}
+
+	@Operation(summary = "6. 장바구니 일괄 변경", description = "여러 메뉴의 추가/수량 변경/삭제를 한 번에 반영하고 변경된 장바구니를 반환합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "변경 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 다른 가게 메뉴 포함"),
+		@ApiResponse(responseCode = "401", description = "인증 실패"),
+		@ApiResponse(responseCode = "404", description = "고객 또는 장바구니 메뉴를 찾을 수 없음")
+	})
+	@PostMapping("/batch")
+	@ResponseStatus(HttpStatus.OK)
+	public profect.eatcloud.common.ApiResponse<List<CartItem>> applyBatch(
+		@AuthenticationPrincipal UserDetails userDetails,
+		@RequestBody @Valid BatchCartRequest request) {
+
+		UUID customerId = getCustomerUuid(userDetails);
+		List<CartItem> cartItems = cartService.applyBatch(customerId, request);
+		return profect.eatcloud.common.ApiResponse.success(cartItems);
+	}
 }
\ No newline at end of file
@@ -3,10 +3,12 @@ package profect.eatcloud.domain.customer.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class CartItem {
 	private UUID menuId;
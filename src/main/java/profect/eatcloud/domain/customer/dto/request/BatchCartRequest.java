@@ -0,0 +1,46 @@
+package profect.eatcloud.domain.customer.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCartRequest {
+    public static final int MAX_OPERATIONS = 50;
+
+    @NotEmpty(message = "변경할 항목이 없습니다.")
+    @Size(max = MAX_OPERATIONS, message = "한 번에 최대 50개까지 변경할 수 있습니다.")
+    private List<@Valid CartOperation> operations;
+
+    public enum OperationType {
+        ADD, UPDATE, REMOVE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CartOperation {
+        @NotNull(message = "변경 유형은 필수입니다.")
+        private OperationType type;
+
+        @NotNull(message = "메뉴 ID는 필수입니다.")
+        private UUID menuId;
+
+        // ADD 에서만 사용
+        private String menuName;
+        private Integer price;
+        private UUID storeId;
+
+        // ADD: 추가할 수량, UPDATE: 변경할 수량 (0 이하면 삭제)
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,294 @@
+package profect.eatcloud.domain.customer.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import profect.eatcloud.domain.customer.dto.CartItem;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 장바구니를 Redis Hash 로 저장한다.
+ * <pre>
+ * cart:h:{customerId}
+ *   @store        -> 장바구니가 속한 매장 ID
+ *   {menuId}      -> 수량 (HINCRBY 대상)
+ *   {menuId}:meta -> 메뉴 이름/가격 등 JSON
+ * </pre>
+ * 리스트 전체를 읽고 다시 쓰지 않고 메뉴 단위 명령으로 갱신한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CartRedisRepository {
+
+    private static final String CART_HASH_KEY_PREFIX = "cart:h:";
+    private static final String STORE_FIELD = "@store";
+    private static final String META_SUFFIX = ":meta";
+    private static final Duration CART_TTL = Duration.ofHours(24);
+
+    private static final long OK = 0L;
+    private static final long STORE_MISMATCH = -1L;
+    private static final long NOT_LOADED = -2L;
+    private static final long NOT_FOUND = -3L;
+
+    /**
+     * 멀티 스텝 연산은 모두 서버 측 Lua 스크립트로 한 번의 왕복에 원자적으로 처리한다.
+     * RedisTemplate 은 EVALSHA 로 호출하고, 기동 시 SCRIPT LOAD 로 미리 적재해 둔다.
+     */
+    private static final RedisScript<List<Object>> ADD_ITEM_SCRIPT = listScript("redis/cart/add_item.lua");
+    private static final RedisScript<List<Object>> SET_QUANTITY_SCRIPT = listScript("redis/cart/set_quantity.lua");
+    private static final RedisScript<List<Object>> CART_BATCH_SCRIPT = listScript("redis/cart/cart_batch.lua");
+    private static final RedisScript<List<Object>> CART_TOTALS_SCRIPT = listScript("redis/cart/cart_totals.lua");
+    private static final RedisScript<Long> LOAD_IF_ABSENT_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/cart/load_if_absent.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        try {
+            for (RedisScript<?> script : List.of(ADD_ITEM_SCRIPT, SET_QUANTITY_SCRIPT, CART_BATCH_SCRIPT,
+                CART_TOTALS_SCRIPT, LOAD_IF_ABSENT_SCRIPT)) {
+                byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+                stringRedisTemplate.execute((RedisCallback<String>)connection ->
+                    connection.scriptingCommands().scriptLoad(body));
+            }
+            log.info("Preloaded cart Lua scripts");
+        } catch (Exception e) {
+            // 적재에 실패해도 EVALSHA 가 NOSCRIPT 일 때 EVAL 로 재시도하므로 동작에는 문제 없음
+            log.warn("Failed to preload cart Lua scripts: {}", e.getMessage());
+        }
+    }
+
+    public CartMutation addItem(UUID customerId, CartItem item, boolean loaded) {
+        List<Object> result = stringRedisTemplate.execute(ADD_ITEM_SCRIPT,
+            List.of(getCartKey(customerId)),
+            item.getStoreId().toString(),
+            item.getMenuId().toString(),
+            item.getQuantity().toString(),
+            writeMeta(item),
+            String.valueOf(CART_TTL.toMillis()),
+            loaded ? "1" : "0");
+
+        return toMutation(customerId, result);
+    }
+
+    /**
+     * 담겨 있는 메뉴의 수량을 변경한다. 0 이하이면 메뉴를 삭제한다.
+     */
+    public CartMutation setQuantity(UUID customerId, UUID menuId, int quantity, boolean loaded) {
+        List<Object> result = stringRedisTemplate.execute(SET_QUANTITY_SCRIPT,
+            List.of(getCartKey(customerId)),
+            menuId.toString(),
+            String.valueOf(quantity),
+            String.valueOf(CART_TTL.toMillis()),
+            loaded ? "1" : "0");
+
+        return toMutation(customerId, result);
+    }
+
+    public CartMutation removeItem(UUID customerId, UUID menuId, boolean loaded) {
+        return setQuantity(customerId, menuId, 0, loaded);
+    }
+
+    /**
+     * 여러 변경을 스크립트 한 번으로 원자적으로 반영한다. storeId 는 추가 연산이 없으면 null.
+     */
+    public CartMutation applyBatch(UUID customerId, UUID storeId, List<BatchOperation> operations,
+        boolean loaded) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(CART_TTL.toMillis()));
+        args.add(loaded ? "1" : "0");
+        args.add(storeId != null ? storeId.toString() : "");
+
+        for (BatchOperation operation : operations) {
+            CartItem item = operation.item();
+            args.add(operation.type().code);
+            args.add(item.getMenuId().toString());
+            args.add(item.getQuantity() != null ? item.getQuantity().toString() : "0");
+            args.add(operation.type() == BatchOperationType.ADD ? writeMeta(item) : "");
+        }
+
+        List<Object> result = stringRedisTemplate.execute(CART_BATCH_SCRIPT,
+            List.of(getCartKey(customerId)), args.toArray());
+        return toMutation(customerId, result);
+    }
+
+    /**
+     * 캐시에 장바구니가 있으면 메뉴 수/총 수량/총 금액을 스크립트에서 바로 계산해 돌려준다.
+     */
+    public Optional<CartTotals> findTotals(UUID customerId) {
+        List<Object> result = stringRedisTemplate.execute(CART_TOTALS_SCRIPT, List.of(getCartKey(customerId)));
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new CartTotals(
+            toInt(result.get(0)),
+            toInt(result.get(1)),
+            toInt(result.get(2))));
+    }
+
+    public List<CartItem> findAll(UUID customerId) {
+        HashOperations<String, String, String> hashOps = stringRedisTemplate.opsForHash();
+        return toCartItems(hashOps.entries(getCartKey(customerId)));
+    }
+
+    public void loadIfAbsent(UUID customerId, List<CartItem> cartItems) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(CART_TTL.toMillis()));
+
+        if (!cartItems.isEmpty()) {
+            args.add(STORE_FIELD);
+            args.add(cartItems.getFirst().getStoreId().toString());
+        }
+        for (CartItem item : cartItems) {
+            args.add(item.getMenuId().toString());
+            args.add(item.getQuantity().toString());
+            args.add(item.getMenuId() + META_SUFFIX);
+            args.add(writeMeta(item));
+        }
+
+        stringRedisTemplate.execute(LOAD_IF_ABSENT_SCRIPT,
+            List.of(getCartKey(customerId)), args.toArray());
+    }
+
+    public void delete(UUID customerId) {
+        stringRedisTemplate.delete(getCartKey(customerId));
+    }
+
+    private String getCartKey(UUID customerId) {
+        return CART_HASH_KEY_PREFIX + customerId.toString();
+    }
+
+    private CartMutation toMutation(UUID customerId, List<Object> result) {
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("Redis script returned no result for customer: " + customerId);
+        }
+
+        long status = (Long)result.getFirst();
+        if (status == STORE_MISMATCH) {
+            return new CartMutation(MutationStatus.STORE_MISMATCH, List.of());
+        }
+        if (status == NOT_LOADED) {
+            return new CartMutation(MutationStatus.NOT_LOADED, List.of());
+        }
+        if (status == NOT_FOUND) {
+            return new CartMutation(MutationStatus.NOT_FOUND, List.of());
+        }
+        if (status != OK) {
+            throw new IllegalStateException("Unexpected cart script status: " + status);
+        }
+
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            entries.put((String)result.get(i), (String)result.get(i + 1));
+        }
+        return new CartMutation(MutationStatus.OK, toCartItems(entries));
+    }
+
+    private List<CartItem> toCartItems(Map<String, String> entries) {
+        List<CartItem> cartItems = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            String field = entry.getKey();
+            if (STORE_FIELD.equals(field) || field.endsWith(META_SUFFIX)) {
+                continue;
+            }
+
+            String meta = entries.get(field + META_SUFFIX);
+            if (meta == null) {
+                log.warn("Cart item without metadata skipped: menuId={}", field);
+                continue;
+            }
+
+            CartItem item = readMeta(meta);
+            item.setQuantity(Integer.valueOf(entry.getValue()));
+            cartItems.add(item);
+        }
+
+        return cartItems;
+    }
+
+    private String writeMeta(CartItem item) {
+        try {
+            return objectMapper.writeValueAsString(CartItem.builder()
+                .menuId(item.getMenuId())
+                .menuName(item.getMenuName())
+                .price(item.getPrice())
+                .storeId(item.getStoreId())
+                .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cart item: " + item.getMenuId(), e);
+        }
+    }
+
+    private CartItem readMeta(String meta) {
+        try {
+            return objectMapper.readValue(meta, CartItem.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize cart item metadata", e);
+        }
+    }
+
+    private int toInt(Object value) {
+        return value == null ? 0 : ((Long)value).intValue();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Object>> listScript(String path) {
+        DefaultRedisScript script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    public enum MutationStatus {
+        OK,
+        STORE_MISMATCH,
+        NOT_FOUND,
+        NOT_LOADED
+    }
+
+    /**
+     * 스크립트 실행 결과와 실행 직후의 장바구니 스냅샷.
+     */
+    public record CartMutation(MutationStatus status, List<CartItem> items) {
+    }
+
+    public enum BatchOperationType {
+        ADD("A"),
+        UPDATE("U"),
+        REMOVE("R");
+
+        private final String code;
+
+        BatchOperationType(String code) {
+            this.code = code;
+        }
+    }
+
+    public record BatchOperation(BatchOperationType type, CartItem item) {
+    }
+
+    public record CartTotals(int menuCount, int itemCount, int totalAmount) {
+    }
+}
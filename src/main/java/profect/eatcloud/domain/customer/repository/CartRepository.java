@@ -1,18 +1,79 @@
 package profect.eatcloud.domain.customer.repository;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.lettuce.core.dynamic.annotation.Param;
 import profect.eatcloud.domain.customer.entity.Cart;
 import profect.eatcloud.global.timeData.BaseTimeRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CartRepository extends BaseTimeRepository<Cart, UUID> {
     Optional<Cart> findByCustomerId(UUID customerId);
+    List<Cart> findAllByCustomerIdIn(Collection<UUID> customerIds);
     void deleteByCustomerId(UUID customerId);
 
     @Query("SELECT COUNT(c) > 0 FROM Cart c WHERE c.customer.id = :customerId")
     boolean existsByCustomerId(@Param("customerId") UUID customerId);
+
+    /**
+     * cutoff 이전에 마지막으로 변경된 장바구니를 최대 batchSize 개 삭제한다. 삭제된 행 수를 반환.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        WITH stale AS (
+            SELECT c.cart_id, c.p_time_id
+            FROM p_cart c
+            JOIN p_time t ON t.p_time_id = c.p_time_id
+            WHERE t.updated_at < ?1
+            ORDER BY t.updated_at
+            LIMIT ?2
+            FOR UPDATE OF c SKIP LOCKED
+        ), purged AS (
+            DELETE FROM p_cart c USING stale
+            WHERE c.cart_id = stale.cart_id
+            RETURNING c.p_time_id
+        )
+        DELETE FROM p_time t USING purged
+        WHERE t.p_time_id = purged.p_time_id
+        """, nativeQuery = true)
+    int purgeStaleCarts(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * purgeStaleCarts 와 같지만 삭제 전에 p_cart_archive 로 옮긴다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        WITH stale AS (
+            SELECT c.cart_id, c.p_time_id, t.updated_at
+            FROM p_cart c
+            JOIN p_time t ON t.p_time_id = c.p_time_id
+            WHERE t.updated_at < ?1
+            ORDER BY t.updated_at
+            LIMIT ?2
+            FOR UPDATE OF c SKIP LOCKED
+        ), moved AS (
+            DELETE FROM p_cart c USING stale
+            WHERE c.cart_id = stale.cart_id
+            RETURNING c.cart_id, c.customer_id, c.cart_items, c.p_time_id, stale.updated_at
+        ), archived AS (
+            INSERT INTO p_cart_archive (cart_id, customer_id, cart_items, last_updated_at, archived_at)
+            SELECT cart_id, customer_id, cart_items, updated_at, now() FROM moved
+            ON CONFLICT (cart_id) DO UPDATE
+                SET cart_items = EXCLUDED.cart_items,
+                    last_updated_at = EXCLUDED.last_updated_at,
+                    archived_at = EXCLUDED.archived_at
+        )
+        DELETE FROM p_time t USING moved
+        WHERE t.p_time_id = moved.p_time_id
+        """, nativeQuery = true)
+    int archiveStaleCarts(LocalDateTime cutoff, int batchSize);
 }
@@ -0,0 +1,114 @@
+package profect.eatcloud.domain.customer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.customer.dto.CartItem;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 장바구니 조회용 인스턴스 로컬 캐시 (cart.near-cache.enabled).
+ * 변경 시 Redis pub/sub 으로 다른 인스턴스의 캐시를 무효화한다.
+ * pub/sub 메시지가 유실되더라도 TTL 이 지나면 Redis 값으로 다시 채워지므로 최대 TTL 만큼만 오래된 값을 본다.
+ */
+@Slf4j
+@Component
+public class CartNearCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "cart:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Cache<UUID, List<CartItem>> cache;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    public CartNearCache(StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        MeterRegistry meterRegistry,
+        @Value("${cart.near-cache.enabled:false}") boolean enabled,
+        @Value("${cart.near-cache.maximum-size:10000}") long maximumSize,
+        @Value("${cart.near-cache.ttl:5s}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "cart.near");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        log.info("Cart near-cache enabled: instanceId={}", instanceId);
+    }
+
+    public Optional<List<CartItem>> get(UUID customerId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(customerId)).map(ArrayList::new);
+    }
+
+    public void put(UUID customerId, List<CartItem> cartItems) {
+        if (enabled) {
+            cache.put(customerId, List.copyOf(cartItems));
+        }
+    }
+
+    /**
+     * 로컬 캐시를 비우고 다른 인스턴스에도 무효화를 알린다.
+     */
+    public void invalidate(UUID customerId) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidate(customerId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + SEPARATOR + customerId);
+        } catch (Exception e) {
+            log.warn("Failed to publish cart invalidation for customer: {}, error: {}",
+                customerId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0 || body.startsWith(instanceId + SEPARATOR)) {
+            return;
+        }
+        try {
+            cache.invalidate(UUID.fromString(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignored malformed cart invalidation message: {}", body);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package profect.eatcloud.domain.customer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+
+/**
+ * 결제 완료 이벤트를 받아 장바구니를 비운다. outbox relay 스레드에서 결제 트랜잭션과 분리되어 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartOrderEventListener {
+
+    private final CartService cartService;
+
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onOrderEvent(OrderLifecycleEvent event) {
+        if (!"PAID".equals(event.eventType())) {
+            return;
+        }
+        try {
+            cartService.invalidateCartAfterOrder(event.customerId());
+            log.info("Cart invalidated after successful payment for customer: {}, order: {}",
+                event.customerId(), event.orderNumber());
+        } catch (Exception e) {
+            log.error("Failed to invalidate cart after payment completion for customer: {}, order: {}",
+                event.customerId(), event.orderNumber(), e);
+        }
+    }
+}
@@ -4,67 +4,61 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import profect.eatcloud.domain.customer.dto.CartItem;
 import profect.eatcloud.domain.customer.dto.request.AddCartItemRequest;
+import profect.eatcloud.domain.customer.dto.request.BatchCartRequest;
 import profect.eatcloud.domain.customer.dto.request.UpdateCartItemRequest;
 import profect.eatcloud.domain.customer.entity.Cart;
-import profect.eatcloud.domain.customer.entity.Customer;
 import profect.eatcloud.domain.customer.exception.CustomerErrorCode;
 import profect.eatcloud.domain.customer.exception.CustomerException;
+import profect.eatcloud.domain.customer.repository.CartRedisRepository;
+import profect.eatcloud.domain.customer.repository.CartRedisRepository.BatchOperation;
+import profect.eatcloud.domain.customer.repository.CartRedisRepository.BatchOperationType;
+import profect.eatcloud.domain.customer.repository.CartRedisRepository.CartMutation;
+import profect.eatcloud.domain.customer.repository.CartRedisRepository.CartTotals;
+import profect.eatcloud.domain.customer.repository.CartRedisRepository.MutationStatus;
 import profect.eatcloud.domain.customer.repository.CartRepository;
-import profect.eatcloud.domain.customer.repository.CustomerRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
 
 import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CartService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final CartRedisRepository cartRedisRepository;
     private final CartRepository cartRepository;
-    private final CustomerRepository customerRepository;
-
-    private static final String CART_KEY_PREFIX = "cart:";
-    private static final Duration CART_TTL = Duration.ofHours(24);
+    private final CartSyncWriter cartSyncWriter;
+    private final CartWriteBehindQueue cartWriteBehindQueue;
+    private final CartNearCache cartNearCache;
 
     public void addItem(UUID customerId, AddCartItemRequest request) {
         validateCustomerId(customerId);
         validateAddItemRequest(request);
 
         try {
-            List<CartItem> cartItems = getCart(customerId);
-            validateStoreConsistency(cartItems, request.getStoreId());
-
-            Optional<CartItem> existingItem = cartItems.stream()
-                .filter(item -> item.getMenuId().equals(request.getMenuId()))
-                .findFirst();
+            CartItem newItem = CartItem.builder()
+                .menuId(request.getMenuId())
+                .menuName(request.getMenuName())
+                .quantity(request.getQuantity())
+                .price(request.getPrice())
+                .storeId(request.getStoreId())
+                .build();
 
-            if (existingItem.isPresent()) {
-                CartItem item = existingItem.get();
-                item.setQuantity(item.getQuantity() + request.getQuantity());
-                log.debug("Updated existing cart item: customerId={}, menuId={}, newQuantity={}",
-                    customerId, request.getMenuId(), item.getQuantity());
+            if (isRedisAvailable()) {
+                List<CartItem> cartItems = addItemToRedis(customerId, newItem);
+                syncToDatabaseAsync(customerId, cartItems);
             } else {
-                CartItem newItem = CartItem.builder()
-                    .menuId(request.getMenuId())
-                    .menuName(request.getMenuName())
-                    .quantity(request.getQuantity())
-                    .price(request.getPrice())
-                    .storeId(request.getStoreId())
-                    .build();
-                cartItems.add(newItem);
-                log.debug("Added new cart item: customerId={}, menuId={}, quantity={}",
-                    customerId, request.getMenuId(), request.getQuantity());
+                List<CartItem> cartItems = getCartFromDatabase(customerId);
+                validateStoreConsistency(cartItems, request.getStoreId());
+                mergeItem(cartItems, newItem);
+                syncToDatabase(customerId, cartItems);
             }
-
-            saveCartToRedis(customerId, cartItems);
-            syncToDatabaseAsync(customerId, cartItems);
+            cartNearCache.invalidate(customerId);
 
             log.info("Successfully added item to cart: customerId={}, menuId={}",
                 customerId, request.getMenuId());
@@ -73,6 +67,7 @@ public class CartService {
             log.warn("Cart operation failed: customerId={}, error={}", customerId, e.getMessage());
             throw e;
         } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
             log.error("Failed to add item to cart for customer: {}", customerId, e);
             throw new CustomerException(CustomerErrorCode.CART_NOT_FOUND);
         }
@@ -82,11 +77,17 @@ public class CartService {
         validateCustomerId(customerId);
 
         try {
+            Optional<List<CartItem>> nearCached = cartNearCache.get(customerId);
+            if (nearCached.isPresent()) {
+                return nearCached.get();
+            }
+
             List<CartItem> cartItems = getCartFromRedis(customerId);
 
             if (!cartItems.isEmpty()) {
                 log.debug("Cart found in Redis for customer: {}, itemCount={}",
                     customerId, cartItems.size());
+                cartNearCache.put(customerId, cartItems);
                 return cartItems;
             }
 
@@ -95,6 +96,7 @@ public class CartService {
 
             if (!cartItems.isEmpty()) {
                 saveCartToRedis(customerId, cartItems);
+                cartNearCache.put(customerId, cartItems);
             }
 
             return cartItems;
@@ -110,33 +112,33 @@ public class CartService {
         validateUpdateItemRequest(request);
 
         try {
-            List<CartItem> cartItems = getCart(customerId);
-
-            CartItem targetItem = cartItems.stream()
-                .filter(item -> item.getMenuId().equals(request.getMenuId()))
-                .findFirst()
-                .orElseThrow(() -> new CustomerException(CustomerErrorCode.CART_ITEM_NOT_FOUND));
-
-            if (request.getQuantity() <= 0) {
-                cartItems.remove(targetItem);
-                log.debug("Removed item from cart: customerId={}, menuId={}",
-                    customerId, request.getMenuId());
+            if (isRedisAvailable()) {
+                List<CartItem> cartItems = updateItemInRedis(customerId, request.getMenuId(), request.getQuantity());
+                syncToDatabaseAsync(customerId, cartItems);
             } else {
-                targetItem.setQuantity(request.getQuantity());
-                log.debug("Updated item quantity: customerId={}, menuId={}, quantity={}",
-                    customerId, request.getMenuId(), request.getQuantity());
+                List<CartItem> cartItems = getCartFromDatabase(customerId);
+                CartItem targetItem = cartItems.stream()
+                    .filter(item -> item.getMenuId().equals(request.getMenuId()))
+                    .findFirst()
+                    .orElseThrow(() -> new CustomerException(CustomerErrorCode.CART_ITEM_NOT_FOUND));
+
+                if (request.getQuantity() <= 0) {
+                    cartItems.remove(targetItem);
+                } else {
+                    targetItem.setQuantity(request.getQuantity());
+                }
+                syncToDatabase(customerId, cartItems);
             }
+            cartNearCache.invalidate(customerId);
 
-            saveCartToRedis(customerId, cartItems);
-            syncToDatabaseAsync(customerId, cartItems);
-
-            log.info("Successfully updated cart item: customerId={}, menuId={}",
-                customerId, request.getMenuId());
+            log.info("Successfully updated cart item: customerId={}, menuId={}, quantity={}",
+                customerId, request.getMenuId(), request.getQuantity());
 
         } catch (CustomerException e) {
             log.warn("Cart update failed: customerId={}, error={}", customerId, e.getMessage());
             throw e;
         } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
             log.error("Failed to update cart item quantity for customer: {}", customerId, e);
             throw new CustomerException(CustomerErrorCode.CART_NOT_FOUND);
         }
@@ -149,16 +151,17 @@ public class CartService {
         }
 
         try {
-            List<CartItem> cartItems = getCart(customerId);
-
-            boolean removed = cartItems.removeIf(item -> item.getMenuId().equals(menuId));
-
-            if (!removed) {
-                throw new CustomerException(CustomerErrorCode.CART_NOT_FOUND);
+            if (isRedisAvailable()) {
+                List<CartItem> cartItems = removeItemFromRedis(customerId, menuId);
+                syncToDatabaseAsync(customerId, cartItems);
+            } else {
+                List<CartItem> cartItems = getCartFromDatabase(customerId);
+                if (!cartItems.removeIf(item -> item.getMenuId().equals(menuId))) {
+                    throw new CustomerException(CustomerErrorCode.CART_NOT_FOUND);
+                }
+                syncToDatabase(customerId, cartItems);
             }
-
-            saveCartToRedis(customerId, cartItems);
-            syncToDatabaseAsync(customerId, cartItems);
+            cartNearCache.invalidate(customerId);
 
             log.info("Successfully removed item from cart: customerId={}, menuId={}",
                 customerId, menuId);
@@ -167,16 +170,60 @@ public class CartService {
             log.warn("Cart item removal failed: customerId={}, error={}", customerId, e.getMessage());
             throw e;
         } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
             log.error("Failed to remove item from cart for customer: {}", customerId, e);
             throw new CustomerException(CustomerErrorCode.CART_NOT_FOUND);
         }
     }
 
+    /**
+     * 여러 추가/수량 변경/삭제를 한 요청에서 원자적으로 반영하고 반영 후 장바구니를 돌려준다.
+     * 매장 일치 검사는 한 번만 하고, Redis 쓰기와 DB 동기화도 각각 한 번만 수행한다.
+     */
+    public List<CartItem> applyBatch(UUID customerId, BatchCartRequest request) {
+        validateCustomerId(customerId);
+        List<BatchOperation> operations = toBatchOperations(request);
+        UUID storeId = resolveBatchStoreId(operations);
+
+        try {
+            List<CartItem> cartItems;
+            if (isRedisAvailable()) {
+                cartItems = applyBatchToRedis(customerId, storeId, operations);
+                syncToDatabaseAsync(customerId, cartItems);
+            } else {
+                cartItems = getCartFromDatabase(customerId);
+                for (BatchOperation operation : operations) {
+                    applyOperation(cartItems, operation);
+                }
+                // 삭제까지 반영한 결과가 한 매장의 메뉴로만 이루어져 있는지 확인
+                if (storeId != null && cartItems.stream().anyMatch(item -> !storeId.equals(item.getStoreId()))) {
+                    throw new CustomerException(CustomerErrorCode.CART_STORE_MISMATCH);
+                }
+                syncToDatabase(customerId, cartItems);
+            }
+            cartNearCache.invalidate(customerId);
+
+            log.info("Successfully applied cart batch: customerId={}, operations={}",
+                customerId, operations.size());
+            return cartItems;
+
+        } catch (CustomerException e) {
+            log.warn("Cart batch failed: customerId={}, error={}", customerId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
+            log.error("Failed to apply cart batch for customer: {}", customerId, e);
+            throw new CustomerException(CustomerErrorCode.CART_NOT_FOUND);
+        }
+    }
+
     @Transactional
     public void clearCart(UUID customerId) {
         validateCustomerId(customerId);
 
         try {
+            cartWriteBehindQueue.discard(customerId);
+            cartNearCache.invalidate(customerId);
             invalidateCartCache(customerId);
             clearCartFromDatabase(customerId);
 
@@ -193,6 +240,8 @@ public class CartService {
         validateCustomerId(customerId);
 
         try {
+            cartWriteBehindQueue.discard(customerId);
+            cartNearCache.invalidate(customerId);
             invalidateCartCache(customerId);
             clearCartFromDatabase(customerId);
             log.info("Cart invalidated after order completion for customer: {}", customerId);
@@ -207,6 +256,16 @@ public class CartService {
 
     public CartStats getCartStats(UUID customerId) {
         try {
+            Optional<CartTotals> totals = getCartTotalsFromRedis(customerId);
+            if (totals.isPresent()) {
+                return CartStats.builder()
+                    .itemCount(totals.get().itemCount())
+                    .totalAmount(totals.get().totalAmount())
+                    .menuCount(totals.get().menuCount())
+                    .dataSource("Redis")
+                    .build();
+            }
+
             List<CartItem> cartItems = getCart(customerId);
 
             int totalItems = cartItems.stream().mapToInt(CartItem::getQuantity).sum();
@@ -217,7 +276,7 @@ public class CartService {
                 .itemCount(totalItems)
                 .totalAmount(totalAmount)
                 .menuCount(cartItems.size())
-                .dataSource(isRedisAvailable() ? "Redis" : "Database")
+                .dataSource("Database")
                 .build();
 
         } catch (Exception e) {
@@ -237,22 +296,8 @@ public class CartService {
         }
     }
 
-    private String getCartKey(UUID customerId) {
-        return CART_KEY_PREFIX + customerId.toString();
-    }
-
     private boolean isRedisAvailable() {
-        try {
-            assert redisTemplate.getConnectionFactory() != null;
-            redisTemplate.getConnectionFactory().getConnection().ping();
-            return true;
-        } catch (RedisConnectionFailureException e) {
-            log.debug("Redis connection failed: {}", e.getMessage());
-            return false;
-        } catch (Exception e) {
-            log.debug("Redis availability check failed: {}", e.getMessage());
-            return false;
-        }
+        return redisHealthMonitor.isAvailable();
     }
 
     private List<CartItem> getCartFromRedis(UUID customerId) {
@@ -261,26 +306,12 @@ public class CartService {
                 return new ArrayList<>();
             }
 
-            String cartKey = getCartKey(customerId);
-            Object cartData = redisTemplate.opsForValue().get(cartKey);
-
-            if (cartData instanceof List<?> rawList) {
-                List<CartItem> cartItems = new ArrayList<>();
-
-                for (Object item : rawList) {
-                    if (item instanceof CartItem) {
-                        cartItems.add((CartItem) item);
-                    } else if (item instanceof Map) {
-                        cartItems.add(convertMapToCartItem((Map<?, ?>) item));
-                    }
-                }
-
-                return cartItems;
-            }
-
-            return new ArrayList<>();
+            List<CartItem> cartItems = cartRedisRepository.findAll(customerId);
+            redisHealthMonitor.recordSuccess();
+            return cartItems;
 
         } catch (RedisConnectionFailureException e) {
+            redisHealthMonitor.recordFailure(e);
             log.warn("Redis unavailable, falling back to database for customer: {}", customerId);
             return new ArrayList<>();
         } catch (Exception e) {
@@ -290,6 +321,22 @@ public class CartService {
         }
     }
 
+    private Optional<CartTotals> getCartTotalsFromRedis(UUID customerId) {
+        if (!isRedisAvailable()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<CartTotals> totals = cartRedisRepository.findTotals(customerId);
+            redisHealthMonitor.recordSuccess();
+            return totals;
+        } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Failed to get cart totals from Redis for customer: {}, error: {}",
+                customerId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     private void saveCartToRedis(UUID customerId, List<CartItem> cartItems) {
         try {
             if (!isRedisAvailable()) {
@@ -297,18 +344,12 @@ public class CartService {
                 return;
             }
 
-            String cartKey = getCartKey(customerId);
-
-            if (cartItems.isEmpty()) {
-                redisTemplate.delete(cartKey);
-                log.debug("Deleted empty cart from cache for customer: {}", customerId);
-            } else {
-                redisTemplate.opsForValue().set(cartKey, cartItems, CART_TTL);
-                log.debug("Saved cart to cache for customer: {}, itemCount={}",
-                    customerId, cartItems.size());
-            }
+            cartRedisRepository.loadIfAbsent(customerId, cartItems);
+            log.debug("Loaded cart into cache for customer: {}, itemCount={}",
+                customerId, cartItems.size());
 
         } catch (RedisConnectionFailureException e) {
+            redisHealthMonitor.recordFailure(e);
             log.warn("Redis unavailable during cart save for customer: {}", customerId);
         } catch (Exception e) {
             log.error("Failed to save cart to Redis for customer: {}", customerId, e);
@@ -318,17 +359,83 @@ public class CartService {
     private void invalidateCartCache(UUID customerId) {
         try {
             if (isRedisAvailable()) {
-                String cartKey = getCartKey(customerId);
-                redisTemplate.delete(cartKey);
+                cartRedisRepository.delete(customerId);
                 log.debug("Invalidated cart cache for customer: {}", customerId);
             }
         } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
             log.warn("Failed to invalidate cart cache for customer: {}", customerId, e);
         }
     }
 
+    private List<CartItem> addItemToRedis(UUID customerId, CartItem newItem) {
+        CartMutation mutation = cartRedisRepository.addItem(customerId, newItem, false);
+
+        if (mutation.status() == MutationStatus.NOT_LOADED) {
+            loadCartIntoRedis(customerId);
+            mutation = cartRedisRepository.addItem(customerId, newItem, true);
+        }
+        if (mutation.status() == MutationStatus.STORE_MISMATCH) {
+            throw new CustomerException(CustomerErrorCode.CART_STORE_MISMATCH);
+        }
+
+        log.debug("Added item to cart hash: customerId={}, menuId={}, quantity={}",
+            customerId, newItem.getMenuId(), newItem.getQuantity());
+        return mutation.items();
+    }
+
+    private List<CartItem> updateItemInRedis(UUID customerId, UUID menuId, int quantity) {
+        return setQuantityInRedis(customerId, menuId, quantity, CustomerErrorCode.CART_ITEM_NOT_FOUND);
+    }
+
+    private List<CartItem> removeItemFromRedis(UUID customerId, UUID menuId) {
+        return setQuantityInRedis(customerId, menuId, 0, CustomerErrorCode.CART_NOT_FOUND);
+    }
+
+    private List<CartItem> setQuantityInRedis(UUID customerId, UUID menuId, int quantity,
+        CustomerErrorCode notFoundCode) {
+        CartMutation mutation = cartRedisRepository.setQuantity(customerId, menuId, quantity, false);
+
+        if (mutation.status() == MutationStatus.NOT_LOADED) {
+            loadCartIntoRedis(customerId);
+            mutation = cartRedisRepository.setQuantity(customerId, menuId, quantity, true);
+        }
+        if (mutation.status() == MutationStatus.NOT_FOUND) {
+            throw new CustomerException(notFoundCode);
+        }
+
+        log.debug("Set item quantity in cart hash: customerId={}, menuId={}, quantity={}",
+            customerId, menuId, quantity);
+        return mutation.items();
+    }
+
+    private List<CartItem> applyBatchToRedis(UUID customerId, UUID storeId, List<BatchOperation> operations) {
+        CartMutation mutation = cartRedisRepository.applyBatch(customerId, storeId, operations, false);
+
+        if (mutation.status() == MutationStatus.NOT_LOADED) {
+            loadCartIntoRedis(customerId);
+            mutation = cartRedisRepository.applyBatch(customerId, storeId, operations, true);
+        }
+        if (mutation.status() == MutationStatus.STORE_MISMATCH) {
+            throw new CustomerException(CustomerErrorCode.CART_STORE_MISMATCH);
+        }
+        if (mutation.status() == MutationStatus.NOT_FOUND) {
+            throw new CustomerException(CustomerErrorCode.CART_ITEM_NOT_FOUND);
+        }
+        return mutation.items();
+    }
+
+    private void loadCartIntoRedis(UUID customerId) {
+        cartRedisRepository.loadIfAbsent(customerId, getCartFromDatabase(customerId));
+    }
+
     private List<CartItem> getCartFromDatabase(UUID customerId) {
         try {
+            Optional<List<CartItem>> pendingItems = cartWriteBehindQueue.findPending(customerId);
+            if (pendingItems.isPresent()) {
+                return new ArrayList<>(pendingItems.get());
+            }
+
             Optional<Cart> cartOptional = cartRepository.findByCustomerId(customerId);
 
             if (cartOptional.isPresent()) {
@@ -348,31 +455,14 @@ public class CartService {
     }
 
     private void syncToDatabaseAsync(UUID customerId, List<CartItem> cartItems) {
-        try {
-            CompletableFuture.runAsync(() -> syncToDatabase(customerId, cartItems))
-                .exceptionally(throwable -> {
-                    log.error("Async database sync failed for customer: {}", customerId, throwable);
-                    return null;
-                });
-        } catch (Exception e) {
-            log.warn("Failed to start async DB sync for customer: {}, falling back to sync",
-                customerId, e);
-            syncToDatabase(customerId, cartItems);
-        }
+        cartWriteBehindQueue.enqueue(customerId, cartItems);
     }
 
-    @Transactional
-    protected void syncToDatabase(UUID customerId, List<CartItem> cartItems) {
+    private void syncToDatabase(UUID customerId, List<CartItem> cartItems) {
         try {
-            if (cartItems.isEmpty()) {
-                cartRepository.deleteByCustomerId(customerId);
-                log.debug("Deleted empty cart from database for customer: {}", customerId);
-            } else {
-                Cart cart = convertCartItemsToEntity(customerId, cartItems);
-                cartRepository.save(cart);
-                log.debug("Synced cart to database for customer: {}, itemCount={}",
-                    customerId, cartItems.size());
-            }
+            // 대기 중인 이전 스냅샷이 나중에 flush 되어 이번 변경을 덮어쓰지 않도록 제거
+            cartWriteBehindQueue.discard(customerId);
+            cartSyncWriter.write(customerId, cartItems);
 
         } catch (Exception e) {
             log.error("Failed to sync cart to database for customer: {}", customerId, e);
@@ -390,21 +480,6 @@ public class CartService {
         }
     }
 
-    private CartItem convertMapToCartItem(Map<?, ?> map) {
-        try {
-            return CartItem.builder()
-                .menuId(UUID.fromString(map.get("menuId").toString()))
-                .menuName(map.get("menuName").toString())
-                .quantity(Integer.valueOf(map.get("quantity").toString()))
-                .price(Integer.valueOf(map.get("price").toString()))
-                .storeId(UUID.fromString(map.get("storeId").toString()))
-                .build();
-        } catch (Exception e) {
-            log.error("Failed to convert map to CartItem: {}", map, e);
-            throw new CustomerException(CustomerErrorCode.CART_NOT_FOUND);
-        }
-    }
-
     private List<CartItem> convertCartEntityToItems(Cart cart) {
         if (cart == null || cart.getCartItems() == null) {
             return new ArrayList<>();
@@ -412,26 +487,6 @@ public class CartService {
         return new ArrayList<>(cart.getCartItems());
     }
 
-    private Cart convertCartItemsToEntity(UUID customerId, List<CartItem> cartItems) {
-        Optional<Cart> existingCart = cartRepository.findByCustomerId(customerId);
-        Cart cart;
-
-        if (existingCart.isPresent()) {
-            cart = existingCart.get();
-            cart.setCartItems(new ArrayList<>(cartItems));
-        } else {
-            Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND));
-
-            cart = Cart.builder()
-                .cartItems(new ArrayList<>(cartItems))
-                .customer(customer)
-                .build();
-        }
-
-        return cart;
-    }
-
     private void validateAddItemRequest(AddCartItemRequest request) {
         if (request == null) {
             throw new CustomerException(CustomerErrorCode.INVALID_UPDATE_REQUEST);
@@ -456,6 +511,102 @@ public class CartService {
         }
     }
 
+    private List<BatchOperation> toBatchOperations(BatchCartRequest request) {
+        if (request == null || request.getOperations() == null || request.getOperations().isEmpty()
+            || request.getOperations().size() > BatchCartRequest.MAX_OPERATIONS) {
+            throw new CustomerException(CustomerErrorCode.INVALID_CART_ITEM_REQUEST);
+        }
+
+        List<BatchOperation> operations = new ArrayList<>();
+        for (BatchCartRequest.CartOperation operation : request.getOperations()) {
+            if (operation == null || operation.getType() == null || operation.getMenuId() == null) {
+                throw new CustomerException(CustomerErrorCode.INVALID_CART_ITEM_REQUEST);
+            }
+
+            CartItem item = CartItem.builder()
+                .menuId(operation.getMenuId())
+                .menuName(operation.getMenuName())
+                .quantity(operation.getQuantity())
+                .price(operation.getPrice())
+                .storeId(operation.getStoreId())
+                .build();
+
+            switch (operation.getType()) {
+                case ADD -> {
+                    if (operation.getQuantity() == null || operation.getQuantity() <= 0
+                        || operation.getPrice() == null || operation.getPrice() < 0
+                        || operation.getMenuName() == null || operation.getMenuName().trim().isEmpty()
+                        || operation.getStoreId() == null) {
+                        throw new CustomerException(CustomerErrorCode.INVALID_UPDATE_REQUEST);
+                    }
+                    operations.add(new BatchOperation(BatchOperationType.ADD, item));
+                }
+                case UPDATE -> {
+                    if (operation.getQuantity() == null || operation.getQuantity() < 0) {
+                        throw new CustomerException(CustomerErrorCode.INVALID_UPDATE_REQUEST);
+                    }
+                    operations.add(new BatchOperation(BatchOperationType.UPDATE, item));
+                }
+                case REMOVE -> operations.add(new BatchOperation(BatchOperationType.REMOVE, item));
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * 추가 연산들이 모두 같은 매장인지 확인하고 그 매장 ID 를 반환한다. 추가 연산이 없으면 null.
+     */
+    private UUID resolveBatchStoreId(List<BatchOperation> operations) {
+        UUID storeId = null;
+        for (BatchOperation operation : operations) {
+            if (operation.type() != BatchOperationType.ADD) {
+                continue;
+            }
+            if (storeId == null) {
+                storeId = operation.item().getStoreId();
+            } else if (!storeId.equals(operation.item().getStoreId())) {
+                throw new CustomerException(CustomerErrorCode.CART_STORE_MISMATCH);
+            }
+        }
+        return storeId;
+    }
+
+    private void applyOperation(List<CartItem> cartItems, BatchOperation operation) {
+        CartItem item = operation.item();
+        switch (operation.type()) {
+            case ADD -> mergeItem(cartItems, item);
+            case UPDATE -> {
+                CartItem target = cartItems.stream()
+                    .filter(existing -> existing.getMenuId().equals(item.getMenuId()))
+                    .findFirst()
+                    .orElseThrow(() -> new CustomerException(CustomerErrorCode.CART_ITEM_NOT_FOUND));
+                if (item.getQuantity() <= 0) {
+                    cartItems.remove(target);
+                } else {
+                    target.setQuantity(item.getQuantity());
+                }
+            }
+            case REMOVE -> {
+                if (!cartItems.removeIf(existing -> existing.getMenuId().equals(item.getMenuId()))) {
+                    throw new CustomerException(CustomerErrorCode.CART_ITEM_NOT_FOUND);
+                }
+            }
+        }
+    }
+
+    private void mergeItem(List<CartItem> cartItems, CartItem newItem) {
+        Optional<CartItem> existingItem = cartItems.stream()
+            .filter(item -> item.getMenuId().equals(newItem.getMenuId()))
+            .findFirst();
+
+        if (existingItem.isPresent()) {
+            CartItem item = existingItem.get();
+            item.setQuantity(item.getQuantity() + newItem.getQuantity());
+        } else {
+            cartItems.add(newItem);
+        }
+    }
+
     private void validateStoreConsistency(List<CartItem> cartItems, UUID newStoreId) {
         if (!cartItems.isEmpty()) {
             UUID existingStoreId = cartItems.getFirst().getStoreId();
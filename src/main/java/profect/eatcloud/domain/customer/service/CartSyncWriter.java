@@ -0,0 +1,83 @@
+package profect.eatcloud.domain.customer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.customer.dto.CartItem;
+import profect.eatcloud.domain.customer.entity.Cart;
+import profect.eatcloud.domain.customer.exception.CustomerErrorCode;
+import profect.eatcloud.domain.customer.exception.CustomerException;
+import profect.eatcloud.domain.customer.repository.CartRepository;
+import profect.eatcloud.domain.customer.repository.CustomerRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 스냅샷을 트랜잭션 안에서 DB 에 저장한다.
+ * write-behind 대기열은 writeBatch 로 IN 조회 한 번 + saveAll 배치 처리하고,
+ * Redis 장애 시 동기 경로는 write 로 고객 한 명의 장바구니를 바로 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartSyncWriter {
+
+    private final CartRepository cartRepository;
+    private final CustomerRepository customerRepository;
+
+    @Transactional
+    public void write(UUID customerId, List<CartItem> cartItems) {
+        if (cartItems.isEmpty()) {
+            cartRepository.deleteByCustomerId(customerId);
+            log.debug("Deleted empty cart from database for customer: {}", customerId);
+            return;
+        }
+
+        Cart cart = cartRepository.findByCustomerId(customerId)
+            .orElseGet(() -> Cart.builder()
+                .customer(customerRepository.findById(customerId)
+                    .orElseThrow(() -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND)))
+                .build());
+        cart.setCartItems(new ArrayList<>(cartItems));
+        cartRepository.save(cart);
+        log.debug("Synced cart to database for customer: {}, itemCount={}", customerId, cartItems.size());
+    }
+
+    @Transactional
+    public void writeBatch(Map<UUID, List<CartItem>> snapshots) {
+        Map<UUID, Cart> existingCarts = cartRepository.findAllByCustomerIdIn(snapshots.keySet()).stream()
+            .collect(Collectors.toMap(cart -> cart.getCustomer().getId(), Function.identity()));
+
+        List<Cart> toSave = new ArrayList<>();
+
+        for (Map.Entry<UUID, List<CartItem>> entry : snapshots.entrySet()) {
+            UUID customerId = entry.getKey();
+            List<CartItem> cartItems = entry.getValue();
+            Cart cart = existingCarts.get(customerId);
+
+            if (cartItems.isEmpty()) {
+                if (cart != null) {
+                    cartRepository.deleteByCustomerId(customerId);
+                }
+                continue;
+            }
+
+            if (cart == null) {
+                cart = Cart.builder()
+                    .customer(customerRepository.getReferenceById(customerId))
+                    .build();
+            }
+            cart.setCartItems(new ArrayList<>(cartItems));
+            toSave.add(cart);
+        }
+
+        cartRepository.saveAll(toSave);
+        log.debug("Flushed cart batch: customers={}, saved={}", snapshots.size(), toSave.size());
+    }
+}
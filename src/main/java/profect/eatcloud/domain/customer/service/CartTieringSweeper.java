@@ -0,0 +1,89 @@
+package profect.eatcloud.domain.customer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.customer.repository.CartRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 장바구니 저장 계층 정리.
+ * <pre>
+ * hot  : Redis (cart:h:*, 24시간 TTL)
+ * warm : p_cart
+ * cold : max-age 이상 변경이 없는 p_cart 행 → p_cart_archive 로 이동(archive) 또는 삭제(purge)
+ * </pre>
+ * 한 배치씩 별도 트랜잭션으로 처리해 락을 짧게 유지하고, 한 번 실행에 최대 max-batches 배치까지만 처리한다.
+ */
+@Slf4j
+@Component
+public class CartTieringSweeper {
+
+    public enum Mode {
+        ARCHIVE, PURGE
+    }
+
+    private final CartRepository cartRepository;
+    private final boolean enabled;
+    private final Mode mode;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter reclaimedCounter;
+
+    public CartTieringSweeper(CartRepository cartRepository, MeterRegistry meterRegistry,
+        @Value("${cart.tiering.enabled:true}") boolean enabled,
+        @Value("${cart.tiering.mode:ARCHIVE}") Mode mode,
+        @Value("${cart.tiering.max-age:30d}") Duration maxAge,
+        @Value("${cart.tiering.batch-size:500}") int batchSize,
+        @Value("${cart.tiering.max-batches:100}") int maxBatches) {
+        this.cartRepository = cartRepository;
+        this.enabled = enabled;
+        this.mode = mode;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.reclaimedCounter = Counter.builder("cart.tiering.reclaimed")
+            .description("p_cart rows archived or purged by the tiering sweeper")
+            .tag("mode", mode.name().toLowerCase())
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${cart.tiering.cron:0 30 4 * * *}")
+    public void scheduledSweep() {
+        if (enabled) {
+            sweep();
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 정리한 p_cart 행 수
+     */
+    public int sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        int reclaimed = 0;
+        int batches = 0;
+
+        while (batches < maxBatches) {
+            int affected = mode == Mode.ARCHIVE
+                ? cartRepository.archiveStaleCarts(cutoff, batchSize)
+                : cartRepository.purgeStaleCarts(cutoff, batchSize);
+            reclaimed += affected;
+            batches++;
+
+            if (affected < batchSize) {
+                break;
+            }
+        }
+
+        reclaimedCounter.increment(reclaimed);
+        log.info("Cart tiering sweep finished: mode={}, cutoff={}, reclaimed={}, batches={}",
+            mode, cutoff, reclaimed, batches);
+        return reclaimed;
+    }
+}
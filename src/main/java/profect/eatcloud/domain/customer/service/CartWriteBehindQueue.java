@@ -0,0 +1,254 @@
+package profect.eatcloud.domain.customer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.customer.dto.CartItem;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 장바구니 DB 동기화용 write-behind 대기열.
+ * 같은 고객의 변경은 최신 스냅샷 하나로 합쳐지고, 주기적으로 배치 단위로 저장된다.
+ * <pre>
+ * 대기 항목은 DB 커밋 후에야 제거되므로 저장 중에도 {@link #findPending} 로 보인다.
+ * 고객별로 한 번에 하나의 저장만 진행한다(저장 순서 보장, 신규 장바구니 중복 INSERT 방지).
+ * 저장 직전 최신 스냅샷을 다시 읽어 그 사이 갱신/폐기된 내용은 쓰지 않는다.
+ * {@link #discard} 는 진행 중인 저장이 커밋될 때까지 기다린다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class CartWriteBehindQueue {
+
+    private static final Duration DISCARD_WAIT = Duration.ofSeconds(10);
+
+    private final ConcurrentHashMap<UUID, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final CartSyncWriter cartSyncWriter;
+    private final ThreadPoolTaskExecutor cartSyncExecutor;
+    private final int batchSize;
+
+    private final Counter coalescedCounter;
+    private final Counter failureCounter;
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+
+    public CartWriteBehindQueue(CartSyncWriter cartSyncWriter,
+        @Qualifier("cartSyncExecutor") ThreadPoolTaskExecutor cartSyncExecutor,
+        MeterRegistry meterRegistry,
+        @Value("${cart.write-behind.batch-size:100}") int batchSize) {
+        this.cartSyncWriter = cartSyncWriter;
+        this.cartSyncExecutor = cartSyncExecutor;
+        this.batchSize = batchSize;
+
+        Gauge.builder("cart.writebehind.pending", pending, Map::size)
+            .description("Customers with cart changes waiting to be written to the database")
+            .register(meterRegistry);
+        Gauge.builder("cart.writebehind.oldest.age", this, CartWriteBehindQueue::oldestPendingAgeSeconds)
+            .description("Age in seconds of the oldest unflushed cart change")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("cart.writebehind.coalesced")
+            .description("Cart changes merged into an already pending write")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("cart.writebehind.failures")
+            .description("Cart snapshots that could not be written to the database")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("cart.writebehind.flush")
+            .description("Time taken to write one batch of carts")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("cart.writebehind.lag")
+            .description("Delay between the first queued change and its database write")
+            .register(meterRegistry);
+    }
+
+    public void enqueue(UUID customerId, List<CartItem> cartItems) {
+        PendingWrite write = new PendingWrite(List.copyOf(cartItems), Instant.now());
+        pending.merge(customerId, write, (previous, latest) -> {
+            coalescedCounter.increment();
+            return new PendingWrite(latest.cartItems(), previous.firstQueuedAt());
+        });
+    }
+
+    /**
+     * 아직 커밋되지 않은 최신 스냅샷. DB 조회 시 이 값이 있으면 DB 보다 우선한다.
+     */
+    public Optional<List<CartItem>> findPending(UUID customerId) {
+        return Optional.ofNullable(pending.get(customerId)).map(PendingWrite::cartItems);
+    }
+
+    /**
+     * 장바구니 비우기 등으로 더 이상 필요 없는 대기 중 쓰기를 버린다.
+     * 이미 저장 중인 건은 커밋될 때까지 기다려, 호출부의 이후 DB 변경이 덮어써지지 않게 한다.
+     */
+    public void discard(UUID customerId) {
+        pending.remove(customerId);
+        CompletableFuture<Void> running = inFlight.get(customerId);
+        if (running == null) {
+            return;
+        }
+        try {
+            running.get(DISCARD_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Gave up waiting for in-flight cart write: customerId={}", customerId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval:500ms}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            Map<UUID, PendingWrite> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                cartSyncExecutor.execute(() -> write(batch));
+            } catch (TaskRejectedException e) {
+                // 대기 항목은 그대로 남아 있으므로 점유만 풀고 다음 주기에 다시 시도
+                log.warn("Cart sync executor saturated, retrying {} carts later", batch.size());
+                release(batch.keySet());
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing {} pending cart writes before shutdown", pending.size());
+        while (!pending.isEmpty()) {
+            Map<UUID, PendingWrite> batch = drain();
+            if (batch.isEmpty()) {
+                // 남은 건은 모두 실행기에서 저장 중
+                CompletableFuture.allOf(inFlight.values().toArray(CompletableFuture[]::new)).join();
+                continue;
+            }
+            write(batch);
+        }
+    }
+
+    /**
+     * 저장 중이 아닌 고객만 골라 점유한다. 대기 항목은 커밋 전까지 지우지 않는다.
+     */
+    private Map<UUID, PendingWrite> drain() {
+        Map<UUID, PendingWrite> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<UUID, PendingWrite>> iterator = pending.entrySet().iterator();
+
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<UUID, PendingWrite> entry = iterator.next();
+            if (inFlight.putIfAbsent(entry.getKey(), new CompletableFuture<>()) == null) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    private void write(Map<UUID, PendingWrite> claimed) {
+        try {
+            Map<UUID, PendingWrite> batch = latest(claimed);
+            if (batch.isEmpty()) {
+                return;
+            }
+            Map<UUID, List<CartItem>> snapshots = new LinkedHashMap<>();
+            batch.forEach((customerId, write) -> snapshots.put(customerId, write.cartItems()));
+
+            try {
+                flushTimer.record(() -> cartSyncWriter.writeBatch(snapshots));
+                complete(batch);
+            } catch (Exception e) {
+                log.warn("Cart batch write failed, retrying per customer: size={}", batch.size(), e);
+                writeIndividually(batch);
+            }
+        } finally {
+            release(claimed.keySet());
+        }
+    }
+
+    /**
+     * 점유 이후 폐기된 고객은 빼고, 갱신된 고객은 최신 스냅샷으로 바꾼다.
+     */
+    private Map<UUID, PendingWrite> latest(Map<UUID, PendingWrite> claimed) {
+        Map<UUID, PendingWrite> batch = new LinkedHashMap<>();
+        for (UUID customerId : claimed.keySet()) {
+            PendingWrite current = pending.get(customerId);
+            if (current != null) {
+                batch.put(customerId, current);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 배치 중 한 건 때문에 전체가 롤백된 경우 고객 단위로 다시 저장한다.
+     * 개별 저장까지 실패한 건은 Redis 에 원본이 있으므로 다음 변경 때 다시 동기화된다.
+     */
+    private void writeIndividually(Map<UUID, PendingWrite> batch) {
+        for (Map.Entry<UUID, PendingWrite> entry : batch.entrySet()) {
+            try {
+                cartSyncWriter.writeBatch(Map.of(entry.getKey(), entry.getValue().cartItems()));
+                complete(Map.of(entry.getKey(), entry.getValue()));
+            } catch (Exception e) {
+                failureCounter.increment();
+                pending.remove(entry.getKey(), entry.getValue());
+                log.error("Failed to sync cart to database for customer: {}", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * 저장한 스냅샷이 여전히 최신일 때만 대기 항목을 지운다. 그 사이 들어온 변경은 다음 주기에 저장된다.
+     */
+    private void complete(Map<UUID, PendingWrite> written) {
+        Instant now = Instant.now();
+        written.forEach((customerId, write) -> {
+            pending.remove(customerId, write);
+            lagTimer.record(Duration.between(write.firstQueuedAt(), now));
+        });
+    }
+
+    private void release(Collection<UUID> customerIds) {
+        for (UUID customerId : customerIds) {
+            CompletableFuture<Void> running = inFlight.remove(customerId);
+            if (running != null) {
+                running.complete(null);
+            }
+        }
+    }
+
+    private double oldestPendingAgeSeconds() {
+        Instant now = Instant.now();
+        return pending.values().stream()
+            .map(PendingWrite::firstQueuedAt)
+            .min(Instant::compareTo)
+            .map(oldest -> Duration.between(oldest, now).toMillis() / 1000.0)
+            .orElse(0.0);
+    }
+
+    private record PendingWrite(List<CartItem> cartItems, Instant firstQueuedAt) {
+    }
+}
@@ -10,13 +10,15 @@ import profect.eatcloud.domain.globalCategory.repository.OrderStatusCodeReposito
 import profect.eatcloud.domain.globalCategory.repository.OrderTypeCodeRepository;
 import profect.eatcloud.domain.order.dto.OrderMenu;
 import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.entity.OrderKey;
+import profect.eatcloud.domain.order.repository.OrderKeyRepository;
 import profect.eatcloud.domain.order.repository.OrderRepository;
+import profect.eatcloud.domain.order.service.OrderLineWriter;
+import profect.eatcloud.domain.order.service.OrderNumberGenerator;
 
 import org.springframework.stereotype.Service;
 
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -27,8 +29,11 @@ public class CustomerOrderService {
 
     private final CartRepository cartRepository;
     private final OrderRepository orderRepository;
+    private final OrderKeyRepository orderKeyRepository;
     private final OrderStatusCodeRepository orderStatusCodeRepository;
     private final OrderTypeCodeRepository orderTypeCodeRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderLineWriter orderLineWriter;
 
     @Transactional
     public Order createOrder(UUID customerId, String orderTypeCodeStr, Boolean usePoints, Integer pointsToUse) {
@@ -46,10 +51,7 @@ public class CustomerOrderService {
             .map(item -> new OrderMenu(item.getMenuId(), item.getMenuName(), item.getQuantity(), item.getPrice()))
             .collect(Collectors.toList());
 
-        // 주문번호 생성 (날짜 형식 변경)
-        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = UUID.randomUUID().toString().substring(0, 5).toUpperCase();
-        String orderNumber = "ORD-" + date + "-" + randomPart;
+        String orderNumber = orderNumberGenerator.next();
 
         // 총 금액 계산
         Integer totalPrice = orderMenuList.stream()
@@ -71,6 +73,8 @@ public class CustomerOrderService {
             .build();
 
         orderRepository.save(newOrder);
+        orderKeyRepository.saveAndFlush(OrderKey.of(newOrder));
+        orderLineWriter.write(newOrder);
 
         // 장바구니 비우기
         cart.getCartItems().clear();
@@ -0,0 +1,93 @@
+package profect.eatcloud.domain.globalCategory.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import profect.eatcloud.domain.globalCategory.entity.BaseCategory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * globalCategory 패키지의 코드 테이블 전체를 기동 시 메모리에 올려두는 레지스트리.
+ * code → PK 만 보관하고, 조회 시에는 DB 를 거치지 않고 JPA 참조(getReference)를 돌려준다.
+ * 코드 테이블이 변경되면 커밋 이후 통째로 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodeRegistry {
+
+    private static final String CODE_PACKAGE = BaseCategory.class.getPackageName();
+
+    private final EntityManager entityManager;
+
+    private volatile Map<Class<?>, Map<String, Object>> codes;
+
+    public <T> Optional<T> find(Class<T> type, String code) {
+        Object id = snapshot().getOrDefault(type, Map.of()).get(code);
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.of(entityManager.getReference(type, id));
+    }
+
+    public boolean contains(Class<?> type, String code) {
+        return snapshot().getOrDefault(type, Map.of()).containsKey(code);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCodeTableChanged(CodeTableChangedEvent event) {
+        log.info("Code table changed, reloading registry: type={}", event.type());
+        reload();
+    }
+
+    private Map<Class<?>, Map<String, Object>> snapshot() {
+        Map<Class<?>, Map<String, Object>> current = codes;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Map<Class<?>, Map<String, Object>> reload() {
+        Map<Class<?>, Map<String, Object>> loaded = new HashMap<>();
+
+        for (EntityType<?> entityType : entityManager.getMetamodel().getEntities()) {
+            Class<?> javaType = entityType.getJavaType();
+            if (!CODE_PACKAGE.equals(javaType.getPackageName())) {
+                continue;
+            }
+            String idName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+            String jpql = String.format(
+                "SELECT e.code, e.%s FROM %s e WHERE e.timeData.deletedAt IS NULL",
+                idName, entityType.getName());
+
+            List<Object[]> rows = entityManager.createQuery(jpql, Object[].class).getResultList();
+            Map<String, Object> ids = new HashMap<>();
+            for (Object[] row : rows) {
+                ids.put((String) row[0], row[1]);
+            }
+            loaded.put(javaType, Map.copyOf(ids));
+        }
+
+        Map<Class<?>, Map<String, Object>> snapshot = Map.copyOf(loaded);
+        codes = snapshot;
+        log.info("Code registry loaded: tables={}", snapshot.size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,7 @@
+package profect.eatcloud.domain.globalCategory.service;
+
+/**
+ * 코드 테이블(globalCategory) 변경 알림. 커밋 후 {@link CodeRegistry} 가 다시 적재한다.
+ */
+public record CodeTableChangedEvent(String type) {
+}
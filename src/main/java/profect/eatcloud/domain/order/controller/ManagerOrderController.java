@@ -3,6 +3,8 @@ package profect.eatcloud.domain.order.controller;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,9 +17,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import profect.eatcloud.domain.order.dto.AdminOrderBulkStatusRequestDto;
 import profect.eatcloud.domain.order.dto.AdminOrderCompleteRequestDto;
 import profect.eatcloud.domain.order.dto.AdminOrderConfirmRequestDto;
 import profect.eatcloud.domain.order.dto.AdminOrderResponseDto;
+import profect.eatcloud.domain.order.dto.BulkOrderTransitionResult;
 import profect.eatcloud.domain.order.service.AdminOrderService;
 
 @RestController
@@ -108,4 +112,26 @@ public class ManagerOrderController {
 			return ResponseEntity.badRequest().body(errorResponse);
 		}
 	}
+
+	@PostMapping("/status/bulk")
+	@Operation(summary = "주문 일괄 상태 변경", description = "여러 주문의 상태를 한 번에 변경합니다. 현재 상태에서 허용되지 않는 주문은 건너뜁니다.")
+	public ResponseEntity<BulkOrderTransitionResult> changeOrderStatuses(
+		@AuthenticationPrincipal UserDetails userDetails,
+		@RequestBody AdminOrderBulkStatusRequestDto request) {
+
+		log.info("주문 일괄 상태 변경 요청: caller={}, count={}, status={}", userDetails.getUsername(),
+			request.getOrderIds() == null ? 0 : request.getOrderIds().size(), request.getStatusCode());
+
+		// admin 은 전체 주문, 매니저는 자기 매장 주문만 변경할 수 있다
+		boolean admin = userDetails.getAuthorities().stream()
+			.anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+		BulkOrderTransitionResult result = admin
+			? adminOrderService.changeOrderStatuses(request.getOrderIds(), request.getStatusCode())
+			: adminOrderService.changeStoreOrderStatuses(UUID.fromString(userDetails.getUsername()),
+				request.getOrderIds(), request.getStatusCode());
+		log.info("주문 일괄 상태 변경 완료: applied={}, skipped={}",
+			result.applied().size(), result.skipped().size());
+
+		return ResponseEntity.ok(result);
+	}
 }
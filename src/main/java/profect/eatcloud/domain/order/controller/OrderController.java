@@ -1,7 +1,6 @@
 package profect.eatcloud.domain.order.controller;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,12 +12,14 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import profect.eatcloud.domain.order.dto.request.OrderStatusUpdateRequest;
+import profect.eatcloud.domain.order.dto.response.OrderCursorPageResponseDto;
 import profect.eatcloud.domain.order.entity.Order;
 import profect.eatcloud.domain.order.service.OrderService;
 
@@ -99,11 +100,14 @@ public class OrderController {
 		}
 	}
 
-	@Operation(summary = "고객 주문 목록 조회")
+	@Operation(summary = "고객 주문 목록 조회", description = "주문 시각 내림차순 커서 페이지. detail=true 이면 메뉴 목록을 포함합니다.")
 	@GetMapping("/customers/{customerId}/orders")
 	@PreAuthorize("hasRole('ADMIN')")
-	public ResponseEntity<List<Order>> getCustomerOrders(@PathVariable UUID customerId) {
-		return ResponseEntity.ok(orderService.findOrdersByCustomer(customerId));
+	public ResponseEntity<OrderCursorPageResponseDto> getCustomerOrders(@PathVariable UUID customerId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size,
+		@RequestParam(defaultValue = "false") boolean detail) {
+		return ResponseEntity.ok(orderService.findOrderPageByCustomer(customerId, cursor, size, detail));
 	}
 
 	@Operation(summary = "고객 주문 상세 조회")
@@ -113,11 +117,14 @@ public class OrderController {
 		return ResponseEntity.ok(orderService.findOrderByCustomerAndOrderId(customerId, orderId));
 	}
 
-	@Operation(summary = "매장 주문 목록 조회")
+	@Operation(summary = "매장 주문 목록 조회", description = "주문 시각 내림차순 커서 페이지. detail=true 이면 메뉴 목록을 포함합니다.")
 	@PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
 	@GetMapping("/stores/{storeId}/orders")
-	public ResponseEntity<List<Order>> getStoreOrders(@PathVariable UUID storeId) {
-		return ResponseEntity.ok(orderService.findOrdersByStore(storeId));
+	public ResponseEntity<OrderCursorPageResponseDto> getStoreOrders(@PathVariable UUID storeId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size,
+		@RequestParam(defaultValue = "false") boolean detail) {
+		return ResponseEntity.ok(orderService.findOrderPageByStore(storeId, cursor, size, detail));
 	}
 
 	@Operation(summary = "매장 주문 상세 조회")
@@ -0,0 +1,16 @@
+package profect.eatcloud.domain.order.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AdminOrderBulkStatusRequestDto {
+    private List<UUID> orderIds;
+    private String statusCode;
+}
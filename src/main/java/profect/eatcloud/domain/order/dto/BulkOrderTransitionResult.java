@@ -0,0 +1,10 @@
+package profect.eatcloud.domain.order.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 일괄 상태 전이 결과. skipped 는 존재하지 않거나, 다른 매장의 주문이거나, 현재 상태에서 전이가 허용되지 않은 주문.
+ */
+public record BulkOrderTransitionResult(String targetStatus, List<UUID> applied, List<UUID> skipped) {
+}
@@ -0,0 +1,31 @@
+package profect.eatcloud.domain.order.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 주문 목록 keyset 페이지네이션 커서 (orderedAt, orderId).
+ * 클라이언트에는 URL-safe Base64 문자열로 전달된다.
+ */
+public record OrderCursor(LocalDateTime orderedAt, UUID orderId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = orderedAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
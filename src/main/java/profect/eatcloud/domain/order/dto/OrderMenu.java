@@ -1,6 +1,9 @@
 package profect.eatcloud.domain.order.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -13,9 +16,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderMenu {
+	@NotNull(message = "메뉴 ID는 필수입니다.")
 	private UUID menuId;
 	private String menuName;
+	@NotNull(message = "수량은 필수입니다.")
+	@Positive(message = "수량은 1 이상이어야 합니다.")
 	private Integer quantity;
+	@NotNull(message = "가격은 필수입니다.")
+	@PositiveOrZero(message = "가격은 0 이상이어야 합니다.")
 	private Integer price;
 	
 	public Integer getTotalPrice() {
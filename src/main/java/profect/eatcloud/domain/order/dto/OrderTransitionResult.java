@@ -0,0 +1,17 @@
+package profect.eatcloud.domain.order.dto;
+
+import java.util.UUID;
+
+/**
+ * 단건 상태 전이 결과. 실패 시 currentStatus 는 진단용으로 조회한 현재 상태.
+ */
+public record OrderTransitionResult(UUID orderId, Outcome outcome, String orderNumber, String currentStatus) {
+
+    public enum Outcome {
+        APPLIED, NOT_FOUND, INVALID_TRANSITION
+    }
+
+    public boolean applied() {
+        return outcome == Outcome.APPLIED;
+    }
+}
@@ -0,0 +1,12 @@
+package profect.eatcloud.domain.order.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서 기반 주문 목록 페이지. 다음 페이지는 nextCursor 로 요청한다 (마지막 페이지면 null).
+ */
+public record OrderCursorPageResponseDto(
+	List<OrderSummaryResponseDto> orders,
+	String nextCursor,
+	boolean hasNext
+) {}
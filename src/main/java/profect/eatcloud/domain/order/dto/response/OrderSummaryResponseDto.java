@@ -0,0 +1,32 @@
+package profect.eatcloud.domain.order.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import profect.eatcloud.domain.order.dto.OrderMenu;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 목록용 요약. orderMenuList 는 상세 조회(detail=true)일 때만 채워진다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderSummaryResponseDto(
+	UUID orderId,
+	String orderNumber,
+	UUID customerId,
+	UUID storeId,
+	String orderStatus,
+	String orderType,
+	Integer totalPrice,
+	Integer finalPaymentAmount,
+	LocalDateTime orderedAt,
+	List<OrderMenu> orderMenuList
+) {
+	public OrderSummaryResponseDto(UUID orderId, String orderNumber, UUID customerId, UUID storeId,
+		String orderStatus, String orderType, Integer totalPrice, Integer finalPaymentAmount,
+		LocalDateTime orderedAt) {
+		this(orderId, orderNumber, customerId, storeId, orderStatus, orderType, totalPrice, finalPaymentAmount,
+			orderedAt, null);
+	}
+}
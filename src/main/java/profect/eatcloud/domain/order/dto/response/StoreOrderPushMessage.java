@@ -0,0 +1,17 @@
+package profect.eatcloud.domain.order.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 매장 주문 알림 payload. 상세가 필요하면 클라이언트가 orderId 로 다시 조회한다.
+ */
+public record StoreOrderPushMessage(
+	UUID storeId,
+	UUID orderId,
+	String orderNumber,
+	String status,
+	String previousStatus,
+	Integer amount,
+	LocalDateTime occurredAt
+) {}
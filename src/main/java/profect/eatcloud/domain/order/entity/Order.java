@@ -8,6 +8,7 @@ import profect.eatcloud.domain.globalCategory.entity.OrderStatusCode;
 import profect.eatcloud.domain.globalCategory.entity.OrderTypeCode;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.List;
 
@@ -62,7 +63,14 @@ public class Order extends BaseTimeEntity {
 	@Column(name = "final_payment_amount", nullable = false)
 	private Integer finalPaymentAmount;
 
+	// 주문 목록 keyset 페이지네이션 기준 (p_time 조인 없이 인덱스로 정렬하기 위해 p_orders 에 둔다)
+	@Column(name = "ordered_at", nullable = false, updatable = false)
+	private LocalDateTime orderedAt;
 
-
-
+	@PrePersist
+	void initOrderedAt() {
+		if (orderedAt == null) {
+			orderedAt = LocalDateTime.now();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package profect.eatcloud.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 ID/주문번호의 전역 유일성 가드. p_orders 는 파티션 키(ordered_at)를 포함한 제약만 가질 수 있어
+ * 비파티션 테이블인 p_order_keys 에 주문 저장과 같은 트랜잭션으로 기록한다.
+ * 항상 새 행으로 insert 되므로(merge 없음) 중복 키는 제약 위반으로 실패한다.
+ */
+@Entity
+@Table(name = "p_order_keys")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderKey implements Persistable<UUID> {
+	@Id
+	@Column(name = "order_id")
+	private UUID orderId;
+
+	@Column(name = "order_number", nullable = false, length = 50, unique = true)
+	private String orderNumber;
+
+	@Column(name = "ordered_at", nullable = false)
+	private LocalDateTime orderedAt;
+
+	public static OrderKey of(Order order) {
+		return new OrderKey(order.getOrderId(), order.getOrderNumber(), order.getOrderedAt());
+	}
+
+	@Override
+	public UUID getId() {
+		return orderId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+}
@@ -0,0 +1,72 @@
+package profect.eatcloud.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 메뉴 라인 (p_orders.order_menu_list 의 정규화본).
+ * 메뉴 단위 집계/추천을 SQL 로 처리하기 위해 주문 생성 트랜잭션에서 함께 기록한다.
+ */
+@Entity
+@Table(name = "p_order_lines")
+@IdClass(OrderLineId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderLine implements Persistable<OrderLineId> {
+
+	@Id
+	@Column(name = "order_id")
+	private UUID orderId;
+
+	@Id
+	@Column(name = "menu_id")
+	private UUID menuId;
+
+	@Column(name = "store_id", nullable = false)
+	private UUID storeId;
+
+	@Column(name = "customer_id", nullable = false)
+	private UUID customerId;
+
+	@Column(name = "menu_name", nullable = false)
+	private String menuName;
+
+	@Column(name = "quantity", nullable = false)
+	private Integer quantity;
+
+	@Column(name = "unit_price", nullable = false)
+	private Integer unitPrice;
+
+	@Column(name = "line_amount", nullable = false)
+	private Integer lineAmount;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	// 식별자를 직접 지정하므로 save 시 merge(사전 SELECT) 대신 바로 insert 되도록 한다
+	@Transient
+	@Builder.Default
+	private boolean newLine = true;
+
+	@Override
+	public OrderLineId getId() {
+		return new OrderLineId(orderId, menuId);
+	}
+
+	@Override
+	public boolean isNew() {
+		return newLine;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		this.newLine = false;
+	}
+}
@@ -0,0 +1,13 @@
+package profect.eatcloud.domain.order.entity;
+
+import lombok.*;
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineId implements Serializable {
+    private UUID orderId;
+    private UUID menuId;
+}
@@ -0,0 +1,24 @@
+package profect.eatcloud.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 주문번호 시퀀스. 인스턴스는 이 행에서 번호를 블록 단위로 예약해 간다.
+ */
+@Entity
+@Table(name = "p_order_number_sequences")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderNumberSequence {
+	@Id
+	@Column(name = "order_date")
+	private LocalDate orderDate;
+
+	// 지금까지 예약된 마지막 번호
+	@Column(name = "last_value", nullable = false)
+	private Long lastValue;
+}
@@ -0,0 +1,73 @@
+package profect.eatcloud.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 상태 전이 outbox. 상태 변경과 같은 트랜잭션에서 기록되고 OrderOutboxRelay 가 발행한다.
+ * 발행 후에도 행은 지우지 않으므로 주문 이벤트의 추가 전용 로그 역할도 한다.
+ */
+@Entity
+@Table(name = "p_order_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderOutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "event_id")
+	private Long eventId;
+
+	@Column(name = "order_id", nullable = false)
+	private UUID orderId;
+
+	@Column(name = "order_number", nullable = false, length = 50)
+	private String orderNumber;
+
+	@Column(name = "customer_id", nullable = false)
+	private UUID customerId;
+
+	@Column(name = "store_id", nullable = false)
+	private UUID storeId;
+
+	// 전이 후 주문 상태 코드 (PAID, CANCELED, CONFIRMED, COMPLETED ...)
+	@Column(name = "event_type", nullable = false, length = 30)
+	private String eventType;
+
+	@Column(name = "previous_status", length = 30)
+	private String previousStatus;
+
+	@Column(name = "amount", nullable = false)
+	private Integer amount;
+
+	@Column(name = "ordered_at", nullable = false)
+	private LocalDateTime orderedAt;
+
+	@Column(name = "occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+
+	@Builder.Default
+	@Column(name = "publish_attempts", nullable = false)
+	private int publishAttempts = 0;
+
+	public void markPublished(LocalDateTime publishedAt) {
+		this.publishedAt = publishedAt;
+	}
+
+	public void recordFailedAttempt() {
+		this.publishAttempts++;
+	}
+
+	public OrderLifecycleEvent toLifecycleEvent() {
+		return new OrderLifecycleEvent(eventId, orderId, orderNumber, customerId, storeId,
+			eventType, previousStatus, amount, orderedAt, occurredAt);
+	}
+}
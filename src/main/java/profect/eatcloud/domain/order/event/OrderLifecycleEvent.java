@@ -0,0 +1,21 @@
+package profect.eatcloud.domain.order.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * outbox 에서 발행되는 주문 상태 전이 이벤트.
+ * 최소 한 번(at-least-once) 전달되므로 구독자는 eventId 기준으로 중복에 안전해야 한다.
+ */
+public record OrderLifecycleEvent(
+	Long eventId,
+	UUID orderId,
+	String orderNumber,
+	UUID customerId,
+	UUID storeId,
+	String eventType,
+	String previousStatus,
+	Integer amount,
+	LocalDateTime orderedAt,
+	LocalDateTime occurredAt
+) {}
@@ -0,0 +1,12 @@
+package profect.eatcloud.domain.order.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import profect.eatcloud.domain.order.entity.OrderKey;
+
+@Repository
+public interface OrderKeyRepository extends JpaRepository<OrderKey, UUID> {
+}
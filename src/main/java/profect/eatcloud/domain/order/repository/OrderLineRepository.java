@@ -0,0 +1,15 @@
+package profect.eatcloud.domain.order.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import profect.eatcloud.domain.order.entity.OrderLine;
+import profect.eatcloud.domain.order.entity.OrderLineId;
+
+@Repository
+public interface OrderLineRepository extends JpaRepository<OrderLine, OrderLineId> {
+
+    List<OrderLine> findAllByOrderId(UUID orderId);
+}
@@ -0,0 +1,29 @@
+package profect.eatcloud.domain.order.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import profect.eatcloud.domain.order.entity.OrderNumberSequence;
+
+@Repository
+public interface OrderNumberSequenceRepository extends JpaRepository<OrderNumberSequence, LocalDate> {
+
+    /**
+     * 해당 일자의 번호를 blockSize 만큼 예약하고 예약된 블록의 마지막 번호를 반환한다.
+     * 주문 트랜잭션과 분리해 바로 커밋하므로 시퀀스 행의 락은 이 문장 동안만 유지된다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+        INSERT INTO p_order_number_sequences (order_date, last_value)
+        VALUES (?1, ?2)
+        ON CONFLICT (order_date)
+            DO UPDATE SET last_value = p_order_number_sequences.last_value + EXCLUDED.last_value
+        RETURNING last_value
+        """, nativeQuery = true)
+    long reserveBlock(LocalDate orderDate, long blockSize);
+}
@@ -0,0 +1,24 @@
+package profect.eatcloud.domain.order.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import profect.eatcloud.domain.order.entity.OrderOutboxEvent;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    /**
+     * 미발행 이벤트를 순서대로 잠그며 가져온다. 다른 인스턴스가 잡은 행은 건너뛴다.
+     */
+    @Query(value = """
+        SELECT * FROM p_order_outbox
+        WHERE published_at IS NULL
+        ORDER BY event_id
+        LIMIT ?1
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OrderOutboxEvent> claimUnpublished(int batchSize);
+}
@@ -1,13 +1,26 @@
 package profect.eatcloud.domain.order.repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import profect.eatcloud.domain.order.dto.OrderCursor;
+import profect.eatcloud.domain.order.dto.response.OrderSummaryResponseDto;
 import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.entity.QOrder;
+import profect.eatcloud.global.queryDSL.SoftDeletePredicates;
+import profect.eatcloud.global.queryDSL.SpringContext;
 import profect.eatcloud.global.timeData.BaseTimeRepository;
 
 @Repository
@@ -24,6 +37,110 @@ public interface OrderRepository extends BaseTimeRepository<Order, UUID> {
 
     List<Order> findAllByCustomerId(UUID customerId);
 
+    @Query("SELECT o.orderStatusCode.code FROM Order o WHERE o.orderId = ?1")
+    Optional<String> findStatusCodeByOrderId(UUID orderId);
+
+    @Query("SELECT o.orderId FROM Order o WHERE o.storeId = ?1 AND o.orderId IN ?2")
+    List<UUID> findOrderIdsInStore(UUID storeId, Collection<UUID> orderIds);
+
+    /**
+     * 현재 상태가 fromStatuses 중 하나인 주문만 toStatus 로 바꾸는 단일 문장.
+     * 같은 문장에서 p_time 갱신과 outbox 기록까지 처리하며, 실제로 바뀐 주문만 반환한다.
+     * 동시에 같은 주문을 바꾸려는 요청은 행 잠금 후 조건을 다시 평가하므로 하나만 성공한다.
+     */
+    @Query(value = """
+        WITH target AS (
+            SELECT order_id, order_status AS previous_status
+            FROM p_orders
+            WHERE order_id IN (?1) AND order_status IN (?2)
+            FOR UPDATE
+        ), updated AS (
+            UPDATE p_orders o
+            SET order_status = ?3
+            FROM target
+            WHERE o.order_id = target.order_id
+            RETURNING o.order_id, o.order_number, o.customer_id, o.store_id, o.final_payment_amount,
+                      o.ordered_at, o.p_time_id, target.previous_status
+        ), touched AS (
+            UPDATE p_time t
+            SET updated_at = now(), updated_by = ?4
+            FROM updated
+            WHERE t.p_time_id = updated.p_time_id
+        ), recorded AS (
+            INSERT INTO p_order_outbox (order_id, order_number, customer_id, store_id, event_type,
+                                        previous_status, amount, ordered_at, occurred_at)
+            SELECT order_id, order_number, customer_id, store_id, ?3,
+                   previous_status, final_payment_amount, ordered_at, now()
+            FROM updated
+        )
+        SELECT order_id AS "orderId", order_number AS "orderNumber", previous_status AS "previousStatus"
+        FROM updated
+        """, nativeQuery = true)
+    List<OrderTransitionRow> transitionStatus(Collection<UUID> orderIds, Collection<String> fromStatuses,
+                                              String toStatus, String actor);
+
     List<Order> findAllByStoreId(UUID storeId);
     Optional<Order> findByOrderIdAndStoreId(UUID orderId, UUID storeId);
-}
\ No newline at end of file
+
+    /**
+     * 고객 주문 목록 keyset 조회 (orderedAt, orderId 내림차순). idx_orders_customer_ordered_at 사용.
+     * since 가 있으면 그 이전 월 파티션은 조회하지 않는다.
+     */
+    default List<OrderSummaryResponseDto> findCustomerOrderPage(
+            UUID customerId, LocalDateTime since, OrderCursor cursor, int limit, boolean detail) {
+        return findOrderPage(QOrder.order.customerId.eq(customerId), since, cursor, limit, detail);
+    }
+
+    /**
+     * 매장 주문 목록 keyset 조회 (orderedAt, orderId 내림차순). idx_orders_store_ordered_at 사용.
+     * since 가 있으면 그 이전 월 파티션은 조회하지 않는다.
+     */
+    default List<OrderSummaryResponseDto> findStoreOrderPage(
+            UUID storeId, LocalDateTime since, OrderCursor cursor, int limit, boolean detail) {
+        return findOrderPage(QOrder.order.storeId.eq(storeId), since, cursor, limit, detail);
+    }
+
+    private List<OrderSummaryResponseDto> findOrderPage(
+            Predicate owner, LocalDateTime since, OrderCursor cursor, int limit, boolean detail) {
+        QOrder order = QOrder.order;
+
+        BooleanBuilder condition = new BooleanBuilder();
+        condition.and(SoftDeletePredicates.orderActive());
+        condition.and(owner);
+
+        if (since != null) {
+            condition.and(order.orderedAt.goe(since));
+        }
+        if (cursor != null) {
+            condition.and(order.orderedAt.lt(cursor.orderedAt())
+                    .or(order.orderedAt.eq(cursor.orderedAt()).and(order.orderId.lt(cursor.orderId()))));
+        }
+
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+                order.orderId,
+                order.orderNumber,
+                order.customerId,
+                order.storeId,
+                order.orderStatusCode.code,
+                order.orderTypeCode.code,
+                order.totalPrice,
+                order.finalPaymentAmount,
+                order.orderedAt
+        ));
+        if (detail) {
+            columns.add(order.orderMenuList);
+        }
+
+        return getQueryFactory()
+                .select(Projections.constructor(OrderSummaryResponseDto.class, columns.toArray(new Expression<?>[0])))
+                .from(order)
+                .where(condition)
+                .orderBy(order.orderedAt.desc(), order.orderId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    default JPAQueryFactory getQueryFactory() {
+        return SpringContext.getBean(JPAQueryFactory.class);
+    }
+}
@@ -0,0 +1,14 @@
+package profect.eatcloud.domain.order.repository;
+
+import java.util.UUID;
+
+/**
+ * 조건부 상태 변경으로 실제 전이된 주문 (native 쿼리 projection).
+ */
+public interface OrderTransitionRow {
+    UUID getOrderId();
+
+    String getOrderNumber();
+
+    String getPreviousStatus();
+}
@@ -3,12 +3,18 @@ package profect.eatcloud.domain.order.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.manager.entity.Manager;
+import profect.eatcloud.domain.manager.exception.ManagerNotFoundException;
+import profect.eatcloud.domain.manager.repository.ManagerRepository;
 import profect.eatcloud.domain.order.entity.Order;
 import profect.eatcloud.domain.order.repository.OrderRepository;
 import profect.eatcloud.domain.order.dto.AdminOrderResponseDto;
+import profect.eatcloud.domain.order.dto.BulkOrderTransitionResult;
+import profect.eatcloud.domain.order.dto.OrderTransitionResult;
 import profect.eatcloud.domain.globalCategory.entity.OrderStatusCode;
-import profect.eatcloud.domain.globalCategory.repository.OrderStatusCodeRepository;
+import profect.eatcloud.domain.globalCategory.service.CodeRegistry;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -16,29 +22,23 @@ import java.util.UUID;
 @Transactional
 public class AdminOrderService {
 
+    private static final int MAX_BULK_ORDERS = 500;
+
     private final OrderRepository orderRepository;
-    private final OrderStatusCodeRepository orderStatusCodeRepository;
+    private final CodeRegistry codeRegistry;
+    private final OrderStateMachine orderStateMachine;
+    private final ManagerRepository managerRepository;
 
     /**
      * 주문 수락 (PAID -> CONFIRMED)
      */
     public AdminOrderResponseDto confirmOrder(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-        if (!"PAID".equals(order.getOrderStatusCode().getCode())) {
-            throw new RuntimeException("결제 완료된 주문만 수락할 수 있습니다. 현재 상태: " + order.getOrderStatusCode().getCode());
-        }
-
-        OrderStatusCode confirmedStatus = orderStatusCodeRepository.findByCode("CONFIRMED")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: CONFIRMED"));
-
-        order.setOrderStatusCode(confirmedStatus);
-        orderRepository.save(order);
+        OrderTransitionResult result = orderStateMachine.transition(orderId, "PAID", "CONFIRMED");
+        requireApplied(result, "결제 완료된 주문만 수락할 수 있습니다. 현재 상태: ");
 
         return AdminOrderResponseDto.builder()
                 .orderId(orderId)
-                .orderNumber(order.getOrderNumber())
+                .orderNumber(result.orderNumber())
                 .orderStatus("CONFIRMED")
                 .message("주문이 수락되었습니다.")
                 .build();
@@ -48,27 +48,50 @@ public class AdminOrderService {
      * 주문 완료 (CONFIRMED -> COMPLETED)
      */
     public AdminOrderResponseDto completeOrder(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-        if (!"CONFIRMED".equals(order.getOrderStatusCode().getCode())) {
-            throw new RuntimeException("수락된 주문만 완료할 수 있습니다. 현재 상태: " + order.getOrderStatusCode().getCode());
-        }
-
-        OrderStatusCode completedStatus = orderStatusCodeRepository.findByCode("COMPLETED")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: COMPLETED"));
-
-        order.setOrderStatusCode(completedStatus);
-        orderRepository.save(order);
+        OrderTransitionResult result = orderStateMachine.transition(orderId, "CONFIRMED", "COMPLETED");
+        requireApplied(result, "수락된 주문만 완료할 수 있습니다. 현재 상태: ");
 
         return AdminOrderResponseDto.builder()
                 .orderId(orderId)
-                .orderNumber(order.getOrderNumber())
+                .orderNumber(result.orderNumber())
                 .orderStatus("COMPLETED")
                 .message("주문이 완료되었습니다.")
                 .build();
     }
 
+    /**
+     * 여러 주문을 한 번에 상태 변경. 현재 상태에서 허용되지 않는 주문은 건너뛴다.
+     */
+    public BulkOrderTransitionResult changeOrderStatuses(List<UUID> orderIds, String statusCode) {
+        validateBulkRequest(orderIds, statusCode);
+        return orderStateMachine.transitionAll(orderIds, statusCode);
+    }
+
+    /**
+     * 매니저가 자기 매장 주문만 일괄 상태 변경. 다른 매장의 주문은 건너뛴다.
+     */
+    public BulkOrderTransitionResult changeStoreOrderStatuses(UUID managerId, List<UUID> orderIds, String statusCode) {
+        validateBulkRequest(orderIds, statusCode);
+        Manager manager = managerRepository.findById(managerId)
+                .orElseThrow(() -> new ManagerNotFoundException(managerId.toString()));
+        if (manager.getStore() == null) {
+            throw new IllegalArgumentException("매장이 등록되지 않은 매니저입니다: " + managerId);
+        }
+        return orderStateMachine.transitionAll(manager.getStore().getStoreId(), orderIds, statusCode);
+    }
+
+    private void validateBulkRequest(List<UUID> orderIds, String statusCode) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("변경할 주문이 없습니다.");
+        }
+        if (orderIds.size() > MAX_BULK_ORDERS) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 주문은 최대 " + MAX_BULK_ORDERS + "건입니다.");
+        }
+        if (!codeRegistry.contains(OrderStatusCode.class, statusCode)) {
+            throw new IllegalArgumentException("주문 상태 코드를 찾을 수 없습니다: " + statusCode);
+        }
+    }
+
     /**
      * 주문 상태 조회
      */
@@ -84,4 +107,13 @@ public class AdminOrderService {
                 .message("주문 상태 조회 완료")
                 .build();
     }
+
+    private void requireApplied(OrderTransitionResult result, String invalidMessage) {
+        switch (result.outcome()) {
+            case APPLIED -> {
+            }
+            case NOT_FOUND -> throw new RuntimeException("주문을 찾을 수 없습니다: " + result.orderId());
+            case INVALID_TRANSITION -> throw new RuntimeException(invalidMessage + result.currentStatus());
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package profect.eatcloud.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.entity.OrderOutboxEvent;
+import profect.eatcloud.domain.order.repository.OrderOutboxRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 전이를 outbox 에 기록한다. 반드시 상태를 바꾼 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventRecorder {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Order order, String previousStatus) {
+        orderOutboxRepository.save(OrderOutboxEvent.builder()
+                .orderId(order.getOrderId())
+                .orderNumber(order.getOrderNumber())
+                .customerId(order.getCustomerId())
+                .storeId(order.getStoreId())
+                .eventType(order.getOrderStatusCode().getCode())
+                .previousStatus(previousStatus)
+                .amount(order.getFinalPaymentAmount())
+                .orderedAt(order.getOrderedAt())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+}
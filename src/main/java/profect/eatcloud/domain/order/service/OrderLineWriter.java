@@ -0,0 +1,64 @@
+package profect.eatcloud.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.order.dto.OrderMenu;
+import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.entity.OrderLine;
+import profect.eatcloud.domain.order.repository.OrderLineRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 저장된 주문의 메뉴 목록을 p_order_lines 에 기록한다. 주문 저장과 같은 트랜잭션에서 호출해야 한다.
+ * 같은 메뉴가 여러 번 담긴 경우 (order_id, menu_id) 한 줄로 합친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderLineWriter {
+
+    private final OrderLineRepository orderLineRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(Order order) {
+        LocalDateTime createdAt = order.getOrderedAt() != null ? order.getOrderedAt() : LocalDateTime.now();
+        Map<UUID, OrderLine> lines = new LinkedHashMap<>();
+
+        for (OrderMenu menu : order.getOrderMenuList()) {
+            lines.merge(menu.getMenuId(), toLine(order, menu, createdAt), (existing, added) -> OrderLine.builder()
+                    .orderId(existing.getOrderId())
+                    .menuId(existing.getMenuId())
+                    .storeId(existing.getStoreId())
+                    .customerId(existing.getCustomerId())
+                    .menuName(existing.getMenuName())
+                    .quantity(existing.getQuantity() + added.getQuantity())
+                    .unitPrice(existing.getUnitPrice())
+                    .lineAmount(existing.getLineAmount() + added.getLineAmount())
+                    .createdAt(createdAt)
+                    .build());
+        }
+
+        orderLineRepository.saveAll(new ArrayList<>(lines.values()));
+    }
+
+    private OrderLine toLine(Order order, OrderMenu menu, LocalDateTime createdAt) {
+        return OrderLine.builder()
+                .orderId(order.getOrderId())
+                .menuId(menu.getMenuId())
+                .storeId(order.getStoreId())
+                .customerId(order.getCustomerId())
+                .menuName(menu.getMenuName())
+                .quantity(menu.getQuantity())
+                .unitPrice(menu.getPrice())
+                .lineAmount(menu.getPrice() * menu.getQuantity())
+                .createdAt(createdAt)
+                .build();
+    }
+}
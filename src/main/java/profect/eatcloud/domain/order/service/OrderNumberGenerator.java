@@ -0,0 +1,80 @@
+package profect.eatcloud.domain.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.order.repository.OrderNumberSequenceRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ORD-yyyyMMdd-0000001 형식의 주문번호 발급기.
+ * 일자별 시퀀스에서 번호를 블록 단위로 미리 예약해 두고 메모리에서 나눠 주므로 주문마다 DB 를 거치지 않는다.
+ * 블록은 DB 에서 원자적으로 예약되므로 인스턴스가 여러 개여도 번호가 겹치지 않는다.
+ * 번호는 인스턴스 안에서는 단조 증가하고, 인스턴스가 재시작되면 남은 블록 번호는 건너뛴다.
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final OrderNumberSequenceRepository sequenceRepository;
+    private final long blockSize;
+    private final Clock clock;
+
+    private final AtomicReference<Block> current = new AtomicReference<>();
+
+    public OrderNumberGenerator(OrderNumberSequenceRepository sequenceRepository,
+        @Value("${order.number.block-size:100}") long blockSize,
+        @Value("${order.number.zone:Asia/Seoul}") ZoneId zone) {
+        this(sequenceRepository, blockSize, Clock.system(zone));
+    }
+
+    OrderNumberGenerator(OrderNumberSequenceRepository sequenceRepository, long blockSize, Clock clock) {
+        this.sequenceRepository = sequenceRepository;
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    public String next() {
+        LocalDate today = LocalDate.now(clock);
+
+        while (true) {
+            Block block = current.get();
+            if (block != null && block.date().equals(today)) {
+                long value = block.next().getAndIncrement();
+                if (value <= block.last()) {
+                    return format(today, value);
+                }
+            }
+            refill(block, today);
+        }
+    }
+
+    /**
+     * 블록이 소진됐거나 날짜가 바뀐 경우에만 진입한다. 다른 스레드가 먼저 채웠으면 그대로 돌아간다.
+     */
+    private synchronized void refill(Block exhausted, LocalDate today) {
+        Block latest = current.get();
+        if (latest != exhausted && latest != null && latest.date().equals(today)) {
+            return;
+        }
+
+        long last = sequenceRepository.reserveBlock(today, blockSize);
+        current.set(new Block(today, new AtomicLong(last - blockSize + 1), last));
+        log.debug("Reserved order number block: date={}, range=[{}, {}]", today, last - blockSize + 1, last);
+    }
+
+    private String format(LocalDate date, long value) {
+        return String.format("ORD-%s-%07d", date.format(DATE_FORMAT), value);
+    }
+
+    private record Block(LocalDate date, AtomicLong next, long last) {
+    }
+}
@@ -0,0 +1,148 @@
+package profect.eatcloud.domain.order.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.order.entity.OrderOutboxEvent;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+import profect.eatcloud.domain.order.repository.OrderOutboxRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * outbox 의 미발행 주문 이벤트를
+ * 1) Redis Stream(order:events) 에 추가해 다른 서비스가 tail 할 수 있게 하고
+ * 2) 프로세스 내 구독자(@EventListener)를 이 스레드에서 동기 호출해 모두 끝난 뒤에만 published_at 을 기록한다.
+ * 구독자가 실패하면 그 이벤트부터는 미발행으로 남아 다음 주기에 다시 발행된다 (at-least-once, 순서 유지).
+ * max-attempts 번 실패한 이벤트는 로그/메트릭을 남기고 발행 처리해 뒤 이벤트를 막지 않는다.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    static final String STREAM_KEY = "order:events";
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long streamMaxLength;
+    private final int maxAttempts;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+        StringRedisTemplate stringRedisTemplate,
+        RedisHealthMonitor redisHealthMonitor,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry,
+        @Value("${order.outbox.batch-size:100}") int batchSize,
+        @Value("${order.outbox.stream-max-length:100000}") long streamMaxLength,
+        @Value("${order.outbox.max-attempts:10}") int maxAttempts) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.streamMaxLength = streamMaxLength;
+        this.maxAttempts = maxAttempts;
+        this.publishedCounter = Counter.builder("order.outbox.published")
+            .description("Order lifecycle events relayed from the outbox")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("order.outbox.failures")
+            .description("Order lifecycle event deliveries that failed and will be retried")
+            .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("order.outbox.dead-lettered")
+            .description("Order lifecycle events given up on after max attempts")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval:500ms}")
+    @Transactional
+    public void relay() {
+        if (!redisHealthMonitor.isAvailable()) {
+            return;
+        }
+
+        List<OrderOutboxEvent> events = orderOutboxRepository.claimUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        int published = 0;
+        for (OrderOutboxEvent event : events) {
+            OrderLifecycleEvent lifecycleEvent = event.toLifecycleEvent();
+            appendToStream(lifecycleEvent);
+            try {
+                eventPublisher.publishEvent(lifecycleEvent);
+            } catch (RuntimeException e) {
+                if (!giveUp(event, publishedAt, e)) {
+                    break;
+                }
+                continue;
+            }
+            event.markPublished(publishedAt);
+            published++;
+        }
+
+        publishedCounter.increment(published);
+        log.debug("Relayed {} of {} order events", published, events.size());
+    }
+
+    /**
+     * 실패 횟수를 기록하고, 최대 횟수에 도달했으면 발행 처리한 뒤 true 를 반환한다.
+     */
+    private boolean giveUp(OrderOutboxEvent event, LocalDateTime publishedAt, RuntimeException e) {
+        failureCounter.increment();
+        event.recordFailedAttempt();
+        if (event.getPublishAttempts() < maxAttempts) {
+            log.warn("Order event handler failed, will retry: eventId={}, attempt={}, error={}",
+                event.getEventId(), event.getPublishAttempts(), e.getMessage());
+            return false;
+        }
+        deadLetterCounter.increment();
+        event.markPublished(publishedAt);
+        log.error("Giving up on order event after {} attempts: eventId={}, order={}",
+            event.getPublishAttempts(), event.getEventId(), event.getOrderNumber(), e);
+        return true;
+    }
+
+    private void appendToStream(OrderLifecycleEvent event) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("eventId", String.valueOf(event.eventId()));
+        fields.put("orderId", event.orderId().toString());
+        fields.put("orderNumber", event.orderNumber());
+        fields.put("customerId", event.customerId().toString());
+        fields.put("storeId", event.storeId().toString());
+        fields.put("eventType", event.eventType());
+        fields.put("previousStatus", event.previousStatus() == null ? "" : event.previousStatus());
+        fields.put("amount", String.valueOf(event.amount()));
+        fields.put("orderedAt", event.orderedAt().toString());
+        fields.put("occurredAt", event.occurredAt().toString());
+
+        try {
+            stringRedisTemplate.opsForStream().add(
+                StreamRecords.string(fields).withStreamKey(STREAM_KEY),
+                RedisStreamCommands.XAddOptions.maxlen(streamMaxLength).approximateTrimming(true));
+            redisHealthMonitor.recordSuccess();
+        } catch (RuntimeException e) {
+            redisHealthMonitor.recordFailure(e);
+            throw e;
+        }
+    }
+}
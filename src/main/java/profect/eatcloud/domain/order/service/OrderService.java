@@ -5,19 +5,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.entity.OrderKey;
+import profect.eatcloud.domain.order.repository.OrderKeyRepository;
 import profect.eatcloud.domain.order.repository.OrderRepository;
+import profect.eatcloud.domain.order.dto.OrderCursor;
 import profect.eatcloud.domain.order.dto.OrderMenu;
+import profect.eatcloud.domain.order.dto.OrderTransitionResult;
+import profect.eatcloud.domain.order.dto.response.OrderCursorPageResponseDto;
+import profect.eatcloud.domain.order.dto.response.OrderSummaryResponseDto;
 import profect.eatcloud.domain.globalCategory.entity.OrderStatusCode;
 import profect.eatcloud.domain.globalCategory.entity.OrderTypeCode;
-import profect.eatcloud.domain.globalCategory.repository.OrderStatusCodeRepository;
-import profect.eatcloud.domain.globalCategory.repository.OrderTypeCodeRepository;
-import profect.eatcloud.domain.customer.service.CartService;
-import profect.eatcloud.domain.store.entity.Menu;
+import profect.eatcloud.domain.globalCategory.service.CodeRegistry;
+import profect.eatcloud.domain.store.dto.MenuOrderInfoDto;
 import profect.eatcloud.domain.store.repository.MenuRepository_min;
+import profect.eatcloud.global.partition.PartitionMaintenanceService;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,26 +37,29 @@ import java.util.Optional;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final OrderStatusCodeRepository orderStatusCodeRepository;
-    private final OrderTypeCodeRepository orderTypeCodeRepository;
-    private final CartService cartService;
+    private final OrderKeyRepository orderKeyRepository;
+    private final CodeRegistry codeRegistry;
     private final MenuRepository_min menuRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderEventRecorder orderEventRecorder;
+    private final OrderStateMachine orderStateMachine;
+    private final OrderLineWriter orderLineWriter;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     public Order createPendingOrder(UUID customerId, UUID storeId, List<OrderMenu> orderMenuList, String orderType,
                                    Boolean usePoints, Integer pointsToUse) {
-        String orderNumber = generateOrderNumber();
+        String orderNumber = orderNumberGenerator.next();
 
-        OrderStatusCode statusCode = orderStatusCodeRepository.findByCode("PENDING")
+        OrderStatusCode statusCode = codeRegistry.find(OrderStatusCode.class, "PENDING")
                 .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: PENDING"));
         
-        OrderTypeCode typeCode = orderTypeCodeRepository.findByCode(orderType)
+        OrderTypeCode typeCode = codeRegistry.find(OrderTypeCode.class, orderType)
                 .orElseThrow(() -> new RuntimeException("주문 타입 코드를 찾을 수 없습니다: " + orderType));
 
-        for (OrderMenu orderMenu : orderMenuList) {
-            Menu menu = menuRepository.findById(orderMenu.getMenuId())
-                    .orElseThrow(() -> new RuntimeException("메뉴를 찾을 수 없습니다: " + orderMenu.getMenuId()));
-            orderMenu.setPrice(menu.getPrice().intValue());
-        }
+        resolveMenuPrices(storeId, orderMenuList);
 
         Integer totalPrice = calculateTotalAmount(orderMenuList);
 
@@ -71,7 +85,10 @@ public class OrderService {
                 .finalPaymentAmount(finalPaymentAmount)
                 .build();
 
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        orderKeyRepository.saveAndFlush(OrderKey.of(savedOrder));
+        orderLineWriter.write(savedOrder);
+        return savedOrder;
     }
 
     @Transactional(readOnly = true)
@@ -88,33 +105,69 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
 
-        OrderStatusCode paidStatus = orderStatusCodeRepository.findByCode("PAID")
+        OrderStatusCode paidStatus = codeRegistry.find(OrderStatusCode.class, "PAID")
                 .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: PAID"));
 
+        String previousStatus = order.getOrderStatusCode().getCode();
         order.setPaymentId(paymentId);
         order.setOrderStatusCode(paidStatus);
 
         orderRepository.save(order);
-
-        try {
-            cartService.invalidateCartAfterOrder(order.getCustomerId());
-            log.info("Cart invalidated after successful payment for customer: {}, order: {}",
-                    order.getCustomerId(), order.getOrderNumber());
-        } catch (Exception e) {
-            log.error("Failed to invalidate cart after payment completion for customer: {}, order: {}",
-                    order.getCustomerId(), order.getOrderNumber(), e);
-        }
+        // 장바구니 비우기 등 후속 처리는 outbox 이벤트 구독자가 비동기로 수행
+        orderEventRecorder.record(order, previousStatus);
     }
 
     public void cancelOrder(UUID orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
 
-        OrderStatusCode canceledStatus = orderStatusCodeRepository.findByCode("CANCELED")
+        OrderStatusCode canceledStatus = codeRegistry.find(OrderStatusCode.class, "CANCELED")
                 .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: CANCELED"));
+        String previousStatus = order.getOrderStatusCode().getCode();
         order.setOrderStatusCode(canceledStatus);
 
         orderRepository.save(order);
+        orderEventRecorder.record(order, previousStatus);
+    }
+
+    /**
+     * 주문 메뉴 전체를 한 번의 쿼리로 조회해 가격을 채운다.
+     * 없는 메뉴, 다른 매장 메뉴, 판매 중지 메뉴를 한 번에 모아 거절한다.
+     */
+    private void resolveMenuPrices(UUID storeId, List<OrderMenu> orderMenuList) {
+        if (orderMenuList == null || orderMenuList.isEmpty()) {
+            throw new RuntimeException("주문 메뉴가 비어 있습니다.");
+        }
+
+        Set<UUID> menuIds = new HashSet<>();
+        for (OrderMenu orderMenu : orderMenuList) {
+            if (orderMenu.getMenuId() == null || orderMenu.getQuantity() == null || orderMenu.getQuantity() <= 0) {
+                throw new RuntimeException("잘못된 주문 메뉴입니다: " + orderMenu.getMenuId());
+            }
+            menuIds.add(orderMenu.getMenuId());
+        }
+
+        Map<UUID, MenuOrderInfoDto> menus = menuRepository.findOrderInfoByIdIn(menuIds).stream()
+                .collect(Collectors.toMap(MenuOrderInfoDto::getMenuId, Function.identity()));
+
+        List<String> problems = new ArrayList<>();
+        for (OrderMenu orderMenu : orderMenuList) {
+            MenuOrderInfoDto menu = menus.get(orderMenu.getMenuId());
+            if (menu == null) {
+                problems.add("메뉴를 찾을 수 없습니다: " + orderMenu.getMenuId());
+            } else if (!menu.getStoreId().equals(storeId)) {
+                problems.add("다른 매장의 메뉴입니다: " + menu.getMenuName());
+            } else if (!Boolean.TRUE.equals(menu.getIsAvailable())) {
+                problems.add("판매 중지된 메뉴입니다: " + menu.getMenuName());
+            } else {
+                orderMenu.setMenuName(menu.getMenuName());
+                orderMenu.setPrice(menu.getPrice().intValue());
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new RuntimeException(String.join(", ", problems));
+        }
     }
 
     @Transactional(readOnly = true)
@@ -124,12 +177,6 @@ public class OrderService {
                 .sum();
     }
 
-    private String generateOrderNumber() {
-        String date = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = UUID.randomUUID().toString().substring(0, 5).toUpperCase();
-        return "ORD-" + date + "-" + randomPart;
-    }
-
     public List<Order> findOrdersByCustomer(UUID customerId) {
         return orderRepository.findAllByCustomerId(customerId);
     }
@@ -139,8 +186,28 @@ public class OrderService {
                 .orElseThrow(() -> new RuntimeException("해당 주문이 없습니다."));
     }
 
-    public List<Order> findOrdersByStore(UUID storeId) {
-        return orderRepository.findAllByStoreId(storeId);
+    /**
+     * 고객 주문 목록 (커서 기반). detail=false 이면 메뉴 목록 없이 요약 필드만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public OrderCursorPageResponseDto findOrderPageByCustomer(UUID customerId, String cursor, Integer size,
+                                                              boolean detail) {
+        int limit = resolvePageSize(size);
+        return toCursorPage(orderRepository.findCustomerOrderPage(
+                customerId, partitionMaintenanceService.onlineSince(), decodeCursor(cursor), limit + 1, detail),
+                limit);
+    }
+
+    /**
+     * 매장 주문 목록 (커서 기반). detail=false 이면 메뉴 목록 없이 요약 필드만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public OrderCursorPageResponseDto findOrderPageByStore(UUID storeId, String cursor, Integer size,
+                                                           boolean detail) {
+        int limit = resolvePageSize(size);
+        return toCursorPage(orderRepository.findStoreOrderPage(
+                storeId, partitionMaintenanceService.onlineSince(), decodeCursor(cursor), limit + 1, detail),
+                limit);
     }
 
     public Order findOrderByStoreAndOrderId(UUID storeId, UUID orderId) {
@@ -148,14 +215,43 @@ public class OrderService {
                 .orElseThrow(() -> new RuntimeException("해당 매장에 주문이 없습니다."));
     }
 
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private OrderCursor decodeCursor(String cursor) {
+        return (cursor == null || cursor.isBlank()) ? null : OrderCursor.decode(cursor);
+    }
+
+    // limit + 1 건을 조회해 다음 페이지 존재 여부를 판단한다
+    private OrderCursorPageResponseDto toCursorPage(List<OrderSummaryResponseDto> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<OrderSummaryResponseDto> orders = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryResponseDto last = orders.get(orders.size() - 1);
+            nextCursor = new OrderCursor(last.orderedAt(), last.orderId()).encode();
+        }
+        return new OrderCursorPageResponseDto(List.copyOf(orders), nextCursor, hasNext);
+    }
+
     @Transactional
     public void updateOrderStatus(UUID orderId, String statusCode) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
-
-        OrderStatusCode statusCodeEntity = orderStatusCodeRepository.findById(statusCode)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 상태 코드입니다."));
+        if (!codeRegistry.contains(OrderStatusCode.class, statusCode)) {
+            throw new IllegalArgumentException("유효하지 않은 상태 코드입니다.");
+        }
 
-        order.setOrderStatusCode(statusCodeEntity);
+        OrderTransitionResult result = orderStateMachine.transition(orderId, statusCode);
+        switch (result.outcome()) {
+            case APPLIED -> {
+            }
+            case NOT_FOUND -> throw new IllegalArgumentException("주문을 찾을 수 없습니다.");
+            case INVALID_TRANSITION -> throw new IllegalArgumentException(
+                    "허용되지 않는 상태 변경입니다: " + result.currentStatus() + " -> " + statusCode);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package profect.eatcloud.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.order.dto.BulkOrderTransitionResult;
+import profect.eatcloud.domain.order.dto.OrderTransitionResult;
+import profect.eatcloud.domain.order.dto.OrderTransitionResult.Outcome;
+import profect.eatcloud.domain.order.repository.OrderRepository;
+import profect.eatcloud.domain.order.repository.OrderTransitionRow;
+import profect.eatcloud.security.SecurityUtil;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주문 상태 전이 규칙과 적용.
+ * 전이는 조회 없이 "UPDATE ... WHERE order_id = ? AND order_status IN (허용된 이전 상태)" 한 문장으로 적용하고,
+ * 결과는 실제로 바뀐 행으로 판단한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStateMachine {
+
+    private static final Map<String, Set<String>> TRANSITIONS = Map.of(
+            "PENDING", Set.of("PAID", "CANCELED"),
+            "PAID", Set.of("CONFIRMED", "CANCELED", "REFUNDED"),
+            "CONFIRMED", Set.of("PREPARING", "COMPLETED", "CANCELED"),
+            "PREPARING", Set.of("READY", "CANCELED"),
+            "READY", Set.of("DELIVERING", "COMPLETED"),
+            "DELIVERING", Set.of("COMPLETED"),
+            "COMPLETED", Set.of("REFUNDED")
+    );
+
+    /**
+     * 결제가 유효한 상태. 매출 집계 대상이며, 여기서 CANCELED / REFUNDED 로 가면 매출에서 차감한다.
+     */
+    public static final Set<String> PAID_STATUSES =
+            Set.of("PAID", "CONFIRMED", "PREPARING", "READY", "DELIVERING", "COMPLETED");
+
+    /**
+     * 결제가 유효하던 주문을 되돌리는 상태.
+     */
+    public static final Set<String> REVERSAL_STATUSES = Set.of("CANCELED", "REFUNDED");
+
+    /**
+     * 매장에 실시간으로 알리는 전이 후 상태. 결제 전 취소는 호출부에서 따로 거른다.
+     */
+    public static final Set<String> STORE_PUSHED_STATUSES = Stream.concat(
+            PAID_STATUSES.stream(), REVERSAL_STATUSES.stream()).collect(Collectors.toUnmodifiableSet());
+
+    private static final Map<String, Set<String>> SOURCES = TRANSITIONS.entrySet().stream()
+            .flatMap(entry -> entry.getValue().stream().map(to -> Map.entry(to, entry.getKey())))
+            .collect(Collectors.groupingBy(Map.Entry::getKey,
+                    Collectors.mapping(Map.Entry::getValue, Collectors.toUnmodifiableSet())));
+
+    private final OrderRepository orderRepository;
+
+    public boolean canTransition(String from, String to) {
+        return TRANSITIONS.getOrDefault(from, Set.of()).contains(to);
+    }
+
+    /**
+     * toStatus 로 올 수 있는 이전 상태 목록. 비어 있으면 도달할 수 없는 상태.
+     */
+    public Set<String> sourcesOf(String toStatus) {
+        return SOURCES.getOrDefault(toStatus, Set.of());
+    }
+
+    /**
+     * 허용된 모든 이전 상태에서 toStatus 로 전이한다.
+     */
+    @Transactional
+    public OrderTransitionResult transition(UUID orderId, String toStatus) {
+        return apply(orderId, sourcesOf(toStatus), toStatus);
+    }
+
+    /**
+     * 현재 상태가 expectedStatus 인 경우에만 toStatus 로 전이한다.
+     */
+    @Transactional
+    public OrderTransitionResult transition(UUID orderId, String expectedStatus, String toStatus) {
+        if (!canTransition(expectedStatus, toStatus)) {
+            throw new IllegalArgumentException("허용되지 않는 상태 변경입니다: " + expectedStatus + " -> " + toStatus);
+        }
+        return apply(orderId, Set.of(expectedStatus), toStatus);
+    }
+
+    /**
+     * storeId 매장의 주문만 전이한다. 다른 매장의 주문은 건너뛴 것으로 돌려준다.
+     */
+    @Transactional
+    public BulkOrderTransitionResult transitionAll(UUID storeId, Collection<UUID> orderIds, String toStatus) {
+        Set<UUID> requested = new LinkedHashSet<>(orderIds);
+        if (requested.isEmpty()) {
+            return new BulkOrderTransitionResult(toStatus, List.of(), List.of());
+        }
+
+        Set<UUID> owned = new HashSet<>(orderRepository.findOrderIdsInStore(storeId, requested));
+        BulkOrderTransitionResult result = transitionAll(
+                requested.stream().filter(owned::contains).toList(), toStatus);
+
+        Set<UUID> applied = new HashSet<>(result.applied());
+        List<UUID> skipped = requested.stream().filter(id -> !applied.contains(id)).toList();
+        return new BulkOrderTransitionResult(toStatus, result.applied(), skipped);
+    }
+
+    @Transactional
+    public BulkOrderTransitionResult transitionAll(Collection<UUID> orderIds, String toStatus) {
+        Set<UUID> requested = new LinkedHashSet<>(orderIds);
+        Set<String> sources = sourcesOf(toStatus);
+        if (requested.isEmpty() || sources.isEmpty()) {
+            return new BulkOrderTransitionResult(toStatus, List.of(), List.copyOf(requested));
+        }
+
+        Set<UUID> applied = orderRepository.transitionStatus(requested, sources, toStatus,
+                        SecurityUtil.getCurrentUsername()).stream()
+                .map(OrderTransitionRow::getOrderId)
+                .collect(Collectors.toSet());
+
+        List<UUID> appliedInOrder = requested.stream().filter(applied::contains).toList();
+        List<UUID> skipped = requested.stream().filter(id -> !applied.contains(id)).toList();
+        return new BulkOrderTransitionResult(toStatus, appliedInOrder, skipped);
+    }
+
+    private OrderTransitionResult apply(UUID orderId, Set<String> sources, String toStatus) {
+        if (sources.isEmpty()) {
+            return rejected(orderId);
+        }
+
+        List<OrderTransitionRow> rows = orderRepository.transitionStatus(List.of(orderId), sources, toStatus,
+                SecurityUtil.getCurrentUsername());
+        if (!rows.isEmpty()) {
+            return new OrderTransitionResult(orderId, Outcome.APPLIED, rows.get(0).getOrderNumber(), toStatus);
+        }
+        return rejected(orderId);
+    }
+
+    // 실패한 경우에만 현재 상태를 조회해 원인을 구분한다
+    private OrderTransitionResult rejected(UUID orderId) {
+        return orderRepository.findStatusCodeByOrderId(orderId)
+                .map(current -> new OrderTransitionResult(orderId, Outcome.INVALID_TRANSITION, null, current))
+                .orElseGet(() -> new OrderTransitionResult(orderId, Outcome.NOT_FOUND, null, null));
+    }
+}
@@ -0,0 +1,94 @@
+package profect.eatcloud.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.order.dto.response.StoreOrderPushMessage;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 주문 이벤트를 매장 STOMP 토픽(/topic/stores/{storeId}/orders)으로 전달한다.
+ * 신규 결제 주문(PAID)과 이후 상태 변경(OrderStateMachine.STORE_PUSHED_STATUSES)만 보낸다.
+ * 외부 브로커 relay 를 쓰지 않을 때는 Redis pub/sub 으로 모든 인스턴스에 전파해 각 인스턴스의 내장 브로커로 보낸다.
+ */
+@Slf4j
+@Component
+public class StoreOrderPushService implements MessageListener {
+
+    static final String PUSH_CHANNEL = "order:store-push";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean brokerRelayEnabled;
+
+    public StoreOrderPushService(SimpMessagingTemplate messagingTemplate,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        ObjectMapper objectMapper,
+        @Value("${websocket.broker-relay.enabled:false}") boolean brokerRelayEnabled) {
+        this.messagingTemplate = messagingTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.brokerRelayEnabled = brokerRelayEnabled;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!brokerRelayEnabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(PUSH_CHANNEL));
+        }
+    }
+
+    @EventListener
+    public void onOrderEvent(OrderLifecycleEvent event) {
+        // 결제 전 취소(PENDING -> CANCELED)는 매장에 보인 적 없는 주문이므로 보내지 않음
+        if (!OrderStateMachine.STORE_PUSHED_STATUSES.contains(event.eventType())
+            || ("CANCELED".equals(event.eventType()) && "PENDING".equals(event.previousStatus()))) {
+            return;
+        }
+
+        StoreOrderPushMessage message = new StoreOrderPushMessage(event.storeId(), event.orderId(),
+            event.orderNumber(), event.eventType(), event.previousStatus(), event.amount(), event.occurredAt());
+
+        if (brokerRelayEnabled) {
+            sendLocally(message);
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(PUSH_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("Failed to fan out store order push, sending locally only: order={}, error={}",
+                event.orderNumber(), e.getMessage());
+            sendLocally(message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            sendLocally(objectMapper.readValue(body, StoreOrderPushMessage.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignored malformed store order push: {}", body);
+        }
+    }
+
+    private void sendLocally(StoreOrderPushMessage message) {
+        messagingTemplate.convertAndSend("/topic/stores/" + message.storeId() + "/orders", message);
+    }
+}
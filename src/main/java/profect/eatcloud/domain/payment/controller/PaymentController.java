@@ -1,26 +1,43 @@
 package profect.eatcloud.domain.payment.controller;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import profect.eatcloud.domain.payment.dto.CheckoutRequest;
 import profect.eatcloud.domain.payment.dto.CheckoutResponse;
+import profect.eatcloud.domain.payment.dto.IdempotentResponse;
 import profect.eatcloud.domain.payment.dto.PaymentCallbackRequest;
 import profect.eatcloud.domain.payment.dto.PointChargeRequest;
 import profect.eatcloud.domain.payment.dto.PointChargeResponse;
+import profect.eatcloud.domain.payment.exception.IdempotencyConflictException;
 import profect.eatcloud.domain.payment.service.PaymentAuthenticationService;
+import profect.eatcloud.domain.payment.service.PaymentIdempotencyService;
 import profect.eatcloud.domain.payment.service.PaymentProcessingService;
+import profect.eatcloud.domain.payment.service.TossPaymentService;
 import profect.eatcloud.domain.payment.util.PaymentDtoConverter;
 
 @Controller
@@ -29,13 +46,18 @@ import profect.eatcloud.domain.payment.util.PaymentDtoConverter;
 @Slf4j
 public class PaymentController {
 
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
 	private final PaymentProcessingService paymentProcessingService;
 	private final PaymentAuthenticationService paymentAuthenticationService;
+	private final PaymentIdempotencyService paymentIdempotencyService;
 
 	public PaymentController(PaymentProcessingService paymentProcessingService,
-		PaymentAuthenticationService paymentAuthenticationService) {
+		PaymentAuthenticationService paymentAuthenticationService,
+		PaymentIdempotencyService paymentIdempotencyService) {
 		this.paymentProcessingService = paymentProcessingService;
 		this.paymentAuthenticationService = paymentAuthenticationService;
+		this.paymentIdempotencyService = paymentIdempotencyService;
 	}
 
 	@Operation(summary = "주문 페이지", description = "결제 주문 페이지를 표시합니다.")
@@ -55,12 +77,28 @@ public class PaymentController {
 	}
 
 	@Operation(summary = "결제 페이지", description = "주문 정보를 받아 결제 페이지로 이동합니다.")
-	@PostMapping("/checkout")
+	@PostMapping(value = "/checkout", consumes = MediaType.APPLICATION_JSON_VALUE)
 	@ResponseBody
-	public ResponseEntity<Map<String, Object>> checkoutPage(@RequestParam("orderData") String orderDataJson) {
+	public ResponseEntity<Map<String, Object>> checkoutPage(@RequestBody @Valid CheckoutRequest request,
+		BindingResult bindingResult,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+		@AuthenticationPrincipal UserDetails userDetails) {
+		if (bindingResult.hasErrors()) {
+			String message = bindingResult.getAllErrors().get(0).getDefaultMessage();
+			return ResponseEntity.badRequest().body(PaymentDtoConverter.createErrorResponse(message));
+		}
+
 		try {
-			CheckoutResponse response = paymentProcessingService.processCheckout(orderDataJson);
-			return ResponseEntity.ok(PaymentDtoConverter.toMap(response));
+			String owner = userDetails != null ? userDetails.getUsername() : null;
+			IdempotentResponse response = paymentIdempotencyService.execute("checkout", owner, idempotencyKey,
+				() -> {
+					CheckoutResponse checkout = paymentProcessingService.processCheckout(request);
+					return IdempotentResponse.ofBody(HttpStatus.OK.value(), PaymentDtoConverter.toMap(checkout));
+				});
+			return ResponseEntity.status(response.status()).body(response.body());
+		} catch (IdempotencyConflictException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(PaymentDtoConverter.createErrorResponse(e.getMessage()));
 		} catch (Exception e) {
 			log.error("체크아웃 처리 중 오류 발생", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -90,31 +128,33 @@ public class PaymentController {
 
 	@Operation(summary = "결제 성공 콜백", description = "토스페이먼츠 결제 성공 콜백을 처리합니다.")
 	@GetMapping("/success")
-	public String paymentSuccess(@RequestParam String paymentKey,
+	public CompletableFuture<String> paymentSuccess(@RequestParam String paymentKey,
 		@RequestParam String orderId,
 		@RequestParam Integer amount,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
 		Model model) {
-		try {
-			PaymentCallbackRequest request = PaymentCallbackRequest.builder()
-				.paymentKey(paymentKey)
-				.orderId(orderId)
-				.amount(amount)
-				.build();
 
-			paymentProcessingService.processPaymentSuccess(request);
-
-			model.addAttribute("paymentKey", paymentKey);
-			model.addAttribute("orderId", orderId);
-			model.addAttribute("amount", amount);
-			model.addAttribute("message", "결제가 성공적으로 처리되었습니다.");
-
-			return "payment/success";
-
-		} catch (Exception e) {
-			log.error("결제 성공 처리 중 오류 발생", e);
-			model.addAttribute("error", "결제 처리 중 오류가 발생했습니다: " + e.getMessage());
-			return "payment/fail";
+		// 토스 리다이렉트에는 헤더가 없으므로 paymentKey 를 키로 사용해 새로고침/중복 콜백을 한 번만 처리한다
+		String key = idempotencyKey != null ? idempotencyKey : paymentKey;
+		CompletableFuture<IdempotentResponse> response;
+		try {
+			response = paymentIdempotencyService.executeAsync("success", orderId, key,
+				() -> processSuccess(paymentKey, orderId, amount));
+		} catch (IdempotencyConflictException e) {
+			model.addAttribute("error", "결제가 처리 중입니다. 잠시 후 다시 확인해주세요.");
+			return CompletableFuture.completedFuture("payment/fail");
 		}
+
+		// PG 승인 응답을 기다리는 동안 요청 스레드를 반환한다
+		return response.handle((result, error) -> {
+			if (error != null) {
+				// 일시 오류는 캐시되지 않으므로 같은 키로 다시 시도할 수 있다
+				model.addAttribute("error", "결제 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+				return "payment/fail";
+			}
+			model.addAllAttributes(result.body());
+			return result.view();
+		});
 	}
 
 	@Operation(summary = "결제 취소 콜백", description = "토스페이먼츠 결제 취소 콜백을 처리합니다.")
@@ -124,6 +164,7 @@ public class PaymentController {
 		@RequestParam(required = false) Integer amount,
 		@RequestParam(required = false) String message,
 		@RequestParam(required = false) String code,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
 		Model model) {
 
 		PaymentCallbackRequest request = PaymentCallbackRequest.builder()
@@ -134,9 +175,7 @@ public class PaymentController {
 			.code(code)
 			.build();
 
-		Map<String, Object> rollbackResult = paymentProcessingService.processPaymentFailure(request);
-
-		rollbackResult.forEach(model::addAttribute);
+		model.addAllAttributes(processFailureOnce("cancel", orderId, idempotencyKey, request));
 		model.addAttribute("message", message != null ? message : "결제가 취소되었습니다.");
 		model.addAttribute("code", code);
 		model.addAttribute("orderId", orderId);
@@ -152,6 +191,7 @@ public class PaymentController {
 	public String paymentFail(@RequestParam(required = false) String message,
 		@RequestParam(required = false) String code,
 		@RequestParam(required = false) String orderId,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
 		Model model) {
 
 		PaymentCallbackRequest request = PaymentCallbackRequest.builder()
@@ -160,9 +200,7 @@ public class PaymentController {
 			.code(code)
 			.build();
 
-		Map<String, Object> rollbackResult = paymentProcessingService.processPaymentFailure(request);
-
-		rollbackResult.forEach(model::addAttribute);
+		model.addAllAttributes(processFailureOnce("fail", orderId, idempotencyKey, request));
 		model.addAttribute("message", message != null ? message : "알 수 없는 오류가 발생했습니다.");
 		model.addAttribute("code", code);
 		model.addAttribute("orderId", orderId);
@@ -170,4 +208,62 @@ public class PaymentController {
 
 		return "payment/fail";
 	}
+
+	/**
+	 * 성공과 종결된 실패(검증 실패, PG 거절)만 응답으로 만들어 캐시되게 한다.
+	 * 그 밖의 오류는 예외로 끝내 Idempotency 표시를 지우고 재시도를 허용한다.
+	 */
+	private CompletableFuture<IdempotentResponse> processSuccess(String paymentKey, String orderId, Integer amount) {
+		PaymentCallbackRequest request = PaymentCallbackRequest.builder()
+			.paymentKey(paymentKey)
+			.orderId(orderId)
+			.amount(amount)
+			.build();
+
+		return paymentProcessingService.processPaymentSuccess(request)
+			.handle((ignored, error) -> {
+				Map<String, Object> attributes = new HashMap<>();
+				if (error != null) {
+					Throwable cause = error instanceof CompletionException && error.getCause() != null
+						? error.getCause() : error;
+					log.error("결제 성공 처리 중 오류 발생", cause);
+					if (!TossPaymentService.isDefinitiveFailure(cause)) {
+						throw new CompletionException(cause);
+					}
+					attributes.put("error", "결제 처리 중 오류가 발생했습니다: " + cause.getMessage());
+					return IdempotentResponse.ofView("payment/fail", attributes);
+				}
+
+				attributes.put("paymentKey", paymentKey);
+				attributes.put("orderId", orderId);
+				attributes.put("amount", amount);
+				attributes.put("message", "결제가 성공적으로 처리되었습니다.");
+				return IdempotentResponse.ofView("payment/success", attributes);
+			});
+	}
+
+	@ExceptionHandler(HttpMessageNotReadableException.class)
+	@ResponseBody
+	public ResponseEntity<Map<String, Object>> handleUnreadableCheckout(HttpMessageNotReadableException e) {
+		log.warn("체크아웃 요청 본문을 읽을 수 없습니다: {}", e.getMessage());
+		return ResponseEntity.badRequest()
+			.body(PaymentDtoConverter.createErrorResponse("주문 데이터 형식이 올바르지 않습니다."));
+	}
+
+	/**
+	 * 실패/취소 콜백의 롤백 결과. 같은 주문에 대한 반복 콜백은 첫 결과를 재사용한다.
+	 */
+	private Map<String, Object> processFailureOnce(String scope, String orderId, String idempotencyKey,
+		PaymentCallbackRequest request) {
+		String key = idempotencyKey != null ? idempotencyKey : scope;
+		try {
+			return paymentIdempotencyService.execute(scope, orderId, key,
+				() -> IdempotentResponse.ofView(null, paymentProcessingService.processPaymentFailure(request))).body();
+		} catch (IdempotencyConflictException e) {
+			Map<String, Object> result = new HashMap<>();
+			result.put("rollbackCompleted", false);
+			result.put("rollbackError", e.getMessage());
+			return result;
+		}
+	}
 }
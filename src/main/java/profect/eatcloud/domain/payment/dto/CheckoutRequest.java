@@ -1,23 +1,47 @@
 package profect.eatcloud.domain.payment.dto;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import profect.eatcloud.domain.order.dto.OrderMenu;
 
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * 체크아웃 요청 본문. 중간 Map 없이 JSON 에서 바로 바인딩되고 @Valid 로 같은 단계에서 검증된다.
+ */
 @Getter
 @Builder
+@Jacksonized
 public class CheckoutRequest {
     private final String customerId;
+
+    @NotNull(message = "주문 금액은 필수입니다.")
+    @PositiveOrZero(message = "주문 금액은 0 이상이어야 합니다.")
     private final Integer totalPrice;
-    private final Boolean usePoints;
+
+    @Builder.Default
+    private final Boolean usePoints = false;
+
+    @PositiveOrZero(message = "사용 포인트는 0 이상이어야 합니다.")
     private final Integer pointsToUse;
+
+    @PositiveOrZero(message = "결제 금액은 0 이상이어야 합니다.")
     private final Integer finalPaymentAmount;
-    private final String orderType;
+
+    @Builder.Default
+    private final String orderType = "배달";
+
+    @NotNull(message = "매장 ID는 필수입니다.")
     private final UUID storeId;
-    private final List<OrderMenu> orderMenuList;
+
+    @NotEmpty(message = "주문할 메뉴가 없습니다.")
+    private final List<@Valid OrderMenu> orderMenuList;
     
     public boolean shouldUsePoints() {
         return usePoints != null && usePoints && pointsToUse != null && pointsToUse > 0;
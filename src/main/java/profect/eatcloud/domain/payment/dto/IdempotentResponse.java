@@ -0,0 +1,17 @@
+package profect.eatcloud.domain.payment.dto;
+
+import java.util.Map;
+
+/**
+ * Idempotency-Key 로 캐싱되는 응답. API 응답은 status/body, 화면 응답은 view/body(model) 를 사용한다.
+ */
+public record IdempotentResponse(int status, String view, Map<String, Object> body) {
+
+    public static IdempotentResponse ofBody(int status, Map<String, Object> body) {
+        return new IdempotentResponse(status, null, body);
+    }
+
+    public static IdempotentResponse ofView(String view, Map<String, Object> model) {
+        return new IdempotentResponse(200, view, model);
+    }
+}
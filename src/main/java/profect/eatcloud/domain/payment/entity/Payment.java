@@ -43,7 +43,8 @@ public class Payment extends BaseTimeEntity {
 	@Column(name = "receipt_url", columnDefinition = "TEXT")
 	private String receiptUrl;
 
-	@Column(name = "requested_at")
+	// p_payments 파티션 키
+	@Column(name = "requested_at", nullable = false)
 	private Timestamp requestedAt;
 
 	@Column(name = "approved_at")
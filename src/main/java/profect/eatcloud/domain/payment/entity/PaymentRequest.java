@@ -26,6 +26,13 @@ public class PaymentRequest extends BaseTimeEntity {
     @Column(name = "pg_provider", nullable = false, length = 100)
     private String pgProvider;
 
+    // 콜백 조회용. request_payload 와 같은 값을 인덱스 컬럼으로 둔다
+    @Column(name = "toss_order_id", length = 64)
+    private String tossOrderId;
+
+    @Column(name = "amount")
+    private Integer amount;
+
     @Column(name = "request_payload", columnDefinition = "jsonb")
     @JdbcTypeCode(SqlTypes.JSON)
     private String requestPayload;
@@ -53,4 +60,10 @@ public class PaymentRequest extends BaseTimeEntity {
         this.requestedAt = LocalDateTime.now();
     }
 
+    public PaymentRequest(java.util.UUID orderId, String pgProvider, String tossOrderId, Integer amount) {
+        this(orderId, pgProvider, String.format("{\"tossOrderId\":\"%s\",\"amount\":%d}", tossOrderId, amount));
+        this.tossOrderId = tossOrderId;
+        this.amount = amount;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package profect.eatcloud.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 토스 주문 ID 의 전역 유일성 가드. p_payment_requests 는 파티션 키(requested_at)를 포함한 제약만 가질 수 있어
+ * 비파티션 테이블인 p_payment_request_keys 에 결제 요청 저장과 같은 트랜잭션으로 기록한다.
+ * 항상 새 행으로 insert 되므로(merge 없음) 중복 키는 제약 위반으로 실패한다.
+ */
+@Entity
+@Getter
+@Table(name = "p_payment_request_keys")
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentRequestKey implements Persistable<String> {
+    @Id
+    @Column(name = "toss_order_id", length = 64)
+    private String tossOrderId;
+
+    @Column(name = "payment_request_id", nullable = false)
+    private UUID paymentRequestId;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    public static PaymentRequestKey of(PaymentRequest paymentRequest) {
+        return new PaymentRequestKey(paymentRequest.getTossOrderId(), paymentRequest.getPaymentRequestId(),
+            paymentRequest.getRequestedAt());
+    }
+
+    @Override
+    public String getId() {
+        return tossOrderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package profect.eatcloud.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 포인트 변동 원장 (append-only). 고객 잔액(p_customer.points)은 amount 합계로 다시 만들 수 있다.
+ * 기록은 PointLedgerRepository 의 잔액 변경과 같은 SQL 문에서만 이루어진다.
+ */
+@Entity
+@Getter
+@Table(name = "p_point_ledger")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLedger {
+
+    public enum Type {
+        OPENING, USE, REFUND, CHARGE
+    }
+
+    @Id
+    @Column(name = "ledger_id")
+    private UUID ledgerId;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private Type type;
+
+    // 사용은 음수, 환불/충전은 양수
+    @Column(name = "amount", nullable = false)
+    private Integer amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private Integer balanceAfter;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
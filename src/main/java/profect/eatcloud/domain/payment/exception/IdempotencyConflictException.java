@@ -0,0 +1,7 @@
+package profect.eatcloud.domain.payment.exception;
+
+public class IdempotencyConflictException extends PaymentException {
+    public IdempotencyConflictException(String idempotencyKey) {
+        super("동일한 Idempotency-Key 요청이 처리 중입니다: " + idempotencyKey, "IDEMPOTENCY_IN_PROGRESS");
+    }
+}
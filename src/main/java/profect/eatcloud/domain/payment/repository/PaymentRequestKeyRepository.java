@@ -0,0 +1,9 @@
+package profect.eatcloud.domain.payment.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import profect.eatcloud.domain.payment.entity.PaymentRequestKey;
+
+@Repository
+public interface PaymentRequestKeyRepository extends JpaRepository<PaymentRequestKey, String> {
+}
@@ -1,11 +1,125 @@
 package profect.eatcloud.domain.payment.repository;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import profect.eatcloud.domain.payment.entity.PaymentRequest;
 import profect.eatcloud.global.timeData.BaseTimeRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PaymentRequestRepository extends BaseTimeRepository<PaymentRequest, UUID> {
-}
\ No newline at end of file
+
+    /**
+     * 토스 콜백의 orderId 로 결제 요청 조회. p_payment_request_keys 의 (payment_request_id, requested_at) 로 찾아가므로
+     * requested_at 으로 파티션이 걸러지고, 키 테이블에 남지 않은 이전 중복 행은 조회되지 않는다.
+     */
+    @Query("""
+        SELECT r
+        FROM PaymentRequestKey k, PaymentRequest r
+        WHERE k.tossOrderId = :tossOrderId
+          AND r.paymentRequestId = k.paymentRequestId
+          AND r.requestedAt = k.requestedAt
+          AND r.timeData.deletedAt IS NULL
+        """)
+    Optional<PaymentRequest> findByTossOrderId(String tossOrderId);
+
+    /**
+     * PG 승인 요청 전에 PENDING 결제 요청을 CONFIRMING 으로 선점한다.
+     * 중복 콜백과 만료 sweeper 가 승인 중인 요청을 건드리지 못하게 한다. 선점에 성공하면 1.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE p_payment_requests
+        SET status = 'CONFIRMING', confirming_at = now()
+        WHERE payment_request_id = ?1
+          AND status = 'PENDING'
+        """, nativeQuery = true)
+    int markConfirming(UUID paymentRequestId);
+
+    /**
+     * CONFIRMING 인 결제 요청만 status(PAID / FAILED)로 종결한다. 승인 후 처리, 승인 실패, 재확인이 겹쳐도
+     * 한 번만 종결되며, 종결에 성공한 쪽만 주문 변경/포인트 환불을 수행한다. 이미 종결됐으면 0.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE p_payment_requests
+        SET status = ?2, responded_at = now()
+        WHERE payment_request_id = ?1
+          AND status = 'CONFIRMING'
+        """, nativeQuery = true)
+    int finishConfirming(UUID paymentRequestId, String status);
+
+    /**
+     * cutoff 이전부터 CONFIRMING 인 결제 요청을 최대 batchSize 개 조회한다. idx_payment_requests_confirming 사용.
+     */
+    @Query(value = """
+        SELECT *
+        FROM p_payment_requests
+        WHERE status = 'CONFIRMING'
+          AND (confirming_at IS NULL OR confirming_at < ?1)
+        ORDER BY confirming_at NULLS FIRST
+        LIMIT ?2
+        """, nativeQuery = true)
+    List<PaymentRequest> findStaleConfirming(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * 재확인할 CONFIRMING 요청을 선점한다. confirming_at 을 갱신하므로 실패하면 다음 cutoff 이후에 다시 시도된다.
+     * 다른 인스턴스가 먼저 선점했으면 0.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE p_payment_requests
+        SET confirming_at = now()
+        WHERE payment_request_id = ?1
+          AND status = 'CONFIRMING'
+          AND (confirming_at IS NULL OR confirming_at < ?2)
+        """, nativeQuery = true)
+    int claimStaleConfirming(UUID paymentRequestId, LocalDateTime cutoff);
+
+    /**
+     * 만료 대상 결제 요청 중 아직 PENDING 인 것만 한 번에 CANCELED 로 바꾼다. 변경된 행 수를 반환.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE p_payment_requests
+        SET status = 'CANCELED', responded_at = now(), failure_reason = ?2
+        WHERE payment_request_id IN (?1)
+          AND status = 'PENDING'
+        """, nativeQuery = true)
+    int expirePending(Collection<UUID> paymentRequestIds, String failureReason);
+
+    /**
+     * cutoff 이전에 요청된 PENDING 결제 요청을 최대 batchSize 개 만료시킨다.
+     * Redis 스케줄이 유실된 요청을 정리하는 용도. idx_payment_requests_pending 사용.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        WITH overdue AS (
+            SELECT payment_request_id, requested_at
+            FROM p_payment_requests
+            WHERE status = 'PENDING'
+              AND requested_at < ?1
+            ORDER BY requested_at
+            LIMIT ?2
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE p_payment_requests r
+        SET status = 'CANCELED', responded_at = now(), failure_reason = ?3
+        FROM overdue o
+        WHERE r.payment_request_id = o.payment_request_id
+          AND r.requested_at = o.requested_at
+        """, nativeQuery = true)
+    int expireOverdue(LocalDateTime cutoff, int batchSize, String failureReason);
+}
@@ -0,0 +1,71 @@
+package profect.eatcloud.domain.payment.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.payment.entity.PointLedger;
+
+/**
+ * 포인트 잔액 변경과 원장 기록을 한 SQL 문으로 처리한다.
+ * 조건부 UPDATE 가 행 락을 잡는 것은 이 문장 하나뿐이며, 잔액 읽기-검사-쓰기 사이의 lost update 가 없다.
+ */
+@Repository
+public interface PointLedgerRepository extends JpaRepository<PointLedger, UUID> {
+
+    /**
+     * 잔액이 충분할 때만 차감하고 USE 를 기록한다. 차감 후 잔액, 잔액 부족/고객 없음이면 empty.
+     */
+    @Transactional
+    @Query(value = """
+        WITH updated AS (
+            UPDATE p_customer
+            SET points = points - ?2
+            WHERE id = ?1
+              AND points >= ?2
+            RETURNING id, points
+        )
+        INSERT INTO p_point_ledger (ledger_id, customer_id, order_id, type, amount, balance_after, created_at)
+        SELECT gen_random_uuid(), id, CAST(?3 AS UUID), 'USE', -?2, points, now()
+        FROM updated
+        RETURNING balance_after
+        """, nativeQuery = true)
+    Optional<Integer> deduct(UUID customerId, int points, UUID orderId);
+
+    /**
+     * 잔액을 늘리고 type(REFUND 등)을 기록한다. 증가 후 잔액, 고객이 없으면 empty.
+     */
+    @Transactional
+    @Query(value = """
+        WITH updated AS (
+            UPDATE p_customer
+            SET points = COALESCE(points, 0) + ?2
+            WHERE id = ?1
+            RETURNING id, points
+        )
+        INSERT INTO p_point_ledger (ledger_id, customer_id, order_id, type, amount, balance_after, created_at)
+        SELECT gen_random_uuid(), id, CAST(?3 AS UUID), ?4, ?2, points, now()
+        FROM updated
+        RETURNING balance_after
+        """, nativeQuery = true)
+    Optional<Integer> credit(UUID customerId, int points, UUID orderId, String type);
+
+    /**
+     * 원장 합계로 고객 잔액을 다시 계산한다 (정합성 복구용). 고객이 없으면 0.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE p_customer
+        SET points = (SELECT COALESCE(SUM(l.amount), 0) FROM p_point_ledger l WHERE l.customer_id = ?1)
+        WHERE id = ?1
+        """, nativeQuery = true)
+    int rebuildBalance(UUID customerId);
+
+    List<PointLedger> findAllByCustomerIdOrderByCreatedAtDesc(UUID customerId);
+}
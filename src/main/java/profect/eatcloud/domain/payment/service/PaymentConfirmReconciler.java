@@ -0,0 +1,129 @@
+package profect.eatcloud.domain.payment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
+import profect.eatcloud.domain.payment.entity.PaymentRequest;
+import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CONFIRMING 에 머문 결제 요청 정리. 승인 결과가 불명확했거나(시간 초과, 5xx) 승인 후 DB 처리가 실패한 요청을
+ * 토스 결제 조회로 확정한다.
+ * <pre>
+ * DONE              : complete 재수행 (결제 저장, 주문 결제 완료)
+ * 결제 없음/종결 실패 : abort (주문 취소, 포인트 환불)
+ * 그 밖의 상태        : 다음 주기에 다시 확인
+ * </pre>
+ * 요청마다 confirming_at 을 갱신하는 조건부 UPDATE 로 선점하므로 여러 인스턴스가 같은 요청을 처리하지 않는다.
+ */
+@Slf4j
+@Component
+public class PaymentConfirmReconciler {
+
+    private static final Set<String> FAILED_STATUSES = Set.of("ABORTED", "EXPIRED", "CANCELED");
+
+    private final PaymentRequestRepository paymentRequestRepository;
+    private final TossPaymentService tossPaymentService;
+    private final PaymentConfirmationService paymentConfirmationService;
+    private final Clock clock;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Counter completedCounter;
+    private final Counter abortedCounter;
+    private final Counter failureCounter;
+
+    public PaymentConfirmReconciler(PaymentRequestRepository paymentRequestRepository,
+        TossPaymentService tossPaymentService,
+        PaymentConfirmationService paymentConfirmationService,
+        MeterRegistry meterRegistry,
+        @Value("${payment.confirm.stale-after:2m}") Duration staleAfter,
+        @Value("${payment.confirm.batch-size:100}") int batchSize) {
+        this(paymentRequestRepository, tossPaymentService, paymentConfirmationService, meterRegistry,
+            staleAfter, batchSize, Clock.systemDefaultZone());
+    }
+
+    PaymentConfirmReconciler(PaymentRequestRepository paymentRequestRepository,
+        TossPaymentService tossPaymentService, PaymentConfirmationService paymentConfirmationService,
+        MeterRegistry meterRegistry, Duration staleAfter, int batchSize, Clock clock) {
+        this.paymentRequestRepository = paymentRequestRepository;
+        this.tossPaymentService = tossPaymentService;
+        this.paymentConfirmationService = paymentConfirmationService;
+        this.clock = clock;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.completedCounter = counter(meterRegistry, "completed");
+        this.abortedCounter = counter(meterRegistry, "aborted");
+        this.failureCounter = counter(meterRegistry, "failed");
+    }
+
+    /**
+     * @return 이번 실행에서 완료 또는 취소로 확정된 결제 요청 수
+     */
+    @Scheduled(fixedDelayString = "${payment.confirm.reconcile-interval:1m}")
+    public int reconcile() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(staleAfter);
+        List<PaymentRequest> stale = paymentRequestRepository.findStaleConfirming(cutoff, batchSize);
+
+        int resolved = 0;
+        for (PaymentRequest paymentRequest : stale) {
+            if (paymentRequestRepository.claimStaleConfirming(paymentRequest.getPaymentRequestId(), cutoff) == 0) {
+                continue;
+            }
+            try {
+                if (resolve(paymentRequest)) {
+                    resolved++;
+                }
+            } catch (Exception e) {
+                // confirming_at 이 갱신되었으므로 stale-after 이후 다시 시도된다
+                failureCounter.increment();
+                log.error("결제 재확인 실패 - PaymentRequestId: {}", paymentRequest.getPaymentRequestId(), e);
+            }
+        }
+
+        if (resolved > 0) {
+            log.info("Resolved {} confirming payment requests", resolved);
+        }
+        return resolved;
+    }
+
+    private boolean resolve(PaymentRequest paymentRequest) {
+        if (paymentRequest.getTossOrderId() == null) {
+            log.warn("토스 주문 ID 가 없어 재확인할 수 없음 - PaymentRequestId: {}", paymentRequest.getPaymentRequestId());
+            return false;
+        }
+
+        TossPaymentResponse payment = tossPaymentService.findPaymentByOrderIdAsync(paymentRequest.getTossOrderId())
+            .block();
+        if (payment != null && "DONE".equals(payment.getStatus())) {
+            paymentConfirmationService.complete(paymentRequest, payment);
+            completedCounter.increment();
+            log.info("승인된 결제 완료 처리 - PaymentRequestId: {}", paymentRequest.getPaymentRequestId());
+            return true;
+        }
+        if (payment == null || FAILED_STATUSES.contains(payment.getStatus())) {
+            paymentConfirmationService.abort(paymentRequest);
+            abortedCounter.increment();
+            log.info("승인되지 않은 결제 취소 처리 - PaymentRequestId: {}, TossStatus: {}",
+                paymentRequest.getPaymentRequestId(), payment == null ? null : payment.getStatus());
+            return true;
+        }
+        return false;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("payment.confirm.reconciled")
+            .description("CONFIRMING payment requests re-checked against Toss")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,111 @@
+package profect.eatcloud.domain.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.customer.entity.Customer;
+import profect.eatcloud.domain.customer.repository.CustomerRepository;
+import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.service.OrderService;
+import profect.eatcloud.domain.payment.dto.PaymentCallbackRequest;
+import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
+import profect.eatcloud.domain.payment.entity.Payment;
+import profect.eatcloud.domain.payment.entity.PaymentRequest;
+import profect.eatcloud.domain.payment.exception.PaymentValidationException;
+import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
+import profect.eatcloud.domain.payment.service.PaymentRollbackService.RollbackResult;
+
+import java.util.List;
+
+/**
+ * 결제 승인 전후의 짧은 트랜잭션.
+ * <pre>
+ * begin    : 콜백 검증 후 결제 요청을 CONFIRMING 으로 선점
+ * (PG 승인 요청은 트랜잭션 밖에서 수행)
+ * complete : 결제 요청 CONFIRMING -> PAID, 결제 저장, 주문 결제 완료
+ * abort    : 결제 요청 CONFIRMING -> FAILED, 주문 취소/포인트 환불
+ * cancel   : 실패 콜백. 결제 요청 PENDING -> CANCELED, 주문 취소/포인트 환불
+ * </pre>
+ * 상태 변경은 모두 조건부 UPDATE 라 같은 요청을 두 경로가 동시에 종결하지 못한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PaymentConfirmationService {
+
+    private static final String CANCEL_REASON = "결제 실패 콜백";
+
+    private final PaymentValidationService paymentValidationService;
+    private final PaymentRollbackService paymentRollbackService;
+    private final PaymentService paymentService;
+    private final OrderService orderService;
+    private final CustomerRepository customerRepository;
+    private final PaymentRequestRepository paymentRequestRepository;
+
+    public PaymentRequest begin(PaymentCallbackRequest request) {
+        var validationResult = paymentValidationService.validateCallback(
+            request.getOrderId(), request.getAmount(), request.getPaymentKey());
+
+        if (!validationResult.isSuccess()) {
+            throw new PaymentValidationException("callback", validationResult.getErrorMessage());
+        }
+
+        PaymentRequest paymentRequest = validationResult.getPaymentRequest();
+        if (paymentRequestRepository.markConfirming(paymentRequest.getPaymentRequestId()) == 0) {
+            throw new RuntimeException("이미 처리 중인 결제입니다: " + request.getOrderId());
+        }
+        return paymentRequest;
+    }
+
+    /**
+     * CONFIRMING 을 PAID 로 종결한 경우에만 결제를 저장하고 주문을 결제 완료로 바꾼다.
+     * 이후 단계가 실패하면 트랜잭션과 함께 CONFIRMING 으로 되돌아가 재확인 대상이 된다.
+     */
+    public void complete(PaymentRequest paymentRequest, TossPaymentResponse tossResponse) {
+        if (paymentRequestRepository.finishConfirming(paymentRequest.getPaymentRequestId(), "PAID") == 0) {
+            log.warn("이미 종결된 결제 요청, 승인 후 처리 생략 - PaymentRequestId: {}",
+                paymentRequest.getPaymentRequestId());
+            return;
+        }
+
+        Order order = orderService.findById(paymentRequest.getOrderId())
+            .orElseThrow(() -> new RuntimeException("주문 정보를 찾을 수 없습니다."));
+
+        Customer customer = customerRepository.findById(order.getCustomerId())
+            .orElseThrow(() -> new RuntimeException("고객 정보를 찾을 수 없습니다."));
+
+        Payment savedPayment = paymentService.saveSuccessfulPayment(paymentRequest, customer, tossResponse);
+
+        orderService.completePayment(order.getOrderId(), savedPayment.getPaymentId());
+    }
+
+    /**
+     * CONFIRMING 을 FAILED 로 종결한 경우에만 주문 취소/포인트 환불을 수행한다.
+     * 다른 경로가 먼저 완료하거나 취소한 요청은 건드리지 않아 환불이 중복되지 않는다.
+     */
+    public void abort(PaymentRequest paymentRequest) {
+        if (paymentRequestRepository.finishConfirming(paymentRequest.getPaymentRequestId(), "FAILED") == 0) {
+            log.warn("이미 종결된 결제 요청, 롤백 생략 - PaymentRequestId: {}", paymentRequest.getPaymentRequestId());
+            return;
+        }
+
+        var rollbackResult = paymentRollbackService.rollbackByOrderId(paymentRequest.getOrderId(), "FAILED");
+        if (!rollbackResult.isSuccess()) {
+            log.error("결제 승인 실패 후 롤백 실패 - PaymentRequestId: {}, Error: {}",
+                paymentRequest.getPaymentRequestId(), rollbackResult.getErrorMessage());
+        }
+    }
+
+    /**
+     * 결제 실패 콜백. 아직 PENDING 인 요청만 CANCELED 로 바꾸고 주문 취소/포인트 환불을 수행한다.
+     * 승인 중이거나 종결된 요청은 토스에서 결제됐을 수 있으므로 거부한다.
+     */
+    public RollbackResult cancel(PaymentRequest paymentRequest) {
+        if (paymentRequestRepository.expirePending(List.of(paymentRequest.getPaymentRequestId()), CANCEL_REASON) == 0) {
+            return RollbackResult.failure("이미 처리 중이거나 처리된 결제입니다. 상태: " + paymentRequest.getStatus());
+        }
+        return paymentRollbackService.rollbackByOrderId(paymentRequest.getOrderId(), "CANCELED");
+    }
+}
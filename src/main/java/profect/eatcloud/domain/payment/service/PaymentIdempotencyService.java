@@ -0,0 +1,208 @@
+package profect.eatcloud.domain.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import profect.eatcloud.domain.payment.dto.IdempotentResponse;
+import profect.eatcloud.domain.payment.exception.IdempotencyConflictException;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 응답 캐시 (체크아웃, 결제 성공/실패 콜백).
+ * <pre>
+ * 첫 요청 : SET NX 로 IN_PROGRESS 표시 후 처리, 결과를 ttl 동안 저장
+ * 재요청 : 저장된 결과를 그대로 반환 (DB 접근 없음)
+ * 처리 중 : IdempotencyConflictException
+ * </pre>
+ * 처리 중 예외가 나면 표시를 지워 같은 키로 재시도할 수 있게 한다.
+ * 키가 없거나 Redis 장애 중이면 캐시 없이 그대로 처리한다. 회로가 닫혀 있는 중에 Redis 호출이
+ * 실패해도 RedisHealthMonitor 에 기록하고 캐시 없이 처리한다.
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+
+    static final String KEY_PREFIX = "idempotency:";
+    static final String IN_PROGRESS = "IN_PROGRESS";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+    private final Counter replayCounter;
+
+    public PaymentIdempotencyService(StringRedisTemplate stringRedisTemplate,
+        RedisHealthMonitor redisHealthMonitor,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${payment.idempotency.ttl:24h}") Duration ttl,
+        @Value("${payment.idempotency.lock-ttl:30s}") Duration lockTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+        this.replayCounter = Counter.builder("payment.idempotency.replayed")
+            .description("Requests answered from the idempotency cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param scope          checkout, success, fail 등 엔드포인트 구분
+     * @param owner          고객 ID 또는 토스 주문 ID. 다른 사용자의 키와 섞이지 않게 한다
+     * @param idempotencyKey 클라이언트가 보낸 키. null 이면 캐시하지 않는다
+     */
+    public IdempotentResponse execute(String scope, String owner, String idempotencyKey,
+        Supplier<IdempotentResponse> action) {
+        if (isBlank(owner) || isBlank(idempotencyKey) || !redisHealthMonitor.isAvailable()) {
+            return action.get();
+        }
+
+        String key = key(scope, owner, idempotencyKey);
+        String stored;
+        try {
+            stored = claim(key, idempotencyKey);
+        } catch (IdempotencyConflictException e) {
+            throw e;
+        } catch (Exception e) {
+            recordClaimFailure(key, e);
+            return action.get();
+        }
+        if (stored != null) {
+            return replay(stored);
+        }
+
+        IdempotentResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+
+        store(key, response);
+        return response;
+    }
+
+    /**
+     * execute 의 비동기 버전. 결과는 future 가 완료될 때 저장하고, 예외로 끝나면 표시를 지운다.
+     */
+    public CompletableFuture<IdempotentResponse> executeAsync(String scope, String owner, String idempotencyKey,
+        Supplier<CompletableFuture<IdempotentResponse>> action) {
+        if (isBlank(owner) || isBlank(idempotencyKey) || !redisHealthMonitor.isAvailable()) {
+            return action.get();
+        }
+
+        String key = key(scope, owner, idempotencyKey);
+        String stored;
+        try {
+            stored = claim(key, idempotencyKey);
+        } catch (IdempotencyConflictException e) {
+            throw e;
+        } catch (Exception e) {
+            recordClaimFailure(key, e);
+            return action.get();
+        }
+        if (stored != null) {
+            return CompletableFuture.completedFuture(replay(stored));
+        }
+
+        CompletableFuture<IdempotentResponse> future;
+        try {
+            future = action.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+
+        return future.whenComplete((response, error) -> {
+            if (error != null) {
+                release(key);
+            } else {
+                store(key, response);
+            }
+        });
+    }
+
+    /**
+     * 키를 IN_PROGRESS 로 선점한다. 선점하면 null, 이미 저장된 결과가 있으면 저장된 값을 반환한다.
+     * Redis 호출 실패는 그대로 던져 호출부가 캐시 없이 처리하게 한다.
+     */
+    private String claim(String key, String idempotencyKey) {
+        // 조회 직전에 만료/삭제된 경우를 위해 한 번 더 선점을 시도한다
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, IN_PROGRESS, lockTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                redisHealthMonitor.recordSuccess();
+                return null;
+            }
+
+            String stored = stringRedisTemplate.opsForValue().get(key);
+            if (stored == null) {
+                continue;
+            }
+            redisHealthMonitor.recordSuccess();
+            if (IN_PROGRESS.equals(stored)) {
+                throw new IdempotencyConflictException(idempotencyKey);
+            }
+            return stored;
+        }
+        throw new IdempotencyConflictException(idempotencyKey);
+    }
+
+    private void recordClaimFailure(String key, Exception e) {
+        // 회로가 아직 닫혀 있어도 이번 요청은 캐시 없이 처리한다
+        redisHealthMonitor.recordFailure(e);
+        log.warn("Idempotency claim failed, processing without cache: key={}, error={}", key, e.getMessage());
+    }
+
+    private IdempotentResponse replay(String stored) {
+        replayCounter.increment();
+        return read(stored);
+    }
+
+    private void release(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception e) {
+            // 원래 예외를 가리지 않는다. 표시는 lock-ttl 후 만료된다
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Failed to release idempotency key: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private void store(String key, IdempotentResponse response) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), ttl);
+        } catch (Exception e) {
+            // 응답은 이미 만들어졌으므로 캐시 저장 실패로 요청을 실패시키지 않는다. 표시는 lock-ttl 후 만료된다
+            log.warn("Failed to store idempotent response: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private String key(String scope, String owner, String idempotencyKey) {
+        return KEY_PREFIX + scope + ":" + owner + ":" + idempotencyKey;
+    }
+
+    private IdempotentResponse read(String stored) {
+        try {
+            return objectMapper.readValue(stored, IdempotentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 Idempotency 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
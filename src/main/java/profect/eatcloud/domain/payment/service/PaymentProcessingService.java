@@ -1,22 +1,22 @@
 package profect.eatcloud.domain.payment.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import profect.eatcloud.domain.customer.entity.Customer;
-import profect.eatcloud.domain.customer.repository.CustomerRepository;
-import profect.eatcloud.domain.order.dto.OrderMenu;
 import profect.eatcloud.domain.order.entity.Order;
 import profect.eatcloud.domain.order.service.OrderService;
 import profect.eatcloud.domain.payment.dto.*;
-import profect.eatcloud.domain.payment.entity.Payment;
 import profect.eatcloud.domain.payment.entity.PaymentRequest;
 import profect.eatcloud.domain.payment.util.OrderDataParser;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -26,20 +26,17 @@ public class PaymentProcessingService {
 
     private final PaymentAuthenticationService paymentAuthenticationService;
     private final PaymentValidationService paymentValidationService;
-    private final PaymentRollbackService paymentRollbackService;
     private final TossPaymentService tossPaymentService;
     private final PaymentService paymentService;
     private final PointService pointService;
     private final OrderService orderService;
-    private final CustomerRepository customerRepository;
+    private final PaymentConfirmationService paymentConfirmationService;
 
     @Value("${toss.client-key}")
     private String clientKey;
 
-    public CheckoutResponse processCheckout(String orderDataJson) {
+    public CheckoutResponse processCheckout(CheckoutRequest request) {
         try {
-            CheckoutRequest request = parseCheckoutRequest(orderDataJson);
-
             var authResult = paymentAuthenticationService.validateCustomerForPayment(request.getCustomerId());
             if (!authResult.isSuccess()) {
                 throw new RuntimeException(authResult.getErrorMessage());
@@ -49,25 +46,27 @@ public class PaymentProcessingService {
                 authResult.getCustomerId(),
                 request.getStoreId(),
                 request.getOrderMenuList(),
-                convertOrderTypeToCode(request.getOrderType()),
+                OrderDataParser.convertOrderTypeToCode(request.getOrderType()),
                 request.getUsePoints(),
                 request.getPointsToUseOrZero()
             );
 
+            String tossOrderId = OrderDataParser.generateTossOrderId(createdOrder.getOrderId());
+            int finalAmount = request.getFinalPaymentAmountOrTotal();
+            
+            if (finalAmount > 0) {
+                paymentValidationService.savePaymentRequest(createdOrder.getOrderId(), tossOrderId, finalAmount);
+            }
+
+            // 고객 행 락을 커밋 직전까지만 잡도록 포인트 차감을 마지막 쓰기로 둔다
             if (request.shouldUsePoints()) {
-                var pointResult = pointService.usePoints(authResult.getCustomerId(), request.getPointsToUseOrZero());
+                var pointResult = pointService.usePoints(authResult.getCustomerId(), request.getPointsToUseOrZero(),
+                    createdOrder.getOrderId());
                 if (!pointResult.isSuccess()) {
                     orderService.cancelOrder(createdOrder.getOrderId());
                     throw new RuntimeException(pointResult.getErrorMessage());
                 }
             }
-            
-            String tossOrderId = generateTossOrderId(createdOrder.getOrderId());
-            int finalAmount = request.getFinalPaymentAmountOrTotal();
-            
-            if (finalAmount > 0) {
-                paymentValidationService.savePaymentRequest(createdOrder.getOrderId(), tossOrderId, finalAmount);
-            }
 
             return CheckoutResponse.builder()
                 .orderId(tossOrderId)
@@ -118,37 +117,51 @@ public class PaymentProcessingService {
     }
 
 
-    public void processPaymentSuccess(PaymentCallbackRequest request) {
-        var validationResult = paymentValidationService.validateCallback(
-            request.getOrderId(), request.getAmount(), request.getPaymentKey());
-        
-        if (!validationResult.isSuccess()) {
-            throw new RuntimeException(validationResult.getErrorMessage());
-        }
-        
+    /**
+     * 결제 성공 콜백 처리. PG 승인 요청은 트랜잭션 밖에서 non-blocking 으로 수행하고,
+     * DB 작업은 승인 전(begin)/후(complete, abort)의 짧은 트랜잭션으로 나눈다.
+     * <pre>
+     * 승인 거절(확정)      : abort (주문 취소, 포인트 환불)
+     * 승인 여부 불명       : CONFIRMING 유지 (시간 초과, 5xx)
+     * 승인 후 complete 실패 : CONFIRMING 유지 (토스에서는 이미 결제됨)
+     * </pre>
+     * CONFIRMING 으로 남은 요청은 PaymentConfirmReconciler 가 토스 결제 조회로 완료하거나 취소한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> processPaymentSuccess(PaymentCallbackRequest request) {
+        PaymentRequest paymentRequest;
         try {
-            var tossResponse = tossPaymentService.confirmPayment(
-                request.getPaymentKey(), request.getOrderId(), request.getAmount());
-
-            PaymentRequest paymentRequest = validationResult.getPaymentRequest();
-            UUID internalOrderId = paymentRequest.getOrderId();
-            
-            Order order = orderService.findById(internalOrderId)
-                .orElseThrow(() -> new RuntimeException("주문 정보를 찾을 수 없습니다."));
-            
-            Customer customer = customerRepository.findById(order.getCustomerId())
-                .orElseThrow(() -> new RuntimeException("고객 정보를 찾을 수 없습니다."));
-            
-            Payment savedPayment = paymentService.saveSuccessfulPayment(paymentRequest, customer, tossResponse);
-            
-            orderService.completePayment(internalOrderId, savedPayment.getPaymentId());
-            
-            paymentValidationService.updatePaymentStatus(paymentRequest.getPaymentRequestId(), "COMPLETED");
-            
+            paymentRequest = paymentConfirmationService.begin(request);
         } catch (Exception e) {
-            handlePaymentFailureRollback(request);
-            throw new RuntimeException("결제 처리 중 오류가 발생했습니다: " + e.getMessage());
+            return CompletableFuture.failedFuture(e);
         }
+
+        return Mono.defer(() -> tossPaymentService.confirmPaymentAsync(
+                request.getPaymentKey(), request.getOrderId(), request.getAmount()))
+            // 이후 JDBC 작업은 이벤트 루프가 아닌 별도 스레드에서 수행
+            .publishOn(Schedulers.boundedElastic())
+            // complete 보다 앞에 두어 PG 오류만 받는다
+            .doOnError(e -> {
+                if (TossPaymentService.isDefinitiveFailure(e)) {
+                    log.error("결제 승인 거절 - PaymentRequestId: {}", paymentRequest.getPaymentRequestId(), e);
+                    paymentConfirmationService.abort(paymentRequest);
+                } else {
+                    log.error("결제 승인 결과 불명, 재확인 대기 - PaymentRequestId: {}",
+                        paymentRequest.getPaymentRequestId(), e);
+                }
+            })
+            .doOnNext(tossResponse -> {
+                try {
+                    paymentConfirmationService.complete(paymentRequest, tossResponse);
+                } catch (RuntimeException e) {
+                    log.error("결제 승인 후 처리 실패, 재확인 대기 - PaymentRequestId: {}",
+                        paymentRequest.getPaymentRequestId(), e);
+                    throw e;
+                }
+            })
+            .onErrorMap(e -> new RuntimeException("결제 처리 중 오류가 발생했습니다: " + e.getMessage(), e))
+            .then()
+            .toFuture();
     }
 
     public Map<String, Object> processPaymentFailure(PaymentCallbackRequest request) {
@@ -160,10 +173,10 @@ public class PaymentProcessingService {
                 
                 if (savedRequest.isPresent()) {
                     PaymentRequest paymentRequest = savedRequest.get();
-                    var rollbackResult = paymentRollbackService.rollbackPayment(paymentRequest, "CANCELED");
+                    var rollbackResult = paymentConfirmationService.cancel(paymentRequest);
                     
                     result.put("rollbackCompleted", rollbackResult.isSuccess());
-                    result.put("internalOrderId", rollbackResult.getOrderId().toString());
+                    result.put("internalOrderId", paymentRequest.getOrderId().toString());
                     
                     if (rollbackResult.isSuccess()) {
                         result.put("refundedPoints", rollbackResult.getRefundedPoints());
@@ -187,85 +200,4 @@ public class PaymentProcessingService {
         
         return result;
     }
-    
-    private CheckoutRequest parseCheckoutRequest(String orderDataJson) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Object> orderData = objectMapper.readValue(orderDataJson, Map.class);
-            
-            String customerIdFromForm = (String) orderData.get("customerId");
-            Integer totalAmount = (Integer) orderData.get("totalPrice");
-            Boolean usePoints = (Boolean) orderData.getOrDefault("usePoints", false);
-            Integer pointsToUse = (Integer) orderData.getOrDefault("pointsToUse", 0);
-            Integer finalPaymentAmount = (Integer) orderData.getOrDefault("finalPaymentAmount", totalAmount);
-            String orderTypeInput = (String) orderData.getOrDefault("orderType", "배달");
-            
-            UUID storeId = orderData.get("storeId") != null ? 
-                UUID.fromString((String) orderData.get("storeId")) :
-                UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
-            
-            List<OrderMenu> orderMenuList = parseOrderMenuList(orderData);
-            
-            return CheckoutRequest.builder()
-                .customerId(customerIdFromForm)
-                .totalPrice(totalAmount)
-                .usePoints(usePoints)
-                .pointsToUse(pointsToUse)
-                .finalPaymentAmount(finalPaymentAmount)
-                .orderType(orderTypeInput)
-                .storeId(storeId)
-                .orderMenuList(orderMenuList)
-                .build();
-                
-        } catch (Exception e) {
-            throw new RuntimeException("주문 데이터 파싱 중 오류가 발생했습니다: " + e.getMessage());
-        }
-    }
-    
-    @SuppressWarnings("unchecked")
-    private List<OrderMenu> parseOrderMenuList(Map<String, Object> orderData) {
-        List<Map<String, Object>> itemsData = (List<Map<String, Object>>) orderData.get("orderMenuList");
-        List<OrderMenu> orderMenuList = new ArrayList<>();
-        
-        if (itemsData != null) {
-            for (Map<String, Object> item : itemsData) {
-                OrderMenu orderMenu = OrderMenu.builder()
-                    .menuId(UUID.fromString((String) item.get("menuId")))
-                    .menuName((String) item.get("menuName"))
-                    .price((Integer) item.get("price"))
-                    .quantity((Integer) item.get("quantity"))
-                    .build();
-                orderMenuList.add(orderMenu);
-            }
-        }
-        
-        return orderMenuList;
-    }
-    
-    private String generateTossOrderId(UUID orderId) {
-        return "TOSS_" + orderId.toString().replace("-", "").substring(0, 16).toUpperCase();
-    }
-    
-    private String convertOrderTypeToCode(String displayName) {
-        return switch (displayName) {
-            case "배달" -> "DELIVERY";
-            case "픽업" -> "PICKUP";
-            case "매장 식사" -> "DINE_IN";
-            default -> displayName;
-        };
-    }
-    
-    private void handlePaymentFailureRollback(PaymentCallbackRequest request) {
-        try {
-            var validationResult = paymentValidationService.validateCallback(
-                request.getOrderId(), request.getAmount(), request.getPaymentKey());
-            
-            if (validationResult.isSuccess()) {
-                PaymentRequest paymentRequest = validationResult.getPaymentRequest();
-                paymentRollbackService.rollbackPayment(paymentRequest, "FAILED");
-            }
-        } catch (Exception rollbackException) {
-            log.error("결제 성공 처리 중 롤백 실패", rollbackException);
-        }
-    }
 }
@@ -44,7 +44,7 @@ public class PaymentRollbackService {
             if (order.getUsePoints() != null && order.getUsePoints() &&
                 order.getPointsToUse() != null && order.getPointsToUse() > 0) {
                 
-                var pointResult = pointService.refundPoints(customer.getId(), order.getPointsToUse());
+                var pointResult = pointService.refundPoints(customer.getId(), order.getPointsToUse(), order.getOrderId());
                 
                 if (pointResult.isSuccess()) {
                     log.info("포인트 롤백 완료 - CustomerId: {}, RefundedPoints: {}", 
@@ -82,7 +82,7 @@ public class PaymentRollbackService {
             if (order.getUsePoints() != null && order.getUsePoints() &&
                 order.getPointsToUse() != null && order.getPointsToUse() > 0) {
                 
-                var pointResult = pointService.refundPoints(customer.getId(), order.getPointsToUse());
+                var pointResult = pointService.refundPoints(customer.getId(), order.getPointsToUse(), order.getOrderId());
                 
                 if (pointResult.isSuccess()) {
                     log.info("포인트 롤백 완료 - CustomerId: {}, RefundedPoints: {}", 
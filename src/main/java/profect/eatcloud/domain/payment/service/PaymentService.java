@@ -1,7 +1,6 @@
 package profect.eatcloud.domain.payment.service;
 
 import lombok.AllArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import profect.eatcloud.domain.customer.entity.Customer;
@@ -13,10 +12,10 @@ import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
 import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
 import profect.eatcloud.domain.globalCategory.entity.PaymentStatusCode;
 import profect.eatcloud.domain.globalCategory.entity.PaymentMethodCode;
-import profect.eatcloud.domain.globalCategory.repository.PaymentStatusCodeRepository;
-import profect.eatcloud.domain.globalCategory.repository.PaymentMethodCodeRepository;
+import profect.eatcloud.domain.globalCategory.service.CodeRegistry;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -28,10 +27,9 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final PaymentRequestRepository paymentRequestRepository;
     private final CustomerRepository customerRepository;
-    private final PaymentStatusCodeRepository paymentStatusCodeRepository;
-    private final PaymentMethodCodeRepository paymentMethodCodeRepository;
-    private static final long PAYMENT_TIMEOUT_MS = 5 * 60 * 1000;
-    private static final long TEST_PAYMENT_TIMEOUT_MS = 10 * 1000;
+    private final CodeRegistry codeRegistry;
+    private final PaymentTimeoutScheduler paymentTimeoutScheduler;
+    private static final Duration TEST_PAYMENT_TIMEOUT = Duration.ofSeconds(10);
 
     @Transactional
     public Payment saveSuccessfulPayment(PaymentRequest paymentRequest, Customer customer, TossPaymentResponse tossResponse) {
@@ -50,13 +48,13 @@ public class PaymentService {
             approvedTime = Timestamp.valueOf(LocalDateTime.now());
         }
 
-        PaymentStatusCode paidStatus = paymentStatusCodeRepository.findByCode("PAID")
+        PaymentStatusCode paidStatus = codeRegistry.find(PaymentStatusCode.class, "PAID")
                 .orElseThrow(() -> new RuntimeException("결제 상태 코드를 찾을 수 없습니다: PAID"));
 
         String methodCode = mapTossMethodToCode(tossResponse.getMethod());
-        PaymentMethodCode paymentMethod = paymentMethodCodeRepository.findByCode(methodCode)
-                .orElse(paymentMethodCodeRepository.findByCode("CARD")
-                        .orElseThrow(() -> new RuntimeException("기본 결제 방법 코드를 찾을 수 없습니다: CARD")));
+        PaymentMethodCode paymentMethod = codeRegistry.find(PaymentMethodCode.class, methodCode)
+                .or(() -> codeRegistry.find(PaymentMethodCode.class, "CARD"))
+                .orElseThrow(() -> new RuntimeException("기본 결제 방법 코드를 찾을 수 없습니다: CARD"));
 
         Payment payment = Payment.builder()
                 .totalAmount(tossResponse.getTotalAmount())
@@ -86,41 +84,21 @@ public class PaymentService {
         };
     }
 
-    @Async
+    /**
+     * 결제 요청 만료를 예약한다. 실제 만료는 PaymentTimeoutScheduler 가 배치로 처리한다.
+     */
     public CompletableFuture<Void> schedulePaymentTimeout(UUID paymentRequestId) {
-        return schedulePaymentTimeout(paymentRequestId, false);
+        paymentTimeoutScheduler.schedule(paymentRequestId);
+        return CompletableFuture.completedFuture(null);
     }
 
-    @Async
     public CompletableFuture<Void> schedulePaymentTimeout(UUID paymentRequestId, boolean testMode) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                long timeoutMs = testMode ? TEST_PAYMENT_TIMEOUT_MS : PAYMENT_TIMEOUT_MS;
-                Thread.sleep(timeoutMs);
-                updateExpiredPaymentRequest(paymentRequestId);
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                System.err.println("Payment timeout task interrupted: " + e.getMessage());
-            } catch (Exception e) {
-                System.err.println("Error in payment timeout task: " + e.getMessage());
-            }
-        });
-    }
-
-    @Transactional
-    public void updateExpiredPaymentRequest(UUID paymentRequestId) {
-        paymentRequestRepository.findById(paymentRequestId)
-                .ifPresent(paymentRequest -> {
-                    if ("PENDING".equals(paymentRequest.getStatus())) {
-                        paymentRequest.setStatus("CANCELED");
-                        paymentRequest.setRespondedAt(LocalDateTime.now());
-                        paymentRequest.setFailureReason("Payment timeout - No response within 5 minutes");
-                        paymentRequestRepository.save(paymentRequest);
-                        
-                        System.out.println("Payment request " + paymentRequestId + " expired and set to CANCELED");
-                    }
-                });
+        if (testMode) {
+            paymentTimeoutScheduler.schedule(paymentRequestId, TEST_PAYMENT_TIMEOUT);
+        } else {
+            paymentTimeoutScheduler.schedule(paymentRequestId);
+        }
+        return CompletableFuture.completedFuture(null);
     }
 
     @Transactional
@@ -0,0 +1,167 @@
+package profect.eatcloud.domain.payment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 결제 요청 만료 스케줄러.
+ * <pre>
+ * schedule  : Redis ZSET(payment:timeouts) 에 만료 시각을 score 로 등록
+ * sweep     : 만료 시각이 지난 요청을 배치 단위로 한 번의 UPDATE 로 CANCELED 처리 후 ZSET 에서 제거
+ * reconcile : Redis 유실/장애로 빠진 요청을 DB(requested_at, status) 기준으로 정리
+ * </pre>
+ * 만료 처리는 status = 'PENDING' 조건부 UPDATE 이므로 여러 인스턴스가 같은 요청을 처리해도 안전하다.
+ */
+@Slf4j
+@Component
+public class PaymentTimeoutScheduler {
+
+    static final String TIMEOUT_KEY = "payment:timeouts";
+    static final String FAILURE_REASON = "Payment timeout - No response within the allowed time";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final PaymentRequestRepository paymentRequestRepository;
+    private final Clock clock;
+    private final Duration timeout;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter expiredCounter;
+
+    public PaymentTimeoutScheduler(StringRedisTemplate stringRedisTemplate,
+        RedisHealthMonitor redisHealthMonitor,
+        PaymentRequestRepository paymentRequestRepository,
+        MeterRegistry meterRegistry,
+        @Value("${payment.timeout.duration:5m}") Duration timeout,
+        @Value("${payment.timeout.batch-size:1000}") int batchSize,
+        @Value("${payment.timeout.max-batches:20}") int maxBatches) {
+        this(stringRedisTemplate, redisHealthMonitor, paymentRequestRepository, meterRegistry,
+            timeout, batchSize, maxBatches, Clock.systemDefaultZone());
+    }
+
+    PaymentTimeoutScheduler(StringRedisTemplate stringRedisTemplate, RedisHealthMonitor redisHealthMonitor,
+        PaymentRequestRepository paymentRequestRepository, MeterRegistry meterRegistry,
+        Duration timeout, int batchSize, int maxBatches, Clock clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.paymentRequestRepository = paymentRequestRepository;
+        this.clock = clock;
+        this.timeout = timeout;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.expiredCounter = Counter.builder("payment.timeout.expired")
+            .description("Pending payment requests canceled after their timeout")
+            .register(meterRegistry);
+    }
+
+    public void schedule(UUID paymentRequestId) {
+        schedule(paymentRequestId, timeout);
+    }
+
+    /**
+     * Redis 장애 중에는 등록하지 않는다. 해당 요청은 reconcile 에서 만료된다.
+     */
+    public void schedule(UUID paymentRequestId, Duration delay) {
+        if (!redisHealthMonitor.isAvailable()) {
+            return;
+        }
+        try {
+            long dueAt = clock.millis() + delay.toMillis();
+            stringRedisTemplate.opsForZSet().add(TIMEOUT_KEY, paymentRequestId.toString(), dueAt);
+            redisHealthMonitor.recordSuccess();
+        } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Failed to schedule payment timeout: paymentRequestId={}, error={}",
+                paymentRequestId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 만료 처리된 결제 요청 수
+     */
+    @Scheduled(fixedDelayString = "${payment.timeout.sweep-interval:5s}")
+    public int sweep() {
+        if (!redisHealthMonitor.isAvailable()) {
+            return 0;
+        }
+
+        int expired = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Set<String> due;
+            try {
+                due = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(TIMEOUT_KEY, 0, clock.millis(), 0, batchSize);
+                redisHealthMonitor.recordSuccess();
+            } catch (Exception e) {
+                // 남은 요청은 다음 주기 또는 reconcile 에서 만료된다
+                redisHealthMonitor.recordFailure(e);
+                log.warn("Failed to read payment timeouts: error={}", e.getMessage());
+                break;
+            }
+            if (due == null || due.isEmpty()) {
+                break;
+            }
+
+            List<UUID> ids = due.stream().map(UUID::fromString).toList();
+            expired += paymentRequestRepository.expirePending(ids, FAILURE_REASON);
+            // UPDATE 가 커밋된 뒤에만 제거하므로 실패하면 다음 주기에 다시 처리된다
+            try {
+                stringRedisTemplate.opsForZSet().remove(TIMEOUT_KEY, due.toArray());
+                redisHealthMonitor.recordSuccess();
+            } catch (Exception e) {
+                // 남은 항목은 다음 주기에 다시 읽히지만 조건부 UPDATE 라 중복 만료되지 않는다
+                redisHealthMonitor.recordFailure(e);
+                log.warn("Failed to remove expired payment timeouts: error={}", e.getMessage());
+                break;
+            }
+
+            if (due.size() < batchSize) {
+                break;
+            }
+        }
+
+        record(expired, "sweep");
+        return expired;
+    }
+
+    /**
+     * @return 이번 실행에서 만료 처리된 결제 요청 수
+     */
+    @Scheduled(fixedDelayString = "${payment.timeout.reconcile-interval:1m}")
+    public int reconcile() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(timeout);
+        int expired = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int affected = paymentRequestRepository.expireOverdue(cutoff, batchSize, FAILURE_REASON);
+            expired += affected;
+            if (affected < batchSize) {
+                break;
+            }
+        }
+
+        record(expired, "reconcile");
+        return expired;
+    }
+
+    private void record(int expired, String source) {
+        if (expired > 0) {
+            expiredCounter.increment(expired);
+            log.info("Expired {} pending payment requests ({})", expired, source);
+        }
+    }
+}
@@ -6,21 +6,25 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import profect.eatcloud.domain.payment.entity.PaymentRequest;
+import profect.eatcloud.domain.payment.entity.PaymentRequestKey;
+import profect.eatcloud.domain.payment.repository.PaymentRequestKeyRepository;
 import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
 import java.util.UUID;
 import java.util.Optional;
-import java.util.List;
 
 @Service
 public class PaymentValidationService {
 
     private final PaymentRequestRepository paymentRequestRepository;
+    private final PaymentRequestKeyRepository paymentRequestKeyRepository;
     private final PaymentService paymentService;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private static final Integer MAX_AMOUNT = 100_000_000;
 
-    public PaymentValidationService(PaymentRequestRepository paymentRequestRepository, PaymentService paymentService) {
+    public PaymentValidationService(PaymentRequestRepository paymentRequestRepository,
+            PaymentRequestKeyRepository paymentRequestKeyRepository, PaymentService paymentService) {
         this.paymentRequestRepository = paymentRequestRepository;
+        this.paymentRequestKeyRepository = paymentRequestKeyRepository;
         this.paymentService = paymentService;
     }
 
@@ -34,9 +38,10 @@ public class PaymentValidationService {
         if (amount == null || amount <= 0) {
             throw new IllegalArgumentException("결제 금액은 0보다 커야 합니다");
         }
-        String requestPayload = String.format("{\"tossOrderId\":\"%s\",\"amount\":%d}", tossOrderId, amount);
-        PaymentRequest paymentRequest = new PaymentRequest(orderId, "TOSS", requestPayload);
+        PaymentRequest paymentRequest = new PaymentRequest(orderId, "TOSS", tossOrderId, amount);
         PaymentRequest savedRequest = paymentRequestRepository.save(paymentRequest);
+        // 같은 토스 주문 ID 가 이미 있으면 여기서 제약 위반으로 실패한다
+        paymentRequestKeyRepository.saveAndFlush(PaymentRequestKey.of(savedRequest));
         
         paymentService.schedulePaymentTimeout(savedRequest.getPaymentRequestId());
         
@@ -60,12 +65,15 @@ public class PaymentValidationService {
 
         PaymentRequest request = savedRequest.get();
 
-        if (!"PENDING".equals(request.getStatus())) {
+        // 승인 중(CONFIRMING)인 요청은 begin 의 선점 실패로 처리해 종결된 실패로 남지 않게 한다
+        if (!"PENDING".equals(request.getStatus()) && !"CONFIRMING".equals(request.getStatus())) {
             return ValidationResult.fail("이미 처리된 결제입니다. 상태: " + request.getStatus());
         }
 
         try {
-            Integer savedAmount = extractAmount(request.getRequestPayload());
+            Integer savedAmount = request.getAmount() != null
+                    ? request.getAmount()
+                    : extractAmount(request.getRequestPayload());
             if (!savedAmount.equals(callbackAmount)) {
                 return ValidationResult.fail(String.format("결제 금액이 일치하지 않습니다. 저장된 금액: %d, 콜백 금액: %d",
                         savedAmount, callbackAmount));
@@ -78,30 +86,7 @@ public class PaymentValidationService {
     }
 
     public Optional<PaymentRequest> findByTossOrderId(String tossOrderId) {
-        try {
-            List<PaymentRequest> requests = paymentRequestRepository.findAll();
-
-            return requests.stream()
-                    .filter(req -> {
-                        try {
-                            if (req.getRequestPayload() == null) {
-                                return false;
-                            }
-
-                            JsonNode jsonNode = objectMapper.readTree(req.getRequestPayload());
-                            if (jsonNode.has("tossOrderId")) {
-                                String savedTossOrderId = jsonNode.get("tossOrderId").asText();
-                                return tossOrderId.equals(savedTossOrderId);
-                            }
-                            return false;
-                        } catch (Exception e) {
-                            return false;
-                        }
-                    })
-                    .findFirst();
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return paymentRequestRepository.findByTossOrderId(tossOrderId);
     }
 
     private Integer extractAmount(String payload) throws Exception {
@@ -1,10 +1,12 @@
 package profect.eatcloud.domain.payment.service;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import profect.eatcloud.domain.customer.entity.Customer;
 import profect.eatcloud.domain.customer.repository.CustomerRepository;
+import profect.eatcloud.domain.payment.entity.PointLedger;
+import profect.eatcloud.domain.payment.repository.PointLedgerRepository;
 import java.util.UUID;
 import java.util.Optional;
 
@@ -12,9 +14,11 @@ import java.util.Optional;
 public class PointService {
 
     private final CustomerRepository customerRepository;
+    private final PointLedgerRepository pointLedgerRepository;
 
-    public PointService(CustomerRepository customerRepository) {
+    public PointService(CustomerRepository customerRepository, PointLedgerRepository pointLedgerRepository) {
         this.customerRepository = customerRepository;
+        this.pointLedgerRepository = pointLedgerRepository;
     }
 
     public boolean canUsePoints(UUID customerId, Integer pointsToUse) {
@@ -31,46 +35,54 @@ public class PointService {
         return currentPoints != null && currentPoints >= pointsToUse;
     }
 
-    public PointResult usePoints(UUID customerId, Integer pointsToUse) {
+    /**
+     * 잔액 확인과 차감을 조건부 UPDATE 한 문장으로 처리해 동시 체크아웃이 같은 잔액을 쓰지 못하게 한다.
+     */
+    @Transactional
+    public PointResult usePoints(UUID customerId, Integer pointsToUse, UUID orderId) {
         if (customerId == null || pointsToUse == null || pointsToUse <= 0) {
             return PointResult.fail("유효하지 않은 포인트 사용 요청입니다");
         }
-        
+
+        Optional<Integer> remaining = pointLedgerRepository.deduct(customerId, pointsToUse, orderId);
+        if (remaining.isPresent()) {
+            return PointResult.success(pointsToUse, remaining.get());
+        }
+
+        // 실패 원인 안내용 조회 (락 없음)
         Optional<Customer> customerOpt = customerRepository.findById(customerId);
         if (customerOpt.isEmpty()) {
             return PointResult.fail("고객을 찾을 수 없습니다");
         }
 
-        Customer customer = customerOpt.get();
-        Integer currentPoints = customer.getPoints() != null ? customer.getPoints() : 0;
-
-        if (currentPoints < pointsToUse) {
-            return PointResult.fail("포인트가 부족합니다. 보유: " + currentPoints + ", 사용요청: " + pointsToUse);
-        }
-
-        customer.setPoints(currentPoints - pointsToUse);
-        customerRepository.save(customer);
-
-        return PointResult.success(pointsToUse, currentPoints - pointsToUse);
+        Integer currentPoints = customerOpt.get().getPoints() != null ? customerOpt.get().getPoints() : 0;
+        return PointResult.fail("포인트가 부족합니다. 보유: " + currentPoints + ", 사용요청: " + pointsToUse);
     }
 
-    public PointResult refundPoints(UUID customerId, Integer pointsToRefund) {
+    @Transactional
+    public PointResult refundPoints(UUID customerId, Integer pointsToRefund, UUID orderId) {
         if (customerId == null || pointsToRefund == null || pointsToRefund <= 0) {
             return PointResult.fail("유효하지 않은 포인트 환불 요청입니다");
         }
-        
-        Optional<Customer> customerOpt = customerRepository.findById(customerId);
-        if (customerOpt.isEmpty()) {
-            return PointResult.fail("고객을 찾을 수 없습니다");
-        }
 
-        Customer customer = customerOpt.get();
-        Integer currentPoints = customer.getPoints() != null ? customer.getPoints() : 0;
+        return credit(customerId, pointsToRefund, orderId, PointLedger.Type.REFUND);
+    }
 
-        customer.setPoints(currentPoints + pointsToRefund);
-        customerRepository.save(customer);
+    /**
+     * 원장 합계로 잔액을 다시 계산한다. 고객이 없으면 false.
+     */
+    @Transactional
+    public boolean rebuildBalance(UUID customerId) {
+        if (customerId == null) {
+            return false;
+        }
+        return pointLedgerRepository.rebuildBalance(customerId) > 0;
+    }
 
-        return PointResult.success(pointsToRefund, currentPoints + pointsToRefund);
+    private PointResult credit(UUID customerId, Integer points, UUID orderId, PointLedger.Type type) {
+        return pointLedgerRepository.credit(customerId, points, orderId, type.name())
+            .map(remaining -> PointResult.success(points, remaining))
+            .orElseGet(() -> PointResult.fail("고객을 찾을 수 없습니다"));
     }
 
     @Getter
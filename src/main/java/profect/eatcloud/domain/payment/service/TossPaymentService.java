@@ -3,13 +3,17 @@ package profect.eatcloud.domain.payment.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
 import profect.eatcloud.domain.payment.dto.TossPaymentRequest;
 import profect.eatcloud.domain.payment.exception.PaymentException;
 import profect.eatcloud.domain.payment.exception.PaymentValidationException;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Base64;
 
 @Service
@@ -22,28 +26,72 @@ public class TossPaymentService {
     @Value("${toss.secret-key}")
     private String secretKey;
 
+    // 재시도를 포함한 전체 대기 시간. http.client.toss 의 response-timeout x (max-retries + 1) + backoff 보다 커야 한다
+    @Value("${toss.api.timeout:20s}")
+    private Duration timeout;
+
     public TossPaymentResponse confirmPayment(String paymentKey, String orderId, Integer amount) {
+        return confirmPaymentAsync(paymentKey, orderId, amount).block();
+    }
+
+    /**
+     * 결제 승인 요청. 호출 스레드를 막지 않으며 DB 트랜잭션 밖에서 구독해야 한다.
+     */
+    public Mono<TossPaymentResponse> confirmPaymentAsync(String paymentKey, String orderId, Integer amount) {
         validatePaymentRequest(paymentKey, orderId, amount);
         
-        String encodedAuth = Base64.getEncoder()
-            .encodeToString((secretKey + ":").getBytes());
-        
         TossPaymentRequest request = new TossPaymentRequest(paymentKey, orderId, amount);
         
-        try {
-            TossPaymentResponse response = tossWebClient
-                .post()
-                .uri("/payments/confirm")
-                .header("Authorization", "Basic " + encodedAuth)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(TossPaymentResponse.class)
-                .block();
-            return response;
-            
-        } catch (Exception e) {
-            throw new PaymentException("결제 승인 중 오류가 발생했습니다: " + e.getMessage(), "PAYMENT_CONFIRM_ERROR", e);
+        return tossWebClient
+            .post()
+            .uri("/payments/confirm")
+            .header("Authorization", authorization())
+            // 토스 멱등키. 같은 paymentKey 의 승인 재시도가 중복 승인되지 않으므로 전송 오류 시 재시도할 수 있다
+            .header("Idempotency-Key", paymentKey)
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(TossPaymentResponse.class)
+            .timeout(timeout)
+            .switchIfEmpty(Mono.error(new PaymentException("결제 승인 응답이 비어있습니다.", "PAYMENT_CONFIRM_ERROR")))
+            .onErrorMap(e -> !(e instanceof PaymentException),
+                e -> new PaymentException("결제 승인 중 오류가 발생했습니다: " + e.getMessage(), "PAYMENT_CONFIRM_ERROR", e));
+    }
+
+    /**
+     * 토스 주문 ID 로 결제 조회. 토스에 결제가 없으면(404) empty.
+     */
+    public Mono<TossPaymentResponse> findPaymentByOrderIdAsync(String orderId) {
+        return tossWebClient
+            .get()
+            .uri("/payments/orders/{orderId}", orderId)
+            .header("Authorization", authorization())
+            .retrieve()
+            .bodyToMono(TossPaymentResponse.class)
+            .timeout(timeout)
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+            .onErrorMap(e -> !(e instanceof PaymentException),
+                e -> new PaymentException("결제 조회 중 오류가 발생했습니다: " + e.getMessage(), "PAYMENT_QUERY_ERROR", e));
+    }
+
+    /**
+     * 승인되지 않았음이 확정된 실패인지. 검증 실패와 토스의 4xx 거절(429 제외)만 해당하며,
+     * 시간 초과/5xx/전송 오류는 토스에서 승인되었을 수 있다.
+     */
+    public static boolean isDefinitiveFailure(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof PaymentValidationException) {
+                return true;
+            }
+            if (current instanceof WebClientResponseException response) {
+                return response.getStatusCode().is4xxClientError()
+                    && response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value();
+            }
         }
+        return false;
+    }
+
+    private String authorization() {
+        return "Basic " + Base64.getEncoder().encodeToString((secretKey + ":").getBytes());
     }
 
     private void validatePaymentRequest(String paymentKey, String orderId, Integer amount) {
@@ -0,0 +1,233 @@
+package profect.eatcloud.domain.payment.simulator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.netty.handler.codec.http.HttpMethod;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import profect.eatcloud.domain.payment.dto.TossPaymentRequest;
+import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
+import profect.eatcloud.global.http.HttpStubHandler;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * 토스페이먼츠 결제 승인/조회 API 시뮬레이터 (toss-simulator 프로필).
+ * http.client.toss.stub.enabled=true 일 때 로컬 스텁 서버에서 POST /v1/payments/confirm,
+ * GET /v1/payments/orders/{orderId} 에 응답한다.
+ * <pre>
+ * 지연   : FIXED(base) / UNIFORM(base ~ max) / LOG_NORMAL(중앙값 base, p99 max)
+ * 실패   : error-rate 비율로 500 FAILED_INTERNAL_SYSTEM_PROCESSING, reject-rate 비율로 403 REJECT_CARD_COMPANY
+ * 승인   : TossPaymentResponse 형식(status DONE, totalAmount = 요청 금액)
+ * 조회   : 승인한 주문은 승인 응답(DONE), 그 외는 404 NOT_FOUND_PAYMENT
+ * </pre>
+ * 같은 Idempotency-Key 의 재요청에는 첫 결과(500 제외)를 그대로 돌려준다.
+ */
+@Slf4j
+@Component
+@Profile("toss-simulator")
+public class TossPaymentSimulator implements HttpStubHandler {
+
+    public enum LatencyDistribution {
+        FIXED, UNIFORM, LOG_NORMAL
+    }
+
+    static final String CONFIRM_PATH = "payments/confirm";
+    static final String ORDER_LOOKUP_PATH = "payments/orders/";
+
+    private static final ZoneId TOSS_ZONE = ZoneId.of("Asia/Seoul");
+    private static final double Z_99 = 2.326;
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    // Netty 스레드마다 다른 생성기를 써야 하므로 값을 뽑을 때마다 가져온다 (운영: ThreadLocalRandom::current)
+    private final Supplier<? extends RandomGenerator> random;
+    private final LatencyDistribution distribution;
+    private final Duration latencyBase;
+    private final Duration latencyMax;
+    private final double errorRate;
+    private final double rejectRate;
+    private final String method;
+    private final Cache<String, SimulatedResponse> idempotentResponses;
+    // PaymentConfirmReconciler 의 결제 조회가 승인된 주문을 찾을 수 있도록 orderId 별로 보관
+    private final Cache<String, SimulatedResponse> approvedPayments;
+
+    public TossPaymentSimulator(ObjectMapper objectMapper,
+        @Value("${toss.simulator.latency.distribution:LOG_NORMAL}") LatencyDistribution distribution,
+        @Value("${toss.simulator.latency.base:80ms}") Duration latencyBase,
+        @Value("${toss.simulator.latency.max:400ms}") Duration latencyMax,
+        @Value("${toss.simulator.error-rate:0.0}") double errorRate,
+        @Value("${toss.simulator.reject-rate:0.0}") double rejectRate,
+        @Value("${toss.simulator.method:카드}") String method) {
+        this(objectMapper, distribution, latencyBase, latencyMax, errorRate, rejectRate, method,
+            Clock.system(TOSS_ZONE), ThreadLocalRandom::current);
+    }
+
+    TossPaymentSimulator(ObjectMapper objectMapper, LatencyDistribution distribution, Duration latencyBase,
+        Duration latencyMax, double errorRate, double rejectRate, String method, Clock clock,
+        Supplier<? extends RandomGenerator> random) {
+        this.objectMapper = objectMapper;
+        this.distribution = distribution;
+        this.latencyBase = latencyBase;
+        this.latencyMax = latencyMax;
+        this.errorRate = errorRate;
+        this.rejectRate = rejectRate;
+        this.method = method;
+        this.clock = clock;
+        this.random = random;
+        this.idempotentResponses = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+        this.approvedPayments = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+        log.warn("Toss payment simulator enabled: latency={}({}~{}), errorRate={}, rejectRate={}",
+            distribution, latencyBase, latencyMax, errorRate, rejectRate);
+    }
+
+    @Override
+    public String clientName() {
+        return "toss";
+    }
+
+    @Override
+    public Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        String path = request.path();
+        int lookupAt = path.indexOf(ORDER_LOOKUP_PATH);
+        if (HttpMethod.GET.equals(request.method()) && lookupAt >= 0) {
+            String orderId = path.substring(lookupAt + ORDER_LOOKUP_PATH.length());
+            return request.receive().then()
+                .then(Mono.fromSupplier(() -> lookup(orderId)))
+                .delayUntil(result -> delay())
+                .flatMap(result -> send(response, result));
+        }
+        if (!HttpMethod.POST.equals(request.method()) || !path.endsWith(CONFIRM_PATH)) {
+            return request.receive().then()
+                .then(send(response, error(404, "NOT_FOUND", "시뮬레이터는 결제 승인/조회 API 만 지원합니다.")));
+        }
+
+        String idempotencyKey = request.requestHeaders().get("Idempotency-Key");
+        return request.receive().aggregate().asString()
+            .defaultIfEmpty("")
+            .map(body -> confirm(body, idempotencyKey))
+            .delayUntil(result -> delay())
+            .flatMap(result -> send(response, result));
+    }
+
+    SimulatedResponse confirm(String body, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            SimulatedResponse previous = idempotentResponses.getIfPresent(idempotencyKey);
+            if (previous != null) {
+                return previous;
+            }
+        }
+
+        TossPaymentRequest request;
+        try {
+            request = objectMapper.readValue(body, TossPaymentRequest.class);
+        } catch (JsonProcessingException e) {
+            return error(400, "INVALID_REQUEST", "요청 본문을 읽을 수 없습니다.");
+        }
+        if (request.getPaymentKey() == null || request.getOrderId() == null
+            || request.getAmount() == null || request.getAmount() <= 0) {
+            return error(400, "INVALID_REQUEST", "paymentKey, orderId, amount 는 필수입니다.");
+        }
+
+        double roll = random.get().nextDouble();
+        if (roll < errorRate) {
+            // 일시 오류는 저장하지 않아 재시도가 성공할 수 있게 한다
+            return error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다.");
+        }
+
+        SimulatedResponse result;
+        if (roll < errorRate + rejectRate) {
+            result = error(403, "REJECT_CARD_COMPANY", "카드사에서 거절한 결제입니다.");
+        } else {
+            result = approve(request);
+            approvedPayments.put(request.getOrderId(), result);
+        }
+        if (idempotencyKey != null) {
+            idempotentResponses.put(idempotencyKey, result);
+        }
+        return result;
+    }
+
+    SimulatedResponse lookup(String orderId) {
+        SimulatedResponse approved = approvedPayments.getIfPresent(orderId);
+        return approved != null ? approved : error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다.");
+    }
+
+    private Mono<?> delay() {
+        Duration latency = sampleLatency();
+        return latency.isZero() ? Mono.empty() : Mono.delay(latency);
+    }
+
+    Duration sampleLatency() {
+        long base = latencyBase.toNanos();
+        long max = Math.max(base, latencyMax.toNanos());
+        long nanos = switch (distribution) {
+            case FIXED -> base;
+            case UNIFORM -> base == max ? base : random.get().nextLong(base, max + 1);
+            case LOG_NORMAL -> {
+                if (base <= 0) {
+                    yield 0;
+                }
+                // 중앙값 base, 99 백분위 max 가 되도록 sigma 를 정한다
+                double sigma = Math.log((double) max / base) / Z_99;
+                yield Math.round(base * Math.exp(sigma * random.get().nextGaussian()));
+            }
+        };
+        return Duration.ofNanos(Math.max(0, nanos));
+    }
+
+    private SimulatedResponse approve(TossPaymentRequest request) {
+        String now = OffsetDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS)
+            .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        TossPaymentResponse response = new TossPaymentResponse(request.getPaymentKey(), request.getOrderId(),
+            "DONE", request.getAmount(), method, now, now);
+        return new SimulatedResponse(200, write(response));
+    }
+
+    private SimulatedResponse error(int status, String code, String message) {
+        return new SimulatedResponse(status, write(Map.of("code", code, "message", message)));
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("시뮬레이터 응답을 만들 수 없습니다.", e);
+        }
+    }
+
+    private Mono<Void> send(HttpServerResponse response, SimulatedResponse result) {
+        return response.status(result.status())
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .sendString(Mono.just(result.body()))
+            .then();
+    }
+
+    record SimulatedResponse(int status, String body) {
+    }
+}
@@ -0,0 +1,20 @@
+package profect.eatcloud.domain.store.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 주문 생성 시 검증에 필요한 메뉴 정보만 담은 조회 전용 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class MenuOrderInfoDto {
+    private UUID menuId;
+    private UUID storeId;
+    private String menuName;
+    private BigDecimal price;
+    private Boolean isAvailable;
+}
@@ -2,11 +2,14 @@ package profect.eatcloud.domain.store.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import profect.eatcloud.domain.store.entity.*;
 import profect.eatcloud.global.timeData.BaseTimeRepository;
 import profect.eatcloud.global.queryDSL.SoftDeletePredicates;
 import profect.eatcloud.global.queryDSL.SpringContext;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -36,6 +39,39 @@ public interface DailyStoreSalesRepository extends BaseTimeRepository<DailyStore
                 .orderBy(sales.saleDate.asc())
                 .fetch();
     }
+    @Modifying
+    @Query(value = """
+        UPDATE daily_store_sales
+        SET order_count = order_count + ?3,
+            total_amount = total_amount + ?4
+        WHERE sale_date = ?1 AND store_id = ?2
+        """, nativeQuery = true)
+    int addSales(LocalDate saleDate, UUID storeId, int orderCount, BigDecimal amount);
+
+    // 해당 일자 첫 집계. 동시에 다른 인스턴스가 먼저 넣었으면 합산으로 처리
+    @Modifying
+    @Query(value = """
+        WITH t AS (
+            INSERT INTO p_time (p_time_id, created_at, created_by, updated_at, updated_by)
+            VALUES (gen_random_uuid(), now(), 'system', now(), 'system')
+            RETURNING p_time_id
+        )
+        INSERT INTO daily_store_sales (sale_date, store_id, order_count, total_amount, p_time_id)
+        SELECT ?1, ?2, ?3, ?4, t.p_time_id FROM t
+        ON CONFLICT (sale_date, store_id) DO UPDATE
+            SET order_count = daily_store_sales.order_count + EXCLUDED.order_count,
+                total_amount = daily_store_sales.total_amount + EXCLUDED.total_amount
+        """, nativeQuery = true)
+    int insertSales(LocalDate saleDate, UUID storeId, int orderCount, BigDecimal amount);
+
+    // 처음 반영하는 이벤트면 1, 이미 반영했으면 0
+    @Modifying
+    @Query(value = """
+        INSERT INTO p_store_sales_processed_events (event_id) VALUES (?1)
+        ON CONFLICT (event_id) DO NOTHING
+        """, nativeQuery = true)
+    int markEventProcessed(Long eventId);
+
     default JPAQueryFactory getQueryFactory() {
         return SpringContext.getBean(JPAQueryFactory.class);
     }
@@ -3,10 +3,12 @@ package profect.eatcloud.domain.store.repository;
 
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.Query;
+import profect.eatcloud.domain.store.dto.MenuOrderInfoDto;
 import profect.eatcloud.domain.store.entity.Menu;
 import profect.eatcloud.domain.store.entity.Store;
 import profect.eatcloud.global.timeData.BaseTimeRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,4 +26,9 @@ public interface MenuRepository_min extends BaseTimeRepository<Menu, UUID> {
 
     @Query("SELECT DISTINCT m.store FROM Menu m WHERE m.menuCategoryCode = :code AND m.isAvailable = true")
     List<Store> findDistinctStoresByMenuCategoryCode(@Param("code") String code);
+
+    // 주문 메뉴 검증용. 여러 메뉴의 가격/판매 여부/매장을 한 번에 조회 (삭제된 메뉴 제외)
+    @Query("SELECT new profect.eatcloud.domain.store.dto.MenuOrderInfoDto(m.id, m.store.storeId, m.menuName, m.price, m.isAvailable) "
+        + "FROM Menu m WHERE m.id IN ?1 AND m.timeData.deletedAt IS NULL")
+    List<MenuOrderInfoDto> findOrderInfoByIdIn(Collection<UUID> menuIds);
 }
@@ -0,0 +1,56 @@
+package profect.eatcloud.domain.store.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+import profect.eatcloud.domain.order.service.OrderStateMachine;
+import profect.eatcloud.domain.store.repository.DailyStoreSalesRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 주문 이벤트로 daily_store_sales 를 갱신한다.
+ * 결제 완료(PAID) 시 가산, 결제 이후 취소/환불(CANCELED, REFUNDED) 시 차감하며 기준일은 주문일이다.
+ * 이벤트는 재발행될 수 있으므로 반영한 eventId 를 같은 트랜잭션에 기록해 한 번만 집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSalesAggregator {
+
+    private final DailyStoreSalesRepository dailyStoreSalesRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onOrderEvent(OrderLifecycleEvent event) {
+        int sign;
+        if ("PAID".equals(event.eventType())) {
+            sign = 1;
+        } else if (OrderStateMachine.REVERSAL_STATUSES.contains(event.eventType())
+            && OrderStateMachine.PAID_STATUSES.contains(event.previousStatus())) {
+            sign = -1;
+        } else {
+            return;
+        }
+
+        if (dailyStoreSalesRepository.markEventProcessed(event.eventId()) == 0) {
+            log.debug("Skipped already aggregated order event: eventId={}", event.eventId());
+            return;
+        }
+
+        LocalDate saleDate = event.orderedAt().toLocalDate();
+        BigDecimal amount = BigDecimal.valueOf((long) sign * event.amount());
+
+        int updated = dailyStoreSalesRepository.addSales(saleDate, event.storeId(), sign, amount);
+        if (updated == 0) {
+            dailyStoreSalesRepository.insertSales(saleDate, event.storeId(), sign, amount);
+        }
+        log.debug("Store sales aggregated: store={}, date={}, order={}, sign={}",
+            event.storeId(), saleDate, event.orderNumber(), sign);
+    }
+}
@@ -0,0 +1,44 @@
+package profect.eatcloud.global.http;
+
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+
+/**
+ * 모든 요청에 같은 상태 코드/본문을 stub.latency 만큼 지연 후 응답한다.
+ */
+class CannedResponseStubHandler implements HttpStubHandler {
+
+    private final String clientName;
+    private final int status;
+    private final String body;
+    private final Duration latency;
+
+    CannedResponseStubHandler(String clientName, HttpClientSettings settings) {
+        this.clientName = clientName;
+        this.status = settings.stubStatus();
+        this.body = settings.stubBody();
+        this.latency = settings.stubLatency();
+    }
+
+    @Override
+    public String clientName() {
+        return clientName;
+    }
+
+    @Override
+    public Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        Mono<Void> delay = latency.isZero() ? Mono.empty() : Mono.delay(latency).then();
+        return request.receive().then()
+            .then(delay)
+            .then(response.status(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendString(Mono.just(body))
+                .then());
+    }
+}
@@ -0,0 +1,67 @@
+package profect.eatcloud.global.http;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 클라이언트 설정. http.client.&lt;name&gt;.* 가 없으면 http.client.default.* 를 사용한다.
+ */
+public record HttpClientSettings(
+    Duration connectTimeout,
+    Duration responseTimeout,
+    int maxConnections,
+    int pendingAcquireMaxCount,
+    Duration pendingAcquireTimeout,
+    Duration maxIdleTime,
+    Duration maxLifeTime,
+    int maxRetries,
+    Duration retryBackoff,
+    Duration retryMaxBackoff,
+    boolean stubEnabled,
+    int stubStatus,
+    String stubBody,
+    Duration stubLatency) {
+
+    static final String PREFIX = "http.client.";
+    static final String DEFAULT_NAME = "default";
+
+    public static HttpClientSettings load(Environment environment, String name) {
+        Reader reader = new Reader(environment, name);
+        return new HttpClientSettings(
+            reader.duration("connect-timeout", "3s"),
+            reader.duration("response-timeout", "10s"),
+            reader.integer("max-connections", 100),
+            reader.integer("pending-acquire-max-count", 500),
+            reader.duration("pending-acquire-timeout", "5s"),
+            reader.duration("max-idle-time", "30s"),
+            reader.duration("max-life-time", "5m"),
+            reader.integer("max-retries", 2),
+            reader.duration("retry-backoff", "100ms"),
+            reader.duration("retry-max-backoff", "1s"),
+            Boolean.parseBoolean(reader.get("stub.enabled", "false")),
+            reader.integer("stub.status", 200),
+            reader.get("stub.body", "{}"),
+            reader.duration("stub.latency", "0ms"));
+    }
+
+    private record Reader(Environment environment, String name) {
+
+        String get(String key, String fallback) {
+            String value = environment.getProperty(PREFIX + name + "." + key);
+            if (value == null) {
+                value = environment.getProperty(PREFIX + DEFAULT_NAME + "." + key, fallback);
+            }
+            return value.trim();
+        }
+
+        Duration duration(String key, String fallback) {
+            return DurationStyle.detectAndParse(get(key, fallback));
+        }
+
+        int integer(String key, int fallback) {
+            return Integer.parseInt(get(key, String.valueOf(fallback)));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package profect.eatcloud.global.http;
+
+import org.reactivestreams.Publisher;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * 스텁 모드(http.client.&lt;name&gt;.stub.enabled=true) 에서 로컬 스텁 서버가 사용할 응답 핸들러.
+ * 클라이언트 이름에 맞는 핸들러가 없으면 stub.status / stub.body 고정 응답을 돌려준다.
+ */
+public interface HttpStubHandler {
+
+    String clientName();
+
+    Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response);
+}
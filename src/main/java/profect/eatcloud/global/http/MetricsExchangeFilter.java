@@ -0,0 +1,57 @@
+package profect.eatcloud.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 호출 1회(재시도 포함 시 시도마다) 의 지연을 http.client.outbound 히스토그램으로 기록한다.
+ * outcome 태그(SUCCESS, CLIENT_ERROR, SERVER_ERROR, IO_ERROR, CANCELED) 로 오류율을 구한다.
+ */
+class MetricsExchangeFilter implements ExchangeFilterFunction {
+
+    static final String METRIC_NAME = "http.client.outbound";
+
+    private final String clientName;
+    private final MeterRegistry meterRegistry;
+
+    MetricsExchangeFilter(String clientName, MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return next.exchange(request)
+                .doOnNext(response -> record(sample, request, String.valueOf(response.statusCode().value()),
+                    outcome(response.statusCode())))
+                .doOnError(e -> record(sample, request, "NONE", "IO_ERROR"))
+                .doOnCancel(() -> record(sample, request, "NONE", "CANCELED"));
+        });
+    }
+
+    private void record(Timer.Sample sample, ClientRequest request, String status, String outcome) {
+        sample.stop(Timer.builder(METRIC_NAME)
+            .description("Outbound HTTP call latency per attempt")
+            .tag("client", clientName)
+            .tag("method", request.method().name())
+            .tag("status", status)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    private String outcome(HttpStatusCode status) {
+        if (status.is2xxSuccessful() || status.is3xxRedirection()) {
+            return "SUCCESS";
+        }
+        return status.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+}
@@ -0,0 +1,125 @@
+package profect.eatcloud.global.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 외부 API(PG, AI) 용 WebClient 생성기. 대상별(http.client.&lt;name&gt;.*) 로
+ * <pre>
+ * 연결 풀    : max-connections, pending-acquire-max-count/timeout, max-idle-time, max-life-time
+ * 타임아웃   : connect-timeout, response-timeout
+ * 재시도     : 멱등 요청만 max-retries 회, retry-backoff ~ retry-max-backoff (jitter)
+ * 메트릭     : http.client.outbound(지연 히스토그램/오류율), http.client.outbound.retries,
+ *             reactor.netty.connection.provider.*(풀 사용량/대기 수)
+ * 스텁 모드  : stub.enabled=true 면 네트워크 대신 127.0.0.1 의 로컬 스텁 서버로 보낸다
+ * </pre>
+ */
+@Slf4j
+@Component
+public class OutboundHttpClientFactory {
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final WebClient.Builder webClientBuilder;
+    private final List<HttpStubHandler> stubHandlers;
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+    private final List<DisposableServer> stubServers = new CopyOnWriteArrayList<>();
+
+    public OutboundHttpClientFactory(Environment environment,
+        MeterRegistry meterRegistry,
+        WebClient.Builder webClientBuilder,
+        ObjectProvider<HttpStubHandler> stubHandlers) {
+        this(environment, meterRegistry, webClientBuilder, stubHandlers.orderedStream().toList());
+    }
+
+    OutboundHttpClientFactory(Environment environment, MeterRegistry meterRegistry,
+        WebClient.Builder webClientBuilder, List<HttpStubHandler> stubHandlers) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.webClientBuilder = webClientBuilder;
+        this.stubHandlers = stubHandlers;
+    }
+
+    public WebClient create(String name, String baseUrl) {
+        HttpClientSettings settings = HttpClientSettings.load(environment, name);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("http-client-" + name)
+            .maxConnections(settings.maxConnections())
+            .pendingAcquireMaxCount(settings.pendingAcquireMaxCount())
+            .pendingAcquireTimeout(settings.pendingAcquireTimeout())
+            .maxIdleTime(settings.maxIdleTime())
+            .maxLifeTime(settings.maxLifeTime())
+            .evictInBackground(EVICTION_INTERVAL)
+            .metrics(true)
+            .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.connectTimeout().toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .responseTimeout(settings.responseTimeout());
+
+        Counter retryCounter = Counter.builder(MetricsExchangeFilter.METRIC_NAME + ".retries")
+            .description("Outbound HTTP calls retried after a transient failure")
+            .tag("client", name)
+            .register(meterRegistry);
+
+        String url = settings.stubEnabled() ? startStubServer(name, baseUrl, settings) : baseUrl;
+        log.info("Outbound HTTP client '{}' -> {} (maxConnections={}, responseTimeout={}, maxRetries={})",
+            name, url, settings.maxConnections(), settings.responseTimeout(), settings.maxRetries());
+
+        return webClientBuilder.clone()
+            .baseUrl(url)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            // 재시도가 바깥, 메트릭이 안쪽이어야 시도마다 기록된다
+            .filter(new RetryExchangeFilter(name, settings, retryCounter))
+            .filter(new MetricsExchangeFilter(name, meterRegistry))
+            .build();
+    }
+
+    /**
+     * baseUrl 의 경로는 유지하고 호스트만 로컬 스텁 서버로 바꾼다.
+     */
+    private String startStubServer(String name, String baseUrl, HttpClientSettings settings) {
+        HttpStubHandler handler = stubHandlers.stream()
+            .filter(candidate -> name.equals(candidate.clientName()))
+            .findFirst()
+            .orElseGet(() -> new CannedResponseStubHandler(name, settings));
+
+        DisposableServer server = HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .handle(handler::handle)
+            .bindNow();
+        stubServers.add(server);
+
+        String path = URI.create(baseUrl).getPath();
+        log.warn("Outbound HTTP client '{}' is in stub mode ({})", name, handler.getClass().getSimpleName());
+        return "http://127.0.0.1:" + server.port() + (path == null ? "" : path);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stubServers.forEach(DisposableServer::disposeNow);
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+}
@@ -0,0 +1,79 @@
+package profect.eatcloud.global.http;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 멱등한 요청만 지수 백오프(jitter 50%) 로 재시도한다.
+ * 멱등 판단 : GET/HEAD/OPTIONS/PUT/DELETE 이거나 Idempotency-Key 헤더가 있는 요청
+ * 재시도 대상 : 연결/읽기 오류, 502/503/504 응답
+ */
+@Slf4j
+class RetryExchangeFilter implements ExchangeFilterFunction {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+        HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+
+    private final String clientName;
+    private final int maxRetries;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Counter retryCounter;
+
+    RetryExchangeFilter(String clientName, HttpClientSettings settings, Counter retryCounter) {
+        this.clientName = clientName;
+        this.maxRetries = settings.maxRetries();
+        this.backoff = settings.retryBackoff();
+        this.maxBackoff = settings.retryMaxBackoff();
+        this.retryCounter = retryCounter;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (maxRetries <= 0 || !isIdempotent(request)) {
+            return next.exchange(request);
+        }
+
+        return Mono.defer(() -> next.exchange(request))
+            .flatMap(response -> RETRYABLE_STATUSES.contains(response.statusCode().value())
+                ? response.createException().flatMap(Mono::error)
+                : Mono.just(response))
+            .retryWhen(Retry.backoff(maxRetries, backoff)
+                .maxBackoff(maxBackoff)
+                .jitter(0.5)
+                .filter(RetryExchangeFilter::isRetryable)
+                .doBeforeRetry(signal -> {
+                    retryCounter.increment();
+                    log.debug("Retrying {} {} ({}), attempt={}, cause={}", request.method(), request.url(),
+                        clientName, signal.totalRetries() + 1, signal.failure().getMessage());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    static boolean isIdempotent(ClientRequest request) {
+        return IDEMPOTENT_METHODS.contains(request.method())
+            || request.headers().containsKey(IDEMPOTENCY_KEY_HEADER);
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return RETRYABLE_STATUSES.contains(responseException.getStatusCode().value());
+        }
+        return error instanceof WebClientRequestException;
+    }
+}
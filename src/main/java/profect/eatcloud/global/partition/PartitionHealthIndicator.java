@@ -0,0 +1,55 @@
+package profect.eatcloud.global.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 월 파티션 상태. partition.enabled 와 관계없이 검사해 유지 작업이 꺼졌거나 계속 실패할 때 드러나게 한다.
+ * <pre>
+ * DOWN : 이번 달/다음 달 파티션이 없음, 또는 DEFAULT 파티션에 행이 쌓임 (해당 월 파티션 생성 시 옮겨진다)
+ * </pre>
+ */
+@Component("partitions")
+@RequiredArgsConstructor
+public class PartitionHealthIndicator implements HealthIndicator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Health health() {
+        return check(YearMonth.now());
+    }
+
+    Health check(YearMonth currentMonth) {
+        List<String> missing = new ArrayList<>();
+        List<String> defaultRows = new ArrayList<>();
+        for (String table : PartitionMaintenanceService.PARTITIONED_TABLES) {
+            for (YearMonth month : List.of(currentMonth, currentMonth.plusMonths(1))) {
+                String partition = PartitionMaintenanceService.partitionName(table, month);
+                Boolean exists = jdbcTemplate.queryForObject(
+                    "SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+                if (!Boolean.TRUE.equals(exists)) {
+                    missing.add(partition);
+                }
+            }
+            Boolean hasRows = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table + "_default)", Boolean.class);
+            if (Boolean.TRUE.equals(hasRows)) {
+                defaultRows.add(table + "_default");
+            }
+        }
+
+        Health.Builder builder = missing.isEmpty() && defaultRows.isEmpty() ? Health.up() : Health.down();
+        return builder
+            .withDetail("missingPartitions", missing)
+            .withDetail("nonEmptyDefaultPartitions", defaultRows)
+            .build();
+    }
+}
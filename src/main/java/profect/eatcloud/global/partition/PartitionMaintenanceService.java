@@ -0,0 +1,169 @@
+package profect.eatcloud.global.partition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 월 단위 range 파티션(p_orders, p_payment_requests, p_payments) 관리.
+ * <pre>
+ * 생성 : 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 만든다 (p_create_monthly_partition)
+ * 보관 : retention-months 보다 오래된 파티션은 detach 후 archive 스키마로 옮긴다
+ * </pre>
+ * 여러 인스턴스가 동시에 실행해도 advisory lock 을 잡은 한 곳만 DDL 을 수행한다.
+ * 실패는 partition.maintenance.failures 로 집계하고, 파티션 누락은 PartitionHealthIndicator 가 알린다.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceService {
+
+    static final List<String> PARTITIONED_TABLES = List.of("p_orders", "p_payment_requests", "p_payments");
+
+    private static final long ADVISORY_LOCK_KEY = 7_317_001L;
+    private static final Pattern PARTITION_SUFFIX = Pattern.compile("_y(\\d{4})m(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+    private final Counter archivedCounter;
+    private final Counter failureCounter;
+
+    public PartitionMaintenanceService(JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${partition.enabled:true}") boolean enabled,
+        @Value("${partition.months-ahead:3}") int monthsAhead,
+        @Value("${partition.retention-months:24}") int retentionMonths,
+        @Value("${partition.archive-schema:archive}") String archiveSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+        this.archivedCounter = Counter.builder("partition.archived")
+            .description("Monthly partitions detached into the archive schema")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("partition.maintenance.failures")
+            .description("Partition maintenance runs that failed")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduledMaintain();
+    }
+
+    @Scheduled(cron = "${partition.cron:0 10 3 * * *}")
+    public void scheduledMaintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            maintain(YearMonth.now());
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("Partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * 온라인(attach 된) 파티션의 시작 시각. 최근 주문 조회에 하한으로 넣어 오래된 파티션을 pruning 한다.
+     * 파티션 관리가 꺼져 있으면 null (하한 없음).
+     */
+    public LocalDateTime onlineSince() {
+        if (!enabled) {
+            return null;
+        }
+        return oldestOnlineMonth(YearMonth.now()).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * @return 이번 실행에서 archive 로 옮긴 파티션 수. 다른 인스턴스가 실행 중이면 -1
+     */
+    int maintain(YearMonth currentMonth) {
+        Integer archived = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return -1;
+            }
+
+            int detached = 0;
+            for (String table : PARTITIONED_TABLES) {
+                createFuturePartitions(table, currentMonth);
+                detached += archiveExpiredPartitions(table, oldestOnlineMonth(currentMonth));
+            }
+            return detached;
+        });
+
+        if (archived != null && archived > 0) {
+            archivedCounter.increment(archived);
+        }
+        log.info("Partition maintenance finished: month={}, archived={}", currentMonth, archived);
+        return archived == null ? 0 : archived;
+    }
+
+    private void createFuturePartitions(String table, YearMonth currentMonth) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            Date month = Date.valueOf(currentMonth.plusMonths(i).atDay(1));
+            jdbcTemplate.queryForObject("SELECT p_create_monthly_partition(?, ?)::text", String.class, table, month);
+        }
+    }
+
+    private int archiveExpiredPartitions(String table, YearMonth oldestOnlineMonth) {
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid "
+                + "JOIN pg_class p ON p.oid = i.inhparent "
+                + "WHERE p.relname = ? ORDER BY c.relname",
+            String.class, table);
+
+        int detached = 0;
+        for (String partition : partitions) {
+            YearMonth month = parseMonth(partition);
+            if (month == null || !month.isBefore(oldestOnlineMonth)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+            log.info("Archived partition {} of {} into schema {}", partition, table, archiveSchema);
+            detached++;
+        }
+        return detached;
+    }
+
+    private YearMonth oldestOnlineMonth(YearMonth currentMonth) {
+        return currentMonth.minusMonths(retentionMonths - 1L);
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return String.format("%s_y%04dm%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    static YearMonth parseMonth(String partition) {
+        Matcher matcher = PARTITION_SUFFIX.matcher(partition);
+        if (!matcher.find()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
@@ -0,0 +1,156 @@
+package profect.eatcloud.global.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis 연결 상태를 캐싱하는 서킷 브레이커.
+ * 호출부는 요청마다 PING 하지 않고 {@link #isAvailable()} 로 캐싱된 상태만 확인하며,
+ * 실제 상태 확인은 백그라운드 프로브가 담당한다.
+ * <pre>
+ * CLOSED    : 정상. 연속 실패가 임계치를 넘으면 OPEN
+ * OPEN      : 차단. 대기 시간이 지나면 프로브가 HALF_OPEN 으로 전환 후 PING
+ * HALF_OPEN : 프로브 진행 중. 성공하면 CLOSED, 실패하면 다시 OPEN
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RedisHealthMonitor {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Clock clock;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile Instant openedAt = Instant.EPOCH;
+
+    private final Counter tripCounter;
+    private final Counter probeFailureCounter;
+
+    public RedisHealthMonitor(RedisConnectionFactory connectionFactory,
+        MeterRegistry meterRegistry,
+        @Value("${redis.circuit.failure-threshold:3}") int failureThreshold,
+        @Value("${redis.circuit.open-duration:5s}") Duration openDuration) {
+        this(connectionFactory, meterRegistry, failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    RedisHealthMonitor(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry,
+        int failureThreshold, Duration openDuration, Clock clock) {
+        this.connectionFactory = connectionFactory;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+
+        Gauge.builder("redis.circuit.state", state, ref -> ref.get().ordinal())
+            .description("Redis circuit breaker state (0=closed, 1=half-open, 2=open)")
+            .register(meterRegistry);
+        this.tripCounter = Counter.builder("redis.circuit.trips")
+            .description("Number of times the Redis circuit breaker opened")
+            .register(meterRegistry);
+        this.probeFailureCounter = Counter.builder("redis.circuit.probe.failures")
+            .description("Number of failed background Redis probes")
+            .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return state.get() == State.CLOSED;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * 연결 계열 예외만 실패로 집계한다. 직렬화 오류 등은 Redis 장애가 아니므로 무시.
+     */
+    public void recordFailure(Throwable throwable) {
+        if (!isConnectivityFailure(throwable)) {
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            trip(State.CLOSED);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${redis.circuit.probe-interval:2s}")
+    public void probe() {
+        State current = state.get();
+
+        if (current == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                return;
+            }
+            if (!state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                return;
+            }
+            current = State.HALF_OPEN;
+        }
+
+        if (ping()) {
+            consecutiveFailures.set(0);
+            if (current == State.HALF_OPEN && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                log.info("Redis circuit closed - connection restored");
+            }
+            return;
+        }
+
+        probeFailureCounter.increment();
+        if (current == State.HALF_OPEN) {
+            trip(State.HALF_OPEN);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            trip(State.CLOSED);
+        }
+    }
+
+    private void trip(State expected) {
+        if (state.compareAndSet(expected, State.OPEN)) {
+            openedAt = clock.instant();
+            tripCounter.increment();
+            log.warn("Redis circuit opened - skipping Redis for {}", openDuration);
+        }
+    }
+
+    private boolean ping() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            return true;
+        } catch (Exception e) {
+            log.debug("Redis probe failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isConnectivityFailure(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof RedisConnectionFailureException || t instanceof QueryTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package profect.eatcloud.global.redis;
+
+/**
+ * Redis 서킷이 열려 있어 요청을 처리할 수 없을 때 던진다. 503 으로 응답한다.
+ */
+public class RedisUnavailableException extends RuntimeException {
+    public RedisUnavailableException(String message) {
+        super(message);
+    }
+}
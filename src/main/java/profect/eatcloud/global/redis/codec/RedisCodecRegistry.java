@@ -0,0 +1,35 @@
+package profect.eatcloud.global.redis.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 값 타입 → 코덱, 헤더 코덱 ID → 코덱 조회. 코덱 ID 가 겹치면 기동 시 실패시킨다.
+ */
+public class RedisCodecRegistry {
+
+    private final Map<Class<?>, RedisValueCodec<?>> byType = new HashMap<>();
+    private final Map<Byte, RedisValueCodec<?>> byId = new HashMap<>();
+
+    public RedisCodecRegistry(List<RedisValueCodec<?>> codecs) {
+        for (RedisValueCodec<?> codec : codecs) {
+            RedisValueCodec<?> duplicated = byId.put(codec.id(), codec);
+            if (duplicated != null) {
+                throw new IllegalStateException("Duplicated redis codec id " + codec.id() + ": "
+                    + duplicated.getClass().getSimpleName() + ", " + codec.getClass().getSimpleName());
+            }
+            byType.put(codec.type(), codec);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<RedisValueCodec<T>> findByType(Class<T> type) {
+        return Optional.ofNullable((RedisValueCodec<T>)byType.get(type));
+    }
+
+    public Optional<RedisValueCodec<?>> findById(byte id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+}
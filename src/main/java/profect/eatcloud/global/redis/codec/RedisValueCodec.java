@@ -0,0 +1,24 @@
+package profect.eatcloud.global.redis.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Redis 값 하나의 타입에 대한 바이너리 인코딩.
+ * 새 필드를 추가할 때는 {@link #version()} 을 올리고, {@link #read} 에서 이전 버전도 읽을 수 있어야 한다.
+ */
+public interface RedisValueCodec<T> {
+
+    /** 헤더에 기록되는 코덱 식별자. 한 번 배포된 값은 바꾸지 않는다. */
+    byte id();
+
+    /** 현재 쓰기 버전 */
+    byte version();
+
+    Class<T> type();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in, byte version) throws IOException;
+}
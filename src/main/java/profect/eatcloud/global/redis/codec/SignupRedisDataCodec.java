@@ -0,0 +1,60 @@
+package profect.eatcloud.global.redis.codec;
+
+import org.springframework.stereotype.Component;
+import profect.eatcloud.login.dto.SignupRedisData;
+import profect.eatcloud.login.dto.SignupRequestDto;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 이메일 인증 대기 중인 회원가입 정보 (signup:{email}).
+ */
+@Component
+public class SignupRedisDataCodec implements RedisValueCodec<SignupRedisData> {
+
+    @Override
+    public byte id() {
+        return 2;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public Class<SignupRedisData> type() {
+        return SignupRedisData.class;
+    }
+
+    @Override
+    public void write(SignupRedisData value, DataOutput out) throws IOException {
+        SignupRequestDto request = value.getRequest();
+        CodecStreams.writeString(out, value.getCode());
+        out.writeBoolean(request != null);
+        if (request != null) {
+            CodecStreams.writeString(out, request.getEmail());
+            CodecStreams.writeString(out, request.getPassword());
+            CodecStreams.writeString(out, request.getName());
+            CodecStreams.writeString(out, request.getNickname());
+            CodecStreams.writeString(out, request.getPhone());
+        }
+    }
+
+    @Override
+    public SignupRedisData read(DataInput in, byte version) throws IOException {
+        String code = CodecStreams.readString(in);
+        SignupRequestDto request = null;
+        if (in.readBoolean()) {
+            request = new SignupRequestDto(
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in));
+        }
+        return new SignupRedisData(request, code);
+    }
+}
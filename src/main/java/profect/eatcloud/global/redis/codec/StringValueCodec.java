@@ -0,0 +1,39 @@
+package profect.eatcloud.global.redis.codec;
+
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 리프레시 토큰, 블랙리스트 마커 등 문자열 값.
+ */
+@Component
+public class StringValueCodec implements RedisValueCodec<String> {
+
+    @Override
+    public byte id() {
+        return 1;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public Class<String> type() {
+        return String.class;
+    }
+
+    @Override
+    public void write(String value, DataOutput out) throws IOException {
+        CodecStreams.writeString(out, value);
+    }
+
+    @Override
+    public String read(DataInput in, byte version) throws IOException {
+        return CodecStreams.readString(in);
+    }
+}
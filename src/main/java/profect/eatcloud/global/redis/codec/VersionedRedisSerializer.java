@@ -0,0 +1,95 @@
+package profect.eatcloud.global.redis.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 등록된 코덱이 있는 타입은 [MAGIC][코덱 ID][버전] 헤더 + 바이너리 본문으로 저장하고,
+ * 그 외 타입은 JSON 직렬화로 위임한다.
+ * <p>
+ * 읽을 때는 헤더가 없으면 기존 JSON 값으로 보고 위임하므로, 배포 중 섞여 있는 값도 모두 읽을 수 있다.
+ * binaryWrites 를 끄면 읽기만 지원하고 쓰기는 JSON 으로 유지한다 (롤링 배포 1단계).
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte)0xEC;
+    private static final int HEADER_LENGTH = 3;
+
+    private final RedisCodecRegistry registry;
+    private final RedisSerializer<Object> fallback;
+    private final boolean binaryWrites;
+
+    public VersionedRedisSerializer(RedisCodecRegistry registry, RedisSerializer<Object> fallback,
+        boolean binaryWrites) {
+        this.registry = registry;
+        this.fallback = fallback;
+        this.binaryWrites = binaryWrites;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (!binaryWrites) {
+            return fallback.serialize(value);
+        }
+
+        RedisValueCodec<?> codec = registry.findByType(value.getClass()).orElse(null);
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+        return encode(codec, value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Truncated redis value header");
+        }
+
+        byte codecId = bytes[1];
+        byte version = bytes[2];
+        RedisValueCodec<?> codec = registry.findById(codecId)
+            .orElseThrow(() -> new SerializationException("Unknown redis codec id: " + codecId));
+        if (version > codec.version()) {
+            throw new SerializationException("Redis value version " + version + " is newer than "
+                + codec.getClass().getSimpleName() + " supports (" + codec.version() + ")");
+        }
+
+        try (DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH))) {
+            return codec.read(in, version);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to decode redis value with "
+                + codec.getClass().getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> byte[] encode(RedisValueCodec<T> codec, Object value) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(MAGIC);
+            out.writeByte(codec.id());
+            out.writeByte(codec.version());
+            codec.write((T)value, out);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to encode redis value with "
+                + codec.getClass().getSimpleName(), e);
+        }
+        return buffer.toByteArray();
+    }
+}
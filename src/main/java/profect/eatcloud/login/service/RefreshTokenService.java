@@ -5,11 +5,14 @@ import org.springframework.stereotype.Service;
 import profect.eatcloud.domain.admin.repository.AdminRepository;
 import profect.eatcloud.domain.customer.repository.CustomerRepository;
 import profect.eatcloud.domain.manager.repository.ManagerRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+import profect.eatcloud.global.redis.RedisUnavailableException;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
 public class RefreshTokenService {
@@ -18,14 +21,16 @@ public class RefreshTokenService {
     private final AdminRepository adminRepository;
     private final ManagerRepository managerRepository;
     private final CustomerRepository customerRepository;
+    private final RedisHealthMonitor redisHealthMonitor;
 
     private static final String BLACKLIST_PREFIX = "blacklist:";
 
-    public RefreshTokenService(RedisTemplate<String, Object> redisTemplate,  AdminRepository adminRepository, ManagerRepository managerRepository, CustomerRepository customerRepository) {
+    public RefreshTokenService(RedisTemplate<String, Object> redisTemplate,  AdminRepository adminRepository, ManagerRepository managerRepository, CustomerRepository customerRepository, RedisHealthMonitor redisHealthMonitor) {
         this.redisTemplate = redisTemplate;
         this.adminRepository = adminRepository;
         this.managerRepository = managerRepository;
         this.customerRepository = customerRepository;
+        this.redisHealthMonitor = redisHealthMonitor;
     }
 
     private String createKey(Object user) {
@@ -60,26 +65,51 @@ public class RefreshTokenService {
     public void saveOrUpdateToken(Object user, String refreshToken, LocalDateTime expiryDateTime) {
         String key = createKey(user);
         long duration = Duration.between(LocalDateTime.now(), expiryDateTime).getSeconds();
-        redisTemplate.opsForValue().set(key, refreshToken, duration, TimeUnit.SECONDS);
+        runOnRedis(() -> redisTemplate.opsForValue().set(key, refreshToken, duration, TimeUnit.SECONDS));
     }
 
+    /**
+     * Redis 장애 중에는 토큰을 검증할 수 없다. false 를 돌려주면 호출부가 정상 토큰까지 폐기하므로
+     * 예외(503)로 알리고 클라이언트가 재시도하게 한다.
+     */
     public boolean isValid(Object user, String token) {
         String key = createKey(user);
-        Object stored = redisTemplate.opsForValue().get(key);
-
-        if (redisTemplate.hasKey(BLACKLIST_PREFIX + token)) {
-            return false;
-        }
-
-        return stored != null && stored.equals(token);
+        return callRedis(() -> {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + token))) {
+                return false;
+            }
+            Object stored = redisTemplate.opsForValue().get(key);
+            return stored != null && stored.equals(token);
+        });
     }
 
     public void addToBlacklist(String token, long expirationSeconds) {
-        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + token, "blacklisted", expirationSeconds, TimeUnit.SECONDS);
+        runOnRedis(() -> redisTemplate.opsForValue().set(BLACKLIST_PREFIX + token, "blacklisted", expirationSeconds, TimeUnit.SECONDS));
     }
 
     public void delete(Object user) {
         String key = createKey(user);
-        redisTemplate.delete(key);
+        runOnRedis(() -> redisTemplate.delete(key));
+    }
+
+    private void runOnRedis(Runnable command) {
+        callRedis(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    private <T> T callRedis(Supplier<T> command) {
+        if (!redisHealthMonitor.isAvailable()) {
+            throw new RedisUnavailableException("토큰 저장소(Redis)를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            T result = command.get();
+            redisHealthMonitor.recordSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            redisHealthMonitor.recordFailure(e);
+            throw e;
+        }
     }
 }
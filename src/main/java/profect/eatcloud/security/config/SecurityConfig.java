@@ -25,7 +25,7 @@ import profect.eatcloud.security.jwt.JwtAuthorizationFilter;
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
-	private static final List<String> ALLOWED_ORIGINS = List.of(
+	public static final List<String> ALLOWED_ORIGINS = List.of(
 		"http://localhost:3000",
 		"http://localhost:5173",
 		"http://localhost:8080"
@@ -63,7 +63,10 @@ public class SecurityConfig {
 
 		"/api/v1/customers/**",
 
-		"/api/v1/unauth/**"
+		"/api/v1/unauth/**",
+
+		// WebSocket 핸드셰이크 (인증은 STOMP CONNECT 에서 처리)
+		"/ws/**"
 	};
 
 	@Bean
@@ -0,0 +1,108 @@
+package profect.eatcloud.security.config;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import profect.eatcloud.domain.manager.entity.Manager;
+import profect.eatcloud.domain.manager.repository.ManagerRepository;
+import profect.eatcloud.security.jwt.JwtTokenProvider;
+
+/**
+ * STOMP 인증/인가.
+ * CONNECT : Authorization 헤더의 JWT 로 사용자 식별 (admin / manager 만 허용)
+ * SUBSCRIBE : /topic/stores/{storeId}/** 는 해당 매장 매니저 또는 admin 만 구독 가능
+ * SEND : 서버 → 클라이언트 단방향 채널이므로 모두 거부 (브로커 토픽에 직접 발행해 다른 매장 알림을 위조하는 것 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+	private static final Pattern STORE_TOPIC = Pattern.compile("^/topic/stores/([0-9a-fA-F-]{36})/.*$");
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final ManagerRepository managerRepository;
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || accessor.getCommand() == null) {
+			return message;
+		}
+
+		if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+			accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+		} else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+			authorizeSubscription(accessor);
+		} else if (StompCommand.SEND.equals(accessor.getCommand())) {
+			throw new AccessDeniedException("클라이언트는 메시지를 보낼 수 없습니다: " + accessor.getDestination());
+		}
+		return message;
+	}
+
+	private UsernamePasswordAuthenticationToken authenticate(String header) {
+		if (header == null || !header.startsWith("Bearer ")) {
+			throw new AccessDeniedException("인증 토큰이 없습니다.");
+		}
+		String token = header.substring(7);
+		UUID userId;
+		String userType;
+		try {
+			userId = jwtTokenProvider.getIdFromToken(token);
+			userType = jwtTokenProvider.getTypeFromToken(token);
+		} catch (RuntimeException e) {
+			throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+		}
+
+		if ("admin".equals(userType)) {
+			return new UsernamePasswordAuthenticationToken(userId.toString(), null,
+				List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+		}
+		if ("manager".equals(userType)) {
+			return new UsernamePasswordAuthenticationToken(userId.toString(), null,
+				List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+		}
+		throw new AccessDeniedException("주문 알림은 매니저/관리자만 구독할 수 있습니다.");
+	}
+
+	private void authorizeSubscription(StompHeaderAccessor accessor) {
+		if (!(accessor.getUser() instanceof UsernamePasswordAuthenticationToken user)) {
+			throw new AccessDeniedException("인증되지 않은 구독 요청입니다.");
+		}
+
+		String destination = accessor.getDestination();
+		Matcher matcher = destination == null ? null : STORE_TOPIC.matcher(destination);
+		if (matcher == null || !matcher.matches()) {
+			throw new AccessDeniedException("구독할 수 없는 경로입니다: " + destination);
+		}
+
+		boolean isAdmin = user.getAuthorities().stream()
+			.anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+		if (isAdmin) {
+			return;
+		}
+
+		UUID storeId = UUID.fromString(matcher.group(1));
+		UUID managerId = UUID.fromString(user.getName());
+		boolean ownsStore = managerRepository.findById(managerId)
+			.map(Manager::getStore)
+			.map(store -> storeId.equals(store.getStoreId()))
+			.orElse(false);
+		if (!ownsStore) {
+			throw new AccessDeniedException("해당 매장의 주문 알림을 구독할 권한이 없습니다.");
+		}
+	}
+}
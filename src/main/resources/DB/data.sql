@@ -111,6 +111,13 @@ VALUES ('11111111-1111-1111-1111-111111111111', '김철수', '철수', '1',
         '$2a$10$KqNntwd5aFUOPTj1gj62r.8BtmaUeUiae0H7r6Dj8tOlX9HuPgbNS', '010-1010-1010', 9000,
         '00000000-0000-0000-0000-000000000004');
 
+-- 5-1) 포인트 원장 기초 잔액. schema.sql 의 OPENING 이관은 고객을 넣기 전에 실행되므로 여기서 기록한다
+INSERT INTO p_point_ledger (customer_id, type, amount, balance_after)
+SELECT c.id, 'OPENING', c.points, c.points
+FROM p_customer c
+WHERE COALESCE(c.points, 0) <> 0
+  AND NOT EXISTS (SELECT 1 FROM p_point_ledger l WHERE l.customer_id = c.id);
+
 -- 6) Store 데이터 3개
 INSERT INTO p_stores (store_id, store_name, store_address, phone_number, min_cost, description, open_time, close_time,
                       p_time_id)
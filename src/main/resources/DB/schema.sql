@@ -375,3 +375,302 @@ CREATE TABLE p_manager_store_applications
     CONSTRAINT fk_applications_p_time FOREIGN KEY (p_time_id) REFERENCES p_time (p_time_id)
 );
 
+
+-- added at cart tiering
+-- 오래 사용하지 않은 장바구니 보관용 (cart.tiering.mode=archive)
+CREATE TABLE p_cart_archive
+(
+    cart_id         UUID PRIMARY KEY,
+    customer_id     UUID      NOT NULL,
+    cart_items      JSONB     NOT NULL,
+    last_updated_at TIMESTAMP NOT NULL,
+    archived_at     TIMESTAMP NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_cart_archive_customer ON p_cart_archive (customer_id);
+
+-- added at order number blocks
+-- 일자별 주문번호 시퀀스 (인스턴스가 블록 단위로 예약)
+CREATE TABLE p_order_number_sequences
+(
+    order_date DATE PRIMARY KEY,
+    last_value BIGINT NOT NULL
+);
+
+-- added at order history keyset pagination
+-- 주문 목록을 (ordered_at, order_id) 내림차순 커서로 조회하기 위한 컬럼/인덱스
+ALTER TABLE p_orders
+    ADD COLUMN ordered_at TIMESTAMP NOT NULL DEFAULT now();
+
+-- 기존 주문은 p_time 생성 시각으로 채운다
+UPDATE p_orders o
+SET ordered_at = t.created_at
+FROM p_time t
+WHERE o.p_time_id = t.p_time_id;
+
+CREATE INDEX idx_orders_customer_ordered_at ON p_orders (customer_id, ordered_at DESC, order_id DESC);
+CREATE INDEX idx_orders_store_ordered_at ON p_orders (store_id, ordered_at DESC, order_id DESC);
+
+-- added at order outbox
+-- 주문 상태 전이 이벤트. 상태 변경과 같은 트랜잭션에서 기록되고 relay 가 발행 후 published_at 을 채운다
+CREATE TABLE p_order_outbox
+(
+    event_id        BIGSERIAL PRIMARY KEY,
+    order_id        UUID        NOT NULL,
+    order_number    VARCHAR(50) NOT NULL,
+    customer_id     UUID        NOT NULL,
+    store_id        UUID        NOT NULL,
+    event_type      VARCHAR(30) NOT NULL,
+    previous_status VARCHAR(30),
+    amount          INTEGER     NOT NULL,
+    ordered_at      TIMESTAMP   NOT NULL,
+    occurred_at     TIMESTAMP   NOT NULL DEFAULT now(),
+    published_at    TIMESTAMP,
+    publish_attempts INTEGER    NOT NULL DEFAULT 0
+);
+CREATE INDEX idx_order_outbox_unpublished ON p_order_outbox (event_id) WHERE published_at IS NULL;
+CREATE INDEX idx_order_outbox_order ON p_order_outbox (order_id);
+
+-- 매출 집계에 이미 반영한 주문 이벤트. 재발행 시 중복 집계 방지
+CREATE TABLE p_store_sales_processed_events
+(
+    event_id     BIGINT PRIMARY KEY,
+    processed_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- added at order lines
+-- 주문 메뉴 정규화 테이블. 메뉴 단위 집계/추천을 SQL 로 처리하기 위함
+CREATE TABLE p_order_lines
+(
+    order_id    UUID         NOT NULL,
+    menu_id     UUID         NOT NULL,
+    store_id    UUID         NOT NULL,
+    customer_id UUID         NOT NULL,
+    menu_name   VARCHAR(200) NOT NULL,
+    quantity    INTEGER      NOT NULL,
+    unit_price  INTEGER      NOT NULL,
+    line_amount INTEGER      NOT NULL,
+    created_at  TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_order_lines PRIMARY KEY (order_id, menu_id),
+    CONSTRAINT fk_order_lines_order FOREIGN KEY (order_id) REFERENCES p_orders (order_id)
+);
+CREATE INDEX idx_order_lines_store_menu_created ON p_order_lines (store_id, menu_id, created_at);
+CREATE INDEX idx_order_lines_customer_menu ON p_order_lines (customer_id, menu_id);
+
+-- 기존 주문의 jsonb 메뉴 목록을 라인으로 옮긴다
+INSERT INTO p_order_lines (order_id, menu_id, store_id, customer_id, menu_name, quantity, unit_price, line_amount,
+                           created_at)
+SELECT o.order_id,
+       (m ->> 'menuId')::uuid,
+       o.store_id,
+       o.customer_id,
+       MAX(m ->> 'menuName'),
+       SUM((m ->> 'quantity')::int),
+       MAX((m ->> 'price')::int),
+       SUM((m ->> 'quantity')::int * (m ->> 'price')::int),
+       o.ordered_at
+FROM p_orders o
+         CROSS JOIN LATERAL jsonb_array_elements(o.order_menu_list) m
+GROUP BY o.order_id, (m ->> 'menuId')::uuid, o.store_id, o.customer_id, o.ordered_at
+ON CONFLICT DO NOTHING;
+
+-- added at time partitioning
+-- p_orders / p_payment_requests / p_payments 를 월 단위 range 파티션으로 전환한다.
+-- 이후 파티션 생성/보관(archive 스키마로 detach)은 PartitionMaintenanceService 가 주기적으로 수행한다.
+CREATE SCHEMA IF NOT EXISTS archive;
+
+-- 파티션 이름은 <parent>_yYYYYmMM. 이미 있으면 아무것도 하지 않는다.
+-- 월 파티션이 없던 동안 DEFAULT 파티션(<parent>_default)에 들어간 해당 월 행은 새 파티션으로 옮긴 뒤 attach 한다
+CREATE OR REPLACE FUNCTION p_create_monthly_partition(parent TEXT, month DATE) RETURNS VOID AS
+$$
+DECLARE
+    from_date    DATE := date_trunc('month', month)::DATE;
+    to_date      DATE := (date_trunc('month', month) + INTERVAL '1 month')::DATE;
+    part_name    TEXT := parent || '_' || to_char(from_date, '"y"YYYY"m"MM');
+    default_name TEXT := parent || '_default';
+    part_key     TEXT := substring(pg_get_partkeydef(parent::regclass) FROM '\((\w+)\)');
+BEGIN
+    IF to_regclass(part_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+    IF to_regclass(default_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       part_name, parent, from_date, to_date);
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', part_name, parent);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved',
+                   default_name, part_key, from_date, part_key, to_date, part_name);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent, part_name, from_date, to_date);
+END;
+$$ LANGUAGE plpgsql;
+
+-- 파티션 테이블을 참조하는 FK 는 파티션 키까지 포함해야 하므로 주문/결제 간 FK 는 애플리케이션에서 보장한다
+ALTER TABLE p_orders DROP CONSTRAINT fk_orders_payment;
+ALTER TABLE p_payment_requests DROP CONSTRAINT fk_pr_orders;
+ALTER TABLE p_payments DROP CONSTRAINT fk_payments_pr;
+ALTER TABLE p_delivery_orders DROP CONSTRAINT fk_do_orders;
+ALTER TABLE p_pickup_orders DROP CONSTRAINT fk_po_orders;
+ALTER TABLE p_reviews DROP CONSTRAINT fk_reviews_orders;
+ALTER TABLE p_order_lines DROP CONSTRAINT fk_order_lines_order;
+
+-- 파티션 키는 NOT NULL 이어야 한다
+UPDATE p_payments p
+SET requested_at = t.created_at
+FROM p_time t
+WHERE p.p_time_id = t.p_time_id
+  AND p.requested_at IS NULL;
+
+ALTER TABLE p_orders RENAME TO p_orders_legacy;
+ALTER TABLE p_payment_requests RENAME TO p_payment_requests_legacy;
+ALTER TABLE p_payments RENAME TO p_payments_legacy;
+
+-- PK/UNIQUE 는 파티션 키를 포함해야 한다. 전역 유일성은 아래 p_order_keys 가 보장한다
+CREATE TABLE p_orders
+(
+    LIKE p_orders_legacy INCLUDING DEFAULTS,
+    CONSTRAINT pk_orders PRIMARY KEY (order_id, ordered_at),
+    CONSTRAINT uq_orders_order_number UNIQUE (order_number, ordered_at),
+    CONSTRAINT fk_orders_user FOREIGN KEY (customer_id) REFERENCES p_customer (id),
+    CONSTRAINT fk_orders_store FOREIGN KEY (store_id) REFERENCES p_stores (store_id),
+    CONSTRAINT fk_orders_p_time FOREIGN KEY (p_time_id) REFERENCES p_time (p_time_id)
+) PARTITION BY RANGE (ordered_at);
+
+CREATE TABLE p_payment_requests
+(
+    LIKE p_payment_requests_legacy INCLUDING DEFAULTS,
+    CONSTRAINT pk_payment_requests PRIMARY KEY (payment_request_id, requested_at),
+    CONSTRAINT fk_pr_p_time FOREIGN KEY (p_time_id) REFERENCES p_time (p_time_id)
+) PARTITION BY RANGE (requested_at);
+
+CREATE TABLE p_payments
+(
+    LIKE p_payments_legacy INCLUDING DEFAULTS,
+    CONSTRAINT pk_payments PRIMARY KEY (payment_id, requested_at),
+    CONSTRAINT fk_payments_user FOREIGN KEY (customer_id) REFERENCES p_customer (id),
+    CONSTRAINT fk_payments_p_time FOREIGN KEY (p_time_id) REFERENCES p_time (p_time_id)
+) PARTITION BY RANGE (requested_at);
+ALTER TABLE p_payments ALTER COLUMN requested_at SET NOT NULL;
+
+-- 기존 데이터 범위부터 3개월 뒤까지 파티션을 만든다
+DO
+$$
+DECLARE
+    target RECORD;
+    month  DATE;
+BEGIN
+    FOR target IN
+        SELECT 'p_orders' AS parent, COALESCE(MIN(ordered_at), now())::DATE AS first_month FROM p_orders_legacy
+        UNION ALL
+        SELECT 'p_payment_requests', COALESCE(MIN(requested_at), now())::DATE FROM p_payment_requests_legacy
+        UNION ALL
+        SELECT 'p_payments', COALESCE(MIN(requested_at), now())::DATE FROM p_payments_legacy
+        LOOP
+            month := date_trunc('month', target.first_month)::DATE;
+            WHILE month <= (date_trunc('month', now()) + INTERVAL '3 month')::DATE
+                LOOP
+                    PERFORM p_create_monthly_partition(target.parent, month);
+                    month := (month + INTERVAL '1 month')::DATE;
+                END LOOP;
+        END LOOP;
+END;
+$$;
+
+INSERT INTO p_orders SELECT * FROM p_orders_legacy;
+INSERT INTO p_payment_requests SELECT * FROM p_payment_requests_legacy;
+INSERT INTO p_payments SELECT * FROM p_payments_legacy;
+
+DROP TABLE p_orders_legacy;
+DROP TABLE p_payment_requests_legacy;
+DROP TABLE p_payments_legacy;
+
+-- 월 파티션이 아직 없는 시각의 행을 받는 안전망. 정상 상태에서는 비어 있어야 하며
+-- 행이 들어오면 PartitionHealthIndicator 가 DOWN 으로 알린다
+CREATE TABLE p_orders_default PARTITION OF p_orders DEFAULT;
+CREATE TABLE p_payment_requests_default PARTITION OF p_payment_requests DEFAULT;
+CREATE TABLE p_payments_default PARTITION OF p_payments DEFAULT;
+
+-- PK/UNIQUE 에 파티션 키가 포함되어 order_id, order_number 의 전역 유일성은 이 비파티션 테이블로 보장한다.
+-- 주문 저장과 같은 트랜잭션에서 OrderKeyRepository 로 기록한다
+CREATE TABLE p_order_keys
+(
+    order_id     UUID PRIMARY KEY,
+    order_number VARCHAR(50) NOT NULL,
+    ordered_at   TIMESTAMP   NOT NULL,
+    CONSTRAINT uq_order_keys_order_number UNIQUE (order_number)
+);
+INSERT INTO p_order_keys (order_id, order_number, ordered_at)
+SELECT order_id, order_number, ordered_at
+FROM p_orders;
+
+-- 파티션마다 생성되는 로컬 인덱스
+CREATE INDEX idx_orders_customer_ordered_at ON p_orders (customer_id, ordered_at DESC, order_id DESC);
+CREATE INDEX idx_orders_store_ordered_at ON p_orders (store_id, ordered_at DESC, order_id DESC);
+CREATE INDEX idx_payment_requests_order ON p_payment_requests (order_id);
+CREATE INDEX idx_payments_request ON p_payments (payment_request_id);
+
+-- added at payment request toss order id
+-- 결제 콜백 조회를 request_payload JSON 스캔 대신 인덱스 조회로 처리하기 위한 컬럼
+ALTER TABLE p_payment_requests
+    ADD COLUMN toss_order_id VARCHAR(64),
+    ADD COLUMN amount        INTEGER;
+
+UPDATE p_payment_requests
+SET toss_order_id = request_payload ->> 'tossOrderId',
+    amount        = (request_payload ->> 'amount')::INTEGER
+WHERE toss_order_id IS NULL
+  AND request_payload ? 'tossOrderId';
+
+CREATE INDEX idx_payment_requests_toss_order_id ON p_payment_requests (toss_order_id);
+
+-- 파티션 테이블의 UNIQUE 인덱스는 파티션 키를 포함해야 하므로 toss_order_id 의 유일성은 비파티션 테이블로 보장한다.
+-- 결제 요청 저장과 같은 트랜잭션에서 PaymentRequestKeyRepository 로 기록한다
+CREATE TABLE p_payment_request_keys
+(
+    toss_order_id      VARCHAR(64) PRIMARY KEY,
+    payment_request_id UUID      NOT NULL,
+    requested_at       TIMESTAMP NOT NULL
+);
+-- 기존 중복은 가장 최근 요청만 키로 남긴다
+INSERT INTO p_payment_request_keys (toss_order_id, payment_request_id, requested_at)
+SELECT DISTINCT ON (toss_order_id) toss_order_id, payment_request_id, requested_at
+FROM p_payment_requests
+WHERE toss_order_id IS NOT NULL
+ORDER BY toss_order_id, requested_at DESC;
+
+-- added at payment timeout sweeper
+-- 만료 대상(PENDING) 결제 요청을 requested_at 순으로 찾기 위한 부분 인덱스
+CREATE INDEX idx_payment_requests_pending ON p_payment_requests (requested_at) WHERE status = 'PENDING';
+
+-- added at payment confirm reconciler
+-- 승인 결과가 불명확하거나 승인 후 처리가 실패해 CONFIRMING 에 머문 요청을 PaymentConfirmReconciler 가 찾기 위한 컬럼/인덱스
+ALTER TABLE p_payment_requests
+    ADD COLUMN confirming_at TIMESTAMP;
+
+CREATE INDEX idx_payment_requests_confirming ON p_payment_requests (confirming_at) WHERE status = 'CONFIRMING';
+
+-- added at point ledger
+-- 포인트 사용/환불/충전 원장. 잔액 변경과 같은 SQL 문에서 기록하며 p_customer.points 는 amount 합계로 재계산할 수 있다
+CREATE TABLE p_point_ledger
+(
+    ledger_id     UUID PRIMARY KEY     DEFAULT gen_random_uuid(),
+    customer_id   UUID        NOT NULL,
+    order_id      UUID,
+    type          VARCHAR(20) NOT NULL,
+    amount        INTEGER     NOT NULL,
+    balance_after INTEGER     NOT NULL,
+    created_at    TIMESTAMP   NOT NULL DEFAULT now(),
+    CONSTRAINT fk_point_ledger_customer FOREIGN KEY (customer_id) REFERENCES p_customer (id),
+    CONSTRAINT ck_point_ledger_type CHECK (type IN ('OPENING', 'USE', 'REFUND', 'CHARGE'))
+);
+
+CREATE INDEX idx_point_ledger_customer_created ON p_point_ledger (customer_id, created_at DESC);
+CREATE INDEX idx_point_ledger_order ON p_point_ledger (order_id) WHERE order_id IS NOT NULL;
+
+-- 기존 잔액을 기초 잔액(OPENING)으로 옮겨 원장 합계 = 현재 잔액이 되게 한다 (data.sql 로 넣는 고객은 data.sql 에서 기록)
+INSERT INTO p_point_ledger (customer_id, type, amount, balance_after)
+SELECT id, 'OPENING', points, points
+FROM p_customer
+WHERE COALESCE(points, 0) <> 0;
@@ -0,0 +1,22 @@
+-- 매장 일치 검사 + 수량 증가 + 메타 저장 후 장바구니 전체를 반환한다.
+-- KEYS[1] = 장바구니 키
+-- ARGV    = storeId, menuId, quantity, meta, ttlMillis, loaded(1|0)
+-- 반환    = { status, field, value, ... }  (0 = OK, -1 = STORE_MISMATCH, -2 = NOT_LOADED)
+if ARGV[6] ~= '1' and redis.call('EXISTS', KEYS[1]) == 0 then
+    return { -2 }
+end
+
+local owner = redis.call('HGET', KEYS[1], '@store')
+if owner and owner ~= ARGV[1] and redis.call('HLEN', KEYS[1]) > 1 then
+    return { -1 }
+end
+
+redis.call('HSET', KEYS[1], '@store', ARGV[1], ARGV[2] .. ':meta', ARGV[4])
+redis.call('HINCRBY', KEYS[1], ARGV[2], ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+
+local result = { 0 }
+for _, value in ipairs(redis.call('HGETALL', KEYS[1])) do
+    result[#result + 1] = value
+end
+return result
@@ -0,0 +1,60 @@
+-- 여러 추가/수량 변경/삭제를 한 번에 원자적으로 반영한 뒤 장바구니 전체를 반환한다.
+-- 검증을 먼저 모두 끝낸 뒤 반영하므로 일부 연산만 적용되는 일은 없다.
+-- 매장 검사는 배치의 삭제를 반영한 결과 기준이다(기존 항목을 모두 지우고 다른 매장 메뉴로 교체 가능).
+-- KEYS[1] = 장바구니 키
+-- ARGV    = ttlMillis, loaded(1|0), storeId(추가가 없으면 ''), 이후 연산마다 op, menuId, quantity, meta
+--           op: A = 추가, U = 수량 변경(0 이하면 삭제), R = 삭제
+-- 반환    = { status, field, value, ... }  (0 = OK, -1 = STORE_MISMATCH, -2 = NOT_LOADED, -3 = NOT_FOUND)
+if ARGV[2] ~= '1' and redis.call('EXISTS', KEYS[1]) == 0 then
+    return { -2 }
+end
+
+local storeId = ARGV[3]
+local present = {}
+for i = 4, #ARGV, 4 do
+    local op, menuId = ARGV[i], ARGV[i + 1]
+    if op == 'A' then
+        present[menuId] = true
+    else
+        if present[menuId] == nil then
+            present[menuId] = redis.call('HEXISTS', KEYS[1], menuId) == 1
+        end
+        if not present[menuId] then
+            return { -3 }
+        end
+        if op == 'R' or tonumber(ARGV[i + 2]) <= 0 then
+            present[menuId] = false
+        end
+    end
+end
+
+if storeId ~= '' then
+    local owner = redis.call('HGET', KEYS[1], '@store')
+    if owner and owner ~= storeId then
+        -- 이 배치에서 삭제되지 않고 남는 기존 메뉴가 있으면 다른 매장 장바구니다
+        for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+            if field ~= '@store' and not string.find(field, ':meta', 1, true) and present[field] ~= false then
+                return { -1 }
+            end
+        end
+    end
+    redis.call('HSET', KEYS[1], '@store', storeId)
+end
+for i = 4, #ARGV, 4 do
+    local op, menuId, quantity = ARGV[i], ARGV[i + 1], tonumber(ARGV[i + 2])
+    if op == 'A' then
+        redis.call('HSET', KEYS[1], menuId .. ':meta', ARGV[i + 3])
+        redis.call('HINCRBY', KEYS[1], menuId, quantity)
+    elseif op == 'U' and quantity > 0 then
+        redis.call('HSET', KEYS[1], menuId, quantity)
+    else
+        redis.call('HDEL', KEYS[1], menuId, menuId .. ':meta')
+    end
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+
+local result = { 0 }
+for _, value in ipairs(redis.call('HGETALL', KEYS[1])) do
+    result[#result + 1] = value
+end
+return result
@@ -0,0 +1,32 @@
+-- 장바구니 합계를 계산한다. 캐시에 장바구니가 없으면 nil.
+-- KEYS[1] = 장바구니 키
+-- 반환    = { menuCount, itemCount, totalAmount }
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return false
+end
+
+local entries = redis.call('HGETALL', KEYS[1])
+local fields = {}
+for i = 1, #entries, 2 do
+    fields[entries[i]] = entries[i + 1]
+end
+
+local menuCount, itemCount, totalAmount = 0, 0, 0
+for field, value in pairs(fields) do
+    if field ~= '@store' and string.sub(field, -5) ~= ':meta' then
+        local quantity = tonumber(value)
+        local meta = fields[field .. ':meta']
+        local price = 0
+        if meta then
+            local decoded = cjson.decode(meta).price
+            if type(decoded) == 'number' then
+                price = decoded
+            end
+        end
+        menuCount = menuCount + 1
+        itemCount = itemCount + quantity
+        totalAmount = totalAmount + price * quantity
+    end
+end
+
+return { menuCount, itemCount, totalAmount }
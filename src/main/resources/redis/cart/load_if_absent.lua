@@ -0,0 +1,14 @@
+-- 키가 없을 때만 DB 에서 읽은 장바구니로 채운다. 동시에 들어온 변경을 덮어쓰지 않기 위함.
+-- KEYS[1] = 장바구니 키
+-- ARGV    = ttlMillis, field, value, ...
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+for i = 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+if #ARGV > 1 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[1])
+end
+return 1
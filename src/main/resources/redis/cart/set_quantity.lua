@@ -0,0 +1,27 @@
+-- 담긴 메뉴의 수량을 변경하고, 0 이하이면 메뉴와 메타를 삭제한 뒤 장바구니 전체를 반환한다.
+-- KEYS[1] = 장바구니 키
+-- ARGV    = menuId, quantity, ttlMillis, loaded(1|0)
+-- 반환    = { status, field, value, ... }  (0 = OK, -2 = NOT_LOADED, -3 = NOT_FOUND)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    if ARGV[4] == '1' then
+        return { -3 }
+    end
+    return { -2 }
+end
+
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+    return { -3 }
+end
+
+if tonumber(ARGV[2]) <= 0 then
+    redis.call('HDEL', KEYS[1], ARGV[1], ARGV[1] .. ':meta')
+else
+    redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+
+local result = { 0 }
+for _, value in ipairs(redis.call('HGETALL', KEYS[1])) do
+    result[#result + 1] = value
+end
+return result
@@ -14,6 +14,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import profect.eatcloud.common.ApiResponse;
 import profect.eatcloud.domain.customer.dto.CartItem;
 import profect.eatcloud.domain.customer.dto.request.AddCartItemRequest;
+import profect.eatcloud.domain.customer.dto.request.BatchCartRequest;
 import profect.eatcloud.domain.customer.dto.request.UpdateCartItemRequest;
 import profect.eatcloud.domain.customer.message.ResponseMessage;
 import profect.eatcloud.domain.customer.service.CartService;
@@ -131,4 +132,30 @@ class CartControllerTest {
         assertThat(response.getData()).isEqualTo(ResponseMessage.CART_CLEAR_SUCCESS);
         verify(cartService, times(1)).clearCart(customerId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 성공")
+    void applyBatch_success() {
+        UUID menuId = UUID.randomUUID();
+        BatchCartRequest request = new BatchCartRequest(List.of(
+            new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.UPDATE, menuId, null, null, null, 4)
+        ));
+        List<CartItem> updatedCart = List.of(
+            CartItem.builder()
+                .menuId(menuId)
+                .menuName("메뉴1")
+                .quantity(4)
+                .price(15000)
+                .storeId(UUID.randomUUID())
+                .build()
+        );
+
+        when(cartService.applyBatch(customerId, request)).thenReturn(updatedCart);
+
+        ApiResponse<List<CartItem>> response = cartController.applyBatch(userDetails, request);
+
+        assertThat(response.getCode()).isEqualTo(200);
+        assertThat(response.getData()).isEqualTo(updatedCart);
+        verify(cartService, times(1)).applyBatch(customerId, request);
+    }
+}
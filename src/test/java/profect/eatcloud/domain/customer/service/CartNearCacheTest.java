@@ -0,0 +1,82 @@
+package profect.eatcloud.domain.customer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import profect.eatcloud.domain.customer.dto.CartItem;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartNearCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final UUID customerId = UUID.randomUUID();
+
+    @Test
+    void disabledCache_ShouldNeverHit() {
+        CartNearCache nearCache = create(false);
+
+        nearCache.put(customerId, List.of(item()));
+        nearCache.invalidate(customerId);
+
+        assertTrue(nearCache.get(customerId).isEmpty());
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    void invalidate_ShouldEvictLocallyAndPublish() {
+        CartNearCache nearCache = create(true);
+        nearCache.put(customerId, List.of(item()));
+        assertTrue(nearCache.get(customerId).isPresent());
+
+        nearCache.invalidate(customerId);
+
+        assertTrue(nearCache.get(customerId).isEmpty());
+        verify(stringRedisTemplate).convertAndSend(eq(CartNearCache.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    void invalidationFromOtherInstance_ShouldEvict() {
+        CartNearCache nearCache = create(true);
+        nearCache.put(customerId, List.of(item()));
+
+        byte[] body = ("other-instance|" + customerId).getBytes(StandardCharsets.UTF_8);
+        nearCache.onMessage(new DefaultMessage(CartNearCache.INVALIDATION_CHANNEL.getBytes(), body), null);
+
+        assertTrue(nearCache.get(customerId).isEmpty());
+    }
+
+    private CartNearCache create(boolean enabled) {
+        return new CartNearCache(stringRedisTemplate, listenerContainer, new SimpleMeterRegistry(),
+            enabled, 100, Duration.ofSeconds(5));
+    }
+
+    private CartItem item() {
+        return CartItem.builder()
+            .menuId(UUID.randomUUID())
+            .menuName("메뉴")
+            .quantity(1)
+            .price(1000)
+            .storeId(UUID.randomUUID())
+            .build();
+    }
+}
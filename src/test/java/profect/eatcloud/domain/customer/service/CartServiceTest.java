@@ -7,11 +7,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import profect.eatcloud.domain.customer.dto.CartItem;
 import profect.eatcloud.domain.customer.dto.request.AddCartItemRequest;
+import profect.eatcloud.domain.customer.dto.request.BatchCartRequest;
 import profect.eatcloud.domain.customer.entity.Cart;
-import profect.eatcloud.domain.customer.entity.Customer;
 import profect.eatcloud.domain.customer.exception.CustomerException;
+import profect.eatcloud.domain.customer.repository.CartRedisRepository;
 import profect.eatcloud.domain.customer.repository.CartRepository;
-import profect.eatcloud.domain.customer.repository.CustomerRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,16 +21,34 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class CartServiceTest {
 
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private CartRedisRepository cartRedisRepository;
+
     @Mock
     private CartRepository cartRepository;
 
     @Mock
-    private CustomerRepository customerRepository;
+    private CartSyncWriter cartSyncWriter;
+
+    @Mock
+    private CartWriteBehindQueue cartWriteBehindQueue;
+
+    @Mock
+    private CartNearCache cartNearCache;
 
     @InjectMocks
     private CartService cartService;
@@ -45,18 +64,10 @@ class CartServiceTest {
                 UUID.randomUUID(), "Menu1", 2, 10000, UUID.randomUUID()
         );
 
-        Customer mockCustomer = new Customer();
-        mockCustomer.setId(customerId);
-        when(customerRepository.findById(customerId))
-                .thenReturn(Optional.of(mockCustomer));
-
-        // 새 Cart 객체 생성 및 save 시 반환되도록 설정
-        Cart mockCart = new Cart();
-        mockCart.setCustomer(mockCustomer);
-        mockCart.setCartItems(new ArrayList<>());
-        when(cartRepository.save(any(Cart.class))).thenReturn(mockCart);
-
         assertDoesNotThrow(() -> cartService.addItem(customerId, request));
+        // Redis 장애 시 동기 저장은 트랜잭션 프록시가 적용되는 CartSyncWriter 를 거친다
+        verify(cartWriteBehindQueue).discard(customerId);
+        verify(cartSyncWriter).write(eq(customerId), argThat(items -> items.size() == 1));
     }
 
     @Test
@@ -110,4 +121,122 @@ class CartServiceTest {
 
         assertThrows(CustomerException.class, () -> cartService.addItem(customerId, request));
     }
-}
\ No newline at end of file
+
+    @Test
+    void addItemFromDifferentStore_WhenRedisAvailable_ShouldThrowException() {
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(cartRedisRepository.addItem(eq(customerId), any(CartItem.class), eq(false)))
+                .thenReturn(new CartRedisRepository.CartMutation(
+                        CartRedisRepository.MutationStatus.STORE_MISMATCH, List.of()));
+
+        AddCartItemRequest request = new AddCartItemRequest(
+                UUID.randomUUID(), "다른가게메뉴", 1, 2000, UUID.randomUUID()
+        );
+
+        assertThrows(CustomerException.class, () -> cartService.addItem(customerId, request));
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
+    @Test
+    void getCartStats_WhenRedisAvailable_ShouldUseScriptTotals() {
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(cartRedisRepository.findTotals(customerId))
+                .thenReturn(Optional.of(new CartRedisRepository.CartTotals(2, 3, 7000)));
+
+        CartService.CartStats stats = cartService.getCartStats(customerId);
+
+        assertEquals(3, stats.getItemCount());
+        assertEquals(7000, stats.getTotalAmount());
+        assertEquals(2, stats.getMenuCount());
+        assertEquals("Redis", stats.getDataSource());
+        verify(cartRepository, never()).findByCustomerId(any());
+    }
+
+    @Test
+    void applyBatchWithAddsFromDifferentStores_ShouldThrowBeforeWriting() {
+        BatchCartRequest request = new BatchCartRequest(List.of(
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.ADD,
+                        UUID.randomUUID(), "메뉴A", 1000, UUID.randomUUID(), 1),
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.ADD,
+                        UUID.randomUUID(), "메뉴B", 2000, UUID.randomUUID(), 1)
+        ));
+
+        assertThrows(CustomerException.class, () -> cartService.applyBatch(customerId, request));
+        verifyNoInteractions(cartRedisRepository, cartWriteBehindQueue);
+    }
+
+    @Test
+    void applyBatch_WhenRedisUnavailable_ShouldApplyAllOperationsWithSingleSave() {
+        UUID storeId = UUID.randomUUID();
+        UUID existingMenuId = UUID.randomUUID();
+        UUID removedMenuId = UUID.randomUUID();
+        Cart cart = Cart.builder()
+                .cartItems(new ArrayList<>(List.of(
+                        CartItem.builder().menuId(existingMenuId).menuName("기존메뉴")
+                                .quantity(1).price(1000).storeId(storeId).build(),
+                        CartItem.builder().menuId(removedMenuId).menuName("삭제메뉴")
+                                .quantity(1).price(3000).storeId(storeId).build())))
+                .build();
+        when(cartRepository.findByCustomerId(customerId)).thenReturn(Optional.of(cart));
+
+        BatchCartRequest request = new BatchCartRequest(List.of(
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.ADD,
+                        UUID.randomUUID(), "새메뉴", 2000, storeId, 2),
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.UPDATE,
+                        existingMenuId, null, null, null, 5),
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.REMOVE,
+                        removedMenuId, null, null, null, null)
+        ));
+
+        List<CartItem> result = cartService.applyBatch(customerId, request);
+
+        assertEquals(2, result.size());
+        assertEquals(5, result.stream()
+                .filter(item -> item.getMenuId().equals(existingMenuId))
+                .findFirst().orElseThrow().getQuantity());
+        verify(cartSyncWriter, times(1)).write(eq(customerId), any());
+    }
+
+    @Test
+    void applyBatch_WhenRedisUnavailable_ShouldAllowReplacingCartWithAnotherStore() {
+        UUID oldStoreId = UUID.randomUUID();
+        UUID newStoreId = UUID.randomUUID();
+        UUID oldMenuId = UUID.randomUUID();
+        Cart cart = Cart.builder()
+                .cartItems(new ArrayList<>(List.of(
+                        CartItem.builder().menuId(oldMenuId).menuName("기존메뉴")
+                                .quantity(1).price(1000).storeId(oldStoreId).build())))
+                .build();
+        when(cartRepository.findByCustomerId(customerId)).thenReturn(Optional.of(cart));
+
+        BatchCartRequest request = new BatchCartRequest(List.of(
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.REMOVE,
+                        oldMenuId, null, null, null, null),
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.ADD,
+                        UUID.randomUUID(), "새메뉴", 2000, newStoreId, 1)
+        ));
+
+        List<CartItem> result = cartService.applyBatch(customerId, request);
+
+        assertEquals(1, result.size());
+        assertEquals(newStoreId, result.getFirst().getStoreId());
+    }
+
+    @Test
+    void applyBatch_WhenRedisUnavailable_ShouldRejectAnotherStoreWhileOldItemsRemain() {
+        Cart cart = Cart.builder()
+                .cartItems(new ArrayList<>(List.of(
+                        CartItem.builder().menuId(UUID.randomUUID()).menuName("기존메뉴")
+                                .quantity(1).price(1000).storeId(UUID.randomUUID()).build())))
+                .build();
+        when(cartRepository.findByCustomerId(customerId)).thenReturn(Optional.of(cart));
+
+        BatchCartRequest request = new BatchCartRequest(List.of(
+                new BatchCartRequest.CartOperation(BatchCartRequest.OperationType.ADD,
+                        UUID.randomUUID(), "새메뉴", 2000, UUID.randomUUID(), 1)
+        ));
+
+        assertThrows(CustomerException.class, () -> cartService.applyBatch(customerId, request));
+        verifyNoInteractions(cartSyncWriter);
+    }
+}
@@ -0,0 +1,92 @@
+package profect.eatcloud.domain.customer.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.customer.dto.CartItem;
+import profect.eatcloud.domain.customer.entity.Cart;
+import profect.eatcloud.domain.customer.entity.Customer;
+import profect.eatcloud.domain.customer.exception.CustomerException;
+import profect.eatcloud.domain.customer.repository.CartRepository;
+import profect.eatcloud.domain.customer.repository.CustomerRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartSyncWriterTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private CartSyncWriter cartSyncWriter;
+
+    private final UUID customerId = UUID.randomUUID();
+
+    @Test
+    void write_WhenCartMissing_ShouldCreateCartForCustomer() {
+        Customer customer = new Customer();
+        customer.setId(customerId);
+        when(cartRepository.findByCustomerId(customerId)).thenReturn(Optional.empty());
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+
+        cartSyncWriter.write(customerId, List.of(item()));
+
+        ArgumentCaptor<Cart> captor = ArgumentCaptor.forClass(Cart.class);
+        verify(cartRepository).save(captor.capture());
+        assertSame(customer, captor.getValue().getCustomer());
+        assertEquals(1, captor.getValue().getCartItems().size());
+    }
+
+    @Test
+    void write_WhenCartExists_ShouldReplaceItems() {
+        Cart cart = Cart.builder().cartItems(new ArrayList<>()).build();
+        when(cartRepository.findByCustomerId(customerId)).thenReturn(Optional.of(cart));
+
+        cartSyncWriter.write(customerId, List.of(item(), item()));
+
+        verify(cartRepository).save(cart);
+        assertEquals(2, cart.getCartItems().size());
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void write_WithEmptyItems_ShouldDeleteCart() {
+        cartSyncWriter.write(customerId, List.of());
+
+        verify(cartRepository).deleteByCustomerId(customerId);
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
+    @Test
+    void write_WhenCustomerMissing_ShouldThrow() {
+        when(cartRepository.findByCustomerId(customerId)).thenReturn(Optional.empty());
+        when(customerRepository.findById(customerId)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerException.class, () -> cartSyncWriter.write(customerId, List.of(item())));
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
+    private CartItem item() {
+        return CartItem.builder()
+                .menuId(UUID.randomUUID())
+                .menuName("메뉴")
+                .quantity(1)
+                .price(1000)
+                .storeId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package profect.eatcloud.domain.customer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.customer.repository.CartRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartTieringSweeperTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void archiveSweep_ShouldRunBatchesUntilPartialBatch() {
+        CartTieringSweeper sweeper = create(CartTieringSweeper.Mode.ARCHIVE, 10);
+        when(cartRepository.archiveStaleCarts(any(LocalDateTime.class), eq(100)))
+            .thenReturn(100, 100, 37);
+
+        int reclaimed = sweeper.sweep();
+
+        assertEquals(237, reclaimed);
+        verify(cartRepository, times(3)).archiveStaleCarts(any(LocalDateTime.class), eq(100));
+        verify(cartRepository, never()).purgeStaleCarts(any(), anyInt());
+        assertEquals(237.0, meterRegistry.get("cart.tiering.reclaimed").counter().count());
+    }
+
+    @Test
+    void purgeSweep_ShouldStopAtMaxBatches() {
+        CartTieringSweeper sweeper = create(CartTieringSweeper.Mode.PURGE, 2);
+        when(cartRepository.purgeStaleCarts(any(LocalDateTime.class), eq(100))).thenReturn(100);
+
+        int reclaimed = sweeper.sweep();
+
+        assertEquals(200, reclaimed);
+        verify(cartRepository, times(2)).purgeStaleCarts(any(LocalDateTime.class), eq(100));
+    }
+
+    private CartTieringSweeper create(CartTieringSweeper.Mode mode, int maxBatches) {
+        return new CartTieringSweeper(cartRepository, meterRegistry, true, mode,
+            Duration.ofDays(30), 100, maxBatches);
+    }
+}
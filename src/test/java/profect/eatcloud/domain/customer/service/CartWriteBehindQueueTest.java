@@ -0,0 +1,174 @@
+package profect.eatcloud.domain.customer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import profect.eatcloud.domain.customer.dto.CartItem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartWriteBehindQueueTest {
+
+    @Mock
+    private CartSyncWriter cartSyncWriter;
+
+    @Mock
+    private ThreadPoolTaskExecutor cartSyncExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CartWriteBehindQueue queue;
+
+    private final UUID customerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new CartWriteBehindQueue(cartSyncWriter, cartSyncExecutor, meterRegistry, 100);
+    }
+
+    @Test
+    void repeatedChanges_ShouldBeCoalescedIntoLatestSnapshot() {
+        List<CartItem> first = List.of(item(1));
+        List<CartItem> latest = List.of(item(3));
+
+        queue.enqueue(customerId, first);
+        queue.enqueue(customerId, latest);
+        queue.flushOnShutdown();
+
+        verify(cartSyncWriter, times(1)).writeBatch(Map.of(customerId, latest));
+        assertEquals(1.0, meterRegistry.counter("cart.writebehind.coalesced").count());
+        assertTrue(queue.findPending(customerId).isEmpty());
+    }
+
+    @Test
+    void rejectedBatch_ShouldBeRequeued() {
+        doThrow(new TaskRejectedException("full")).when(cartSyncExecutor).execute(any(Runnable.class));
+        List<CartItem> items = List.of(item(2));
+
+        queue.enqueue(customerId, items);
+        queue.flush();
+
+        assertEquals(items, queue.findPending(customerId).orElseThrow());
+        verifyNoInteractions(cartSyncWriter);
+    }
+
+    @Test
+    void failedBatch_ShouldFallBackToPerCustomerWrites() {
+        UUID otherCustomerId = UUID.randomUUID();
+        doThrow(new RuntimeException("batch failed"))
+            .doNothing()
+            .doThrow(new RuntimeException("still failing"))
+            .when(cartSyncWriter).writeBatch(anyMap());
+
+        queue.enqueue(customerId, List.of(item(1)));
+        queue.enqueue(otherCustomerId, List.of(item(1)));
+        queue.flushOnShutdown();
+
+        verify(cartSyncWriter, times(3)).writeBatch(anyMap());
+        assertEquals(1.0, meterRegistry.counter("cart.writebehind.failures").count());
+    }
+
+    @Test
+    void discardedChange_ShouldNotBeWritten() {
+        queue.enqueue(customerId, List.of(item(1)));
+        queue.discard(customerId);
+        queue.flushOnShutdown();
+
+        verifyNoInteractions(cartSyncWriter);
+    }
+
+    @Test
+    void discard_ShouldWaitForInFlightWriteAndDropItsSnapshot() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        runOnNewThread();
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(cartSyncWriter).writeBatch(anyMap());
+        List<CartItem> items = List.of(item(1));
+
+        queue.enqueue(customerId, items);
+        queue.flush();
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // 저장 중인 스냅샷도 조회되어야 한다
+        assertEquals(items, queue.findPending(customerId).orElseThrow());
+
+        CompletableFuture<Void> discarded = CompletableFuture.runAsync(() -> queue.discard(customerId));
+        Thread.sleep(100);
+        assertFalse(discarded.isDone(), "discard must wait for the in-flight write to commit");
+
+        release.countDown();
+        discarded.get(5, TimeUnit.SECONDS);
+
+        assertTrue(queue.findPending(customerId).isEmpty());
+        queue.flush();
+        verify(cartSyncWriter, times(1)).writeBatch(anyMap());
+    }
+
+    @Test
+    void changeDuringInFlightWrite_ShouldBeWrittenAfterItInOrder() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Map<UUID, List<CartItem>>> written = new CopyOnWriteArrayList<>();
+        runOnNewThread();
+        doAnswer(invocation -> {
+            written.add(Map.copyOf(invocation.getArgument(0)));
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(cartSyncWriter).writeBatch(anyMap());
+        List<CartItem> first = List.of(item(1));
+        List<CartItem> latest = List.of(item(2));
+
+        queue.enqueue(customerId, first);
+        queue.flush();
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        queue.enqueue(customerId, latest);
+        queue.flush();
+        assertEquals(1, written.size(), "second write must wait for the first");
+
+        release.countDown();
+        queue.flushOnShutdown();
+
+        assertEquals(List.of(Map.of(customerId, first), Map.of(customerId, latest)), written);
+        assertTrue(queue.findPending(customerId).isEmpty());
+    }
+
+    private void runOnNewThread() {
+        doAnswer(invocation -> {
+            new Thread(invocation.<Runnable>getArgument(0)).start();
+            return null;
+        }).when(cartSyncExecutor).execute(any(Runnable.class));
+    }
+
+    private CartItem item(int quantity) {
+        return CartItem.builder()
+            .menuId(UUID.randomUUID())
+            .menuName("메뉴")
+            .quantity(quantity)
+            .price(1000)
+            .storeId(UUID.randomUUID())
+            .build();
+    }
+}
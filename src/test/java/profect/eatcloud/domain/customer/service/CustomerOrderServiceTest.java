@@ -14,7 +14,11 @@ import profect.eatcloud.domain.globalCategory.entity.OrderTypeCode;
 import profect.eatcloud.domain.globalCategory.repository.OrderStatusCodeRepository;
 import profect.eatcloud.domain.globalCategory.repository.OrderTypeCodeRepository;
 import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.entity.OrderKey;
+import profect.eatcloud.domain.order.repository.OrderKeyRepository;
 import profect.eatcloud.domain.order.repository.OrderRepository;
+import profect.eatcloud.domain.order.service.OrderLineWriter;
+import profect.eatcloud.domain.order.service.OrderNumberGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,12 +36,21 @@ class CustomerOrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderKeyRepository orderKeyRepository;
+
     @Mock
     private OrderStatusCodeRepository orderStatusCodeRepository;
 
     @Mock
     private OrderTypeCodeRepository orderTypeCodeRepository;
 
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private OrderLineWriter orderLineWriter;
+
     private UUID customerId;
     private Cart cart;
     private OrderStatusCode orderStatusPending;
@@ -81,6 +94,7 @@ class CustomerOrderServiceTest {
         when(orderStatusCodeRepository.findByCode("PENDING")).thenReturn(Optional.of(orderStatusPending));
         when(orderTypeCodeRepository.findByCode("TAKEOUT")).thenReturn(Optional.of(orderTypeCode));
         when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+        when(orderNumberGenerator.next()).thenReturn("ORD-20250101-0000001");
 
         // when
         Order result = customerOrderService.createOrder(customerId, "TAKEOUT", true, 1000);
@@ -88,6 +102,7 @@ class CustomerOrderServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getCustomerId()).isEqualTo(customerId);
+        assertThat(result.getOrderNumber()).isEqualTo("ORD-20250101-0000001");
         assertThat(result.getOrderMenuList()).hasSize(2);
         assertThat(result.getOrderStatusCode().getCode()).isEqualTo("PENDING");
         assertThat(result.getOrderTypeCode().getCode()).isEqualTo("TAKEOUT");
@@ -102,6 +117,7 @@ class CustomerOrderServiceTest {
 
         verify(cartRepository).save(cart);
         verify(orderRepository).save(any(Order.class));
+        verify(orderKeyRepository).saveAndFlush(any(OrderKey.class));
     }
 
     @Test
@@ -0,0 +1,94 @@
+package profect.eatcloud.domain.globalCategory.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.customer.entity.Customer;
+import profect.eatcloud.domain.globalCategory.entity.OrderStatusCode;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CodeRegistryTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Metamodel metamodel;
+
+    @Mock
+    private EntityType<OrderStatusCode> orderStatusType;
+
+    @Mock
+    private EntityType<Customer> customerType;
+
+    @Mock
+    private Type<String> idType;
+
+    @Mock
+    private SingularAttribute<OrderStatusCode, String> idAttribute;
+
+    @Mock
+    private TypedQuery<Object[]> query;
+
+    @InjectMocks
+    private CodeRegistry codeRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        doReturn(Set.of(orderStatusType, customerType)).when(metamodel).getEntities();
+        doReturn(OrderStatusCode.class).when(orderStatusType).getJavaType();
+        doReturn(Customer.class).when(customerType).getJavaType();
+        doReturn(idType).when(orderStatusType).getIdType();
+        doReturn(String.class).when(idType).getJavaType();
+        doReturn(idAttribute).when(orderStatusType).getId(String.class);
+        when(idAttribute.getName()).thenReturn("code");
+        when(orderStatusType.getName()).thenReturn("OrderStatusCode");
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(query);
+    }
+
+    @Test
+    void find_ShouldReturnReferenceWithoutQueryingAgain() {
+        when(query.getResultList()).thenReturn(List.<Object[]>of(new Object[] {"PAID", "PAID"}));
+        OrderStatusCode reference = new OrderStatusCode();
+        when(entityManager.getReference(OrderStatusCode.class, "PAID")).thenReturn(reference);
+
+        codeRegistry.onApplicationReady();
+
+        assertSame(reference, codeRegistry.find(OrderStatusCode.class, "PAID").orElseThrow());
+        assertSame(reference, codeRegistry.find(OrderStatusCode.class, "PAID").orElseThrow());
+        assertTrue(codeRegistry.find(OrderStatusCode.class, "UNKNOWN").isEmpty());
+        verify(entityManager, times(1)).createQuery(anyString(), eq(Object[].class));
+    }
+
+    @Test
+    void onCodeTableChanged_ShouldReloadCodes() {
+        when(query.getResultList())
+            .thenReturn(List.<Object[]>of(new Object[] {"PAID", "PAID"}))
+            .thenReturn(List.<Object[]>of(new Object[] {"PAID", "PAID"}, new Object[] {"REFUNDED", "REFUNDED"}));
+
+        codeRegistry.onApplicationReady();
+        assertFalse(codeRegistry.contains(OrderStatusCode.class, "REFUNDED"));
+
+        codeRegistry.onCodeTableChanged(new CodeTableChangedEvent("order-status-codes"));
+
+        assertTrue(codeRegistry.contains(OrderStatusCode.class, "REFUNDED"));
+    }
+}
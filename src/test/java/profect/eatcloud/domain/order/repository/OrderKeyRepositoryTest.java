@@ -0,0 +1,52 @@
+package profect.eatcloud.domain.order.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+import profect.eatcloud.domain.order.entity.OrderKey;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OrderKeyRepositoryTest {
+
+	@Autowired
+	private OrderKeyRepository orderKeyRepository;
+
+	@Test
+	@DisplayName("다른 월에 저장된 주문이라도 같은 주문번호는 거부")
+	void saveAndFlush_DuplicateOrderNumber_Throws() {
+		// given
+		orderKeyRepository.saveAndFlush(new OrderKey(UUID.randomUUID(), "ORD-20250131-0000001",
+			LocalDateTime.of(2025, 1, 31, 23, 59)));
+
+		// when & then
+		OrderKey duplicate = new OrderKey(UUID.randomUUID(), "ORD-20250131-0000001",
+			LocalDateTime.of(2025, 2, 1, 0, 1));
+		assertThatThrownBy(() -> orderKeyRepository.saveAndFlush(duplicate))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	@DisplayName("같은 주문 ID 는 덮어쓰지 않고 거부")
+	void saveAndFlush_DuplicateOrderId_Throws() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		orderKeyRepository.saveAndFlush(new OrderKey(orderId, "ORD-20250131-0000001",
+			LocalDateTime.of(2025, 1, 31, 23, 59)));
+
+		// when & then
+		OrderKey duplicate = new OrderKey(orderId, "ORD-20250201-0000001", LocalDateTime.of(2025, 2, 1, 0, 1));
+		assertThatThrownBy(() -> orderKeyRepository.saveAndFlush(duplicate))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+}
@@ -0,0 +1,82 @@
+package profect.eatcloud.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.globalCategory.entity.OrderStatusCode;
+import profect.eatcloud.domain.globalCategory.service.CodeRegistry;
+import profect.eatcloud.domain.manager.entity.Manager;
+import profect.eatcloud.domain.manager.exception.ManagerNotFoundException;
+import profect.eatcloud.domain.manager.repository.ManagerRepository;
+import profect.eatcloud.domain.order.dto.BulkOrderTransitionResult;
+import profect.eatcloud.domain.order.repository.OrderRepository;
+import profect.eatcloud.domain.store.entity.Store;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminOrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CodeRegistry codeRegistry;
+
+    @Mock
+    private OrderStateMachine orderStateMachine;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @InjectMocks
+    private AdminOrderService adminOrderService;
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID storeId = UUID.randomUUID();
+    private final List<UUID> orderIds = List.of(UUID.randomUUID());
+
+    @Test
+    void changeStoreOrderStatuses_ShouldScopeToManagersStore() {
+        Manager manager = Manager.builder()
+            .store(Store.builder().storeId(storeId).build())
+            .build();
+        BulkOrderTransitionResult expected = new BulkOrderTransitionResult("CONFIRMED", orderIds, List.of());
+        when(codeRegistry.contains(OrderStatusCode.class, "CONFIRMED")).thenReturn(true);
+        when(managerRepository.findById(managerId)).thenReturn(Optional.of(manager));
+        when(orderStateMachine.transitionAll(storeId, orderIds, "CONFIRMED")).thenReturn(expected);
+
+        assertSame(expected, adminOrderService.changeStoreOrderStatuses(managerId, orderIds, "CONFIRMED"));
+        verify(orderStateMachine, never()).transitionAll(anyCollection(), anyString());
+    }
+
+    @Test
+    void changeStoreOrderStatuses_UnknownManagerShouldBeRejected() {
+        when(codeRegistry.contains(OrderStatusCode.class, "CONFIRMED")).thenReturn(true);
+        when(managerRepository.findById(managerId)).thenReturn(Optional.empty());
+
+        assertThrows(ManagerNotFoundException.class,
+            () -> adminOrderService.changeStoreOrderStatuses(managerId, orderIds, "CONFIRMED"));
+        verifyNoInteractions(orderStateMachine);
+    }
+
+    @Test
+    void changeStoreOrderStatuses_ManagerWithoutStoreShouldBeRejected() {
+        when(codeRegistry.contains(OrderStatusCode.class, "CONFIRMED")).thenReturn(true);
+        when(managerRepository.findById(managerId)).thenReturn(Optional.of(Manager.builder().build()));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> adminOrderService.changeStoreOrderStatuses(managerId, orderIds, "CONFIRMED"));
+        verify(orderStateMachine, never()).transitionAll(any(UUID.class), anyCollection(), anyString());
+    }
+}
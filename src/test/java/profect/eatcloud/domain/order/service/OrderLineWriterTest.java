@@ -0,0 +1,60 @@
+package profect.eatcloud.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.order.dto.OrderMenu;
+import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.entity.OrderLine;
+import profect.eatcloud.domain.order.repository.OrderLineRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderLineWriterTest {
+
+    @Mock
+    private OrderLineRepository orderLineRepository;
+
+    @InjectMocks
+    private OrderLineWriter orderLineWriter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void write_ShouldMergeDuplicateMenusIntoOneLine() {
+        UUID menuId = UUID.randomUUID();
+        UUID otherMenuId = UUID.randomUUID();
+        Order order = Order.builder()
+            .orderId(UUID.randomUUID())
+            .customerId(UUID.randomUUID())
+            .storeId(UUID.randomUUID())
+            .orderedAt(LocalDateTime.now())
+            .orderMenuList(List.of(
+                new OrderMenu(menuId, "김치찌개", 1, 8000),
+                new OrderMenu(otherMenuId, "공기밥", 2, 1000),
+                new OrderMenu(menuId, "김치찌개", 2, 8000)))
+            .build();
+
+        orderLineWriter.write(order);
+
+        ArgumentCaptor<List<OrderLine>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderLineRepository).saveAll(captor.capture());
+        List<OrderLine> lines = captor.getValue();
+
+        assertEquals(2, lines.size());
+        OrderLine merged = lines.get(0);
+        assertEquals(menuId, merged.getMenuId());
+        assertEquals(3, merged.getQuantity());
+        assertEquals(24000, merged.getLineAmount());
+        assertEquals(order.getStoreId(), merged.getStoreId());
+        assertEquals(2000, lines.get(1).getLineAmount());
+    }
+}
@@ -0,0 +1,106 @@
+package profect.eatcloud.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.order.repository.OrderNumberSequenceRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderNumberGeneratorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private OrderNumberSequenceRepository sequenceRepository;
+
+    @Test
+    void next_ShouldHandOutBlockInMemoryAndReserveNextBlockWhenExhausted() {
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        when(sequenceRepository.reserveBlock(today, 3)).thenReturn(3L, 6L);
+        OrderNumberGenerator generator = new OrderNumberGenerator(sequenceRepository, 3, fixedClock(today));
+
+        assertThat(generator.next()).isEqualTo("ORD-20250101-0000001");
+        assertThat(generator.next()).isEqualTo("ORD-20250101-0000002");
+        assertThat(generator.next()).isEqualTo("ORD-20250101-0000003");
+        assertThat(generator.next()).isEqualTo("ORD-20250101-0000004");
+
+        verify(sequenceRepository, times(2)).reserveBlock(today, 3);
+    }
+
+    @Test
+    void next_ShouldStartNewSequenceWhenDateChanges() {
+        LocalDate day1 = LocalDate.of(2025, 1, 1);
+        LocalDate day2 = day1.plusDays(1);
+        MutableClock clock = new MutableClock(day1);
+        when(sequenceRepository.reserveBlock(day1, 10)).thenReturn(10L);
+        when(sequenceRepository.reserveBlock(day2, 10)).thenReturn(10L);
+        OrderNumberGenerator generator = new OrderNumberGenerator(sequenceRepository, 10, clock);
+
+        assertThat(generator.next()).isEqualTo("ORD-20250101-0000001");
+        clock.date = day2;
+        assertThat(generator.next()).isEqualTo("ORD-20250102-0000001");
+    }
+
+    @Test
+    void next_ShouldNotDuplicateUnderConcurrency() throws InterruptedException {
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        AtomicLong sequence = new AtomicLong();
+        when(sequenceRepository.reserveBlock(eq(today), any(Long.class)))
+            .thenAnswer(invocation -> sequence.addAndGet(invocation.getArgument(1)));
+        OrderNumberGenerator generator = new OrderNumberGenerator(sequenceRepository, 50, fixedClock(today));
+
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 2000; i++) {
+            executor.execute(() -> issued.add(generator.next()));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(issued).hasSize(2000);
+    }
+
+    private Clock fixedClock(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZONE).toInstant(), ZONE);
+    }
+
+    private static class MutableClock extends Clock {
+        private LocalDate date;
+
+        MutableClock(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return date.atStartOfDay(ZONE).toInstant();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package profect.eatcloud.domain.order.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import profect.eatcloud.domain.order.entity.OrderOutboxEvent;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+import profect.eatcloud.domain.order.repository.OrderOutboxRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OrderOutboxRelay(orderOutboxRepository, stringRedisTemplate, redisHealthMonitor,
+            eventPublisher, meterRegistry, 100, 1000, 2);
+    }
+
+    @Test
+    void relay_ShouldAppendPublishAndMarkEvents() {
+        OrderOutboxEvent event = event(1L);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(orderOutboxRepository.claimUnpublished(100)).thenReturn(List.of(event));
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+
+        relay.relay();
+
+        verify(streamOperations).add(any(MapRecord.class), any(RedisStreamCommands.XAddOptions.class));
+        verify(eventPublisher).publishEvent(any(OrderLifecycleEvent.class));
+        assertNotNull(event.getPublishedAt());
+        assertEquals(1.0, meterRegistry.counter("order.outbox.published").count());
+    }
+
+    @Test
+    void relay_StreamFailureShouldLeaveEventUnpublished() {
+        OrderOutboxEvent event = event(2L);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(orderOutboxRepository.claimUnpublished(100)).thenReturn(List.of(event));
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        RedisConnectionFailureException failure = new RedisConnectionFailureException("down");
+        when(streamOperations.add(any(MapRecord.class), any(RedisStreamCommands.XAddOptions.class))).thenThrow(failure);
+
+        assertThrows(RedisConnectionFailureException.class, () -> relay.relay());
+
+        assertNull(event.getPublishedAt());
+        verify(redisHealthMonitor).recordFailure(failure);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void relay_HandlerFailureShouldLeaveEventAndLaterOnesUnpublished() {
+        OrderOutboxEvent delivered = event(3L);
+        OrderOutboxEvent failing = event(4L);
+        OrderOutboxEvent later = event(5L);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(orderOutboxRepository.claimUnpublished(100)).thenReturn(List.of(delivered, failing, later));
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        doNothing().doThrow(new IllegalStateException("handler failed"))
+            .when(eventPublisher).publishEvent(any(OrderLifecycleEvent.class));
+
+        relay.relay();
+
+        assertNotNull(delivered.getPublishedAt());
+        assertNull(failing.getPublishedAt());
+        assertEquals(1, failing.getPublishAttempts());
+        assertNull(later.getPublishedAt());
+        verify(eventPublisher, times(2)).publishEvent(any(OrderLifecycleEvent.class));
+        assertEquals(1.0, meterRegistry.counter("order.outbox.published").count());
+    }
+
+    @Test
+    void relay_ShouldGiveUpAfterMaxAttempts() {
+        OrderOutboxEvent failing = event(6L);
+        failing.recordFailedAttempt();
+        OrderOutboxEvent next = event(7L);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(orderOutboxRepository.claimUnpublished(100)).thenReturn(List.of(failing, next));
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        doThrow(new IllegalStateException("handler failed")).doNothing()
+            .when(eventPublisher).publishEvent(any(OrderLifecycleEvent.class));
+
+        relay.relay();
+
+        assertNotNull(failing.getPublishedAt());
+        assertNotNull(next.getPublishedAt());
+        assertEquals(1.0, meterRegistry.counter("order.outbox.dead-lettered").count());
+    }
+
+    @Test
+    void relay_ShouldSkipWhileRedisCircuitIsOpen() {
+        when(redisHealthMonitor.isAvailable()).thenReturn(false);
+
+        relay.relay();
+
+        verifyNoInteractions(orderOutboxRepository, eventPublisher);
+    }
+
+    private OrderOutboxEvent event(Long eventId) {
+        return OrderOutboxEvent.builder()
+            .eventId(eventId)
+            .orderId(UUID.randomUUID())
+            .orderNumber("ORD-20250101-0000001")
+            .customerId(UUID.randomUUID())
+            .storeId(UUID.randomUUID())
+            .eventType("PAID")
+            .previousStatus("PENDING")
+            .amount(15000)
+            .orderedAt(LocalDateTime.now())
+            .occurredAt(LocalDateTime.now())
+            .build();
+    }
+}
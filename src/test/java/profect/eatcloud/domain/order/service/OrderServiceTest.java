@@ -0,0 +1,176 @@
+package profect.eatcloud.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.globalCategory.entity.OrderStatusCode;
+import profect.eatcloud.domain.globalCategory.entity.OrderTypeCode;
+import profect.eatcloud.domain.globalCategory.service.CodeRegistry;
+import profect.eatcloud.domain.order.dto.OrderCursor;
+import profect.eatcloud.domain.order.dto.OrderMenu;
+import profect.eatcloud.domain.order.dto.response.OrderCursorPageResponseDto;
+import profect.eatcloud.domain.order.dto.response.OrderSummaryResponseDto;
+import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.repository.OrderKeyRepository;
+import profect.eatcloud.domain.order.repository.OrderRepository;
+import profect.eatcloud.domain.store.dto.MenuOrderInfoDto;
+import profect.eatcloud.domain.store.repository.MenuRepository_min;
+import profect.eatcloud.global.partition.PartitionMaintenanceService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderKeyRepository orderKeyRepository;
+
+    @Mock
+    private CodeRegistry codeRegistry;
+
+    @Mock
+    private MenuRepository_min menuRepository;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private OrderEventRecorder orderEventRecorder;
+
+    @Mock
+    private OrderStateMachine orderStateMachine;
+
+    @Mock
+    private OrderLineWriter orderLineWriter;
+
+    @Mock
+    private PartitionMaintenanceService partitionMaintenanceService;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private final UUID customerId = UUID.randomUUID();
+    private final UUID storeId = UUID.randomUUID();
+
+    @Test
+    void createPendingOrder_ShouldResolveAllMenusInOneQuery() {
+        UUID menuA = UUID.randomUUID();
+        UUID menuB = UUID.randomUUID();
+        stubCodes();
+        when(menuRepository.findOrderInfoByIdIn(anyCollection())).thenReturn(List.of(
+            new MenuOrderInfoDto(menuA, storeId, "치킨", BigDecimal.valueOf(18000), true),
+            new MenuOrderInfoDto(menuB, storeId, "콜라", BigDecimal.valueOf(2000), true)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Order order = orderService.createPendingOrder(customerId, storeId,
+            List.of(orderMenu(menuA, 1, 1), orderMenu(menuB, 2, 1)), "DELIVERY", false, 0);
+
+        assertEquals(22000, order.getTotalPrice());
+        assertEquals("치킨", order.getOrderMenuList().get(0).getMenuName());
+        verify(menuRepository, times(1)).findOrderInfoByIdIn(anyCollection());
+        verify(menuRepository, never()).findById(any());
+        verify(orderLineWriter).write(order);
+    }
+
+    @Test
+    void createPendingOrder_ShouldRejectInvalidMenusInSamePass() {
+        UUID missing = UUID.randomUUID();
+        UUID otherStore = UUID.randomUUID();
+        UUID soldOut = UUID.randomUUID();
+        stubCodes();
+        when(menuRepository.findOrderInfoByIdIn(anyCollection())).thenReturn(List.of(
+            new MenuOrderInfoDto(otherStore, UUID.randomUUID(), "타매장메뉴", BigDecimal.valueOf(5000), true),
+            new MenuOrderInfoDto(soldOut, storeId, "품절메뉴", BigDecimal.valueOf(5000), false)));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> orderService.createPendingOrder(customerId, storeId,
+                List.of(orderMenu(missing, 1, 0), orderMenu(otherStore, 1, 0), orderMenu(soldOut, 1, 0)),
+                "DELIVERY", false, 0));
+
+        assertTrue(exception.getMessage().contains(missing.toString()));
+        assertTrue(exception.getMessage().contains("타매장메뉴"));
+        assertTrue(exception.getMessage().contains("품절메뉴"));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void cancelOrder_ShouldRecordTransitionInOutbox() {
+        UUID orderId = UUID.randomUUID();
+        OrderStatusCode paid = OrderStatusCode.builder().code("PAID").build();
+        OrderStatusCode canceled = OrderStatusCode.builder().code("CANCELED").build();
+        Order order = Order.builder().orderId(orderId).orderStatusCode(paid).build();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(codeRegistry.find(OrderStatusCode.class, "CANCELED")).thenReturn(Optional.of(canceled));
+
+        orderService.cancelOrder(orderId);
+
+        assertSame(canceled, order.getOrderStatusCode());
+        verify(orderEventRecorder).record(order, "PAID");
+    }
+
+    @Test
+    void findOrderPageByStore_ShouldFetchOneExtraRowAndReturnNextCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderSummaryResponseDto> rows = List.of(summary(now), summary(now.minusMinutes(1)), summary(now.minusMinutes(2)));
+        LocalDateTime since = now.minusMonths(24);
+        when(partitionMaintenanceService.onlineSince()).thenReturn(since);
+        when(orderRepository.findStoreOrderPage(eq(storeId), eq(since), isNull(), eq(3), eq(false))).thenReturn(rows);
+
+        OrderCursorPageResponseDto page = orderService.findOrderPageByStore(storeId, null, 2, false);
+
+        assertEquals(2, page.orders().size());
+        assertTrue(page.hasNext());
+        OrderCursor next = OrderCursor.decode(page.nextCursor());
+        assertEquals(rows.get(1).orderedAt(), next.orderedAt());
+        assertEquals(rows.get(1).orderId(), next.orderId());
+    }
+
+    @Test
+    void findOrderPageByCustomer_LastPageShouldHaveNoCursor() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(orderRepository.findCustomerOrderPage(eq(customerId), isNull(), eq(cursor), eq(21), eq(true)))
+            .thenReturn(List.of(summary(LocalDateTime.now().minusDays(1))));
+
+        OrderCursorPageResponseDto page = orderService.findOrderPageByCustomer(customerId, cursor.encode(), null, true);
+
+        assertEquals(1, page.orders().size());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    private OrderSummaryResponseDto summary(LocalDateTime orderedAt) {
+        return new OrderSummaryResponseDto(UUID.randomUUID(), "ORD-20250101-0000001", customerId, storeId,
+            "PAID", "DELIVERY", 10000, 10000, orderedAt);
+    }
+
+    private void stubCodes() {
+        when(orderNumberGenerator.next()).thenReturn("ORD-20250101-0000001");
+        when(codeRegistry.find(OrderStatusCode.class, "PENDING")).thenReturn(Optional.of(mock(OrderStatusCode.class)));
+        when(codeRegistry.find(OrderTypeCode.class, "DELIVERY")).thenReturn(Optional.of(mock(OrderTypeCode.class)));
+    }
+
+    private OrderMenu orderMenu(UUID menuId, int quantity, int clientPrice) {
+        return OrderMenu.builder()
+            .menuId(menuId)
+            .menuName("클라이언트 메뉴명")
+            .quantity(quantity)
+            .price(clientPrice)
+            .build();
+    }
+}
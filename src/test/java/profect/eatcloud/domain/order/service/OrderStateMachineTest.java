@@ -0,0 +1,126 @@
+package profect.eatcloud.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.order.dto.BulkOrderTransitionResult;
+import profect.eatcloud.domain.order.dto.OrderTransitionResult;
+import profect.eatcloud.domain.order.dto.OrderTransitionResult.Outcome;
+import profect.eatcloud.domain.order.repository.OrderRepository;
+import profect.eatcloud.domain.order.repository.OrderTransitionRow;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStateMachineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderStateMachine orderStateMachine;
+
+    private final UUID orderId = UUID.randomUUID();
+
+    @Test
+    void transition_ShouldApplyWithSingleConditionalUpdate() {
+        OrderTransitionRow row = row(orderId, "ORD-20250101-0000001");
+        when(orderRepository.transitionStatus(eq(List.of(orderId)), eq(Set.of("PAID")), eq("CONFIRMED"), anyString()))
+            .thenReturn(List.of(row));
+
+        OrderTransitionResult result = orderStateMachine.transition(orderId, "PAID", "CONFIRMED");
+
+        assertTrue(result.applied());
+        assertEquals("ORD-20250101-0000001", result.orderNumber());
+        verify(orderRepository, never()).findStatusCodeByOrderId(any());
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    void transition_LosingConcurrentRequestShouldReportCurrentStatus() {
+        when(orderRepository.transitionStatus(anyCollection(), anyCollection(), eq("CONFIRMED"), anyString()))
+            .thenReturn(List.of());
+        when(orderRepository.findStatusCodeByOrderId(orderId)).thenReturn(Optional.of("CONFIRMED"));
+
+        OrderTransitionResult result = orderStateMachine.transition(orderId, "PAID", "CONFIRMED");
+
+        assertEquals(Outcome.INVALID_TRANSITION, result.outcome());
+        assertEquals("CONFIRMED", result.currentStatus());
+    }
+
+    @Test
+    void transition_MissingOrderShouldBeNotFound() {
+        when(orderRepository.transitionStatus(anyCollection(), anyCollection(), eq("COMPLETED"), anyString()))
+            .thenReturn(List.of());
+        when(orderRepository.findStatusCodeByOrderId(orderId)).thenReturn(Optional.empty());
+
+        assertEquals(Outcome.NOT_FOUND, orderStateMachine.transition(orderId, "COMPLETED").outcome());
+    }
+
+    @Test
+    void transition_DisallowedTransitionShouldBeRejectedWithoutQuery() {
+        assertThrows(IllegalArgumentException.class,
+            () -> orderStateMachine.transition(orderId, "COMPLETED", "PENDING"));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void transitionAll_ShouldSplitAppliedAndSkipped() {
+        UUID other = UUID.randomUUID();
+        OrderTransitionRow row = row(orderId, "ORD-20250101-0000001");
+        when(orderRepository.transitionStatus(anyCollection(), eq(Set.of("CONFIRMED", "READY", "DELIVERING")),
+            eq("COMPLETED"), anyString())).thenReturn(List.of(row));
+
+        BulkOrderTransitionResult result = orderStateMachine.transitionAll(List.of(orderId, other), "COMPLETED");
+
+        assertEquals(List.of(orderId), result.applied());
+        assertEquals(List.of(other), result.skipped());
+    }
+
+    @Test
+    void transitionAll_WithStore_ShouldSkipOrdersOfOtherStores() {
+        UUID storeId = UUID.randomUUID();
+        UUID otherStoreOrder = UUID.randomUUID();
+        OrderTransitionRow row = row(orderId, "ORD-20250101-0000001");
+        when(orderRepository.findOrderIdsInStore(eq(storeId), anyCollection())).thenReturn(List.of(orderId));
+        when(orderRepository.transitionStatus(eq(Set.of(orderId)), anyCollection(), eq("CANCELED"), anyString()))
+            .thenReturn(List.of(row));
+
+        BulkOrderTransitionResult result =
+            orderStateMachine.transitionAll(storeId, List.of(otherStoreOrder, orderId), "CANCELED");
+
+        assertEquals(List.of(orderId), result.applied());
+        assertEquals(List.of(otherStoreOrder), result.skipped());
+    }
+
+    @Test
+    void transitionAll_WithStore_ShouldNotUpdateWhenNoOrderBelongsToStore() {
+        UUID storeId = UUID.randomUUID();
+        when(orderRepository.findOrderIdsInStore(eq(storeId), anyCollection())).thenReturn(List.of());
+
+        BulkOrderTransitionResult result = orderStateMachine.transitionAll(storeId, List.of(orderId), "CANCELED");
+
+        assertTrue(result.applied().isEmpty());
+        assertEquals(List.of(orderId), result.skipped());
+        verify(orderRepository, never()).transitionStatus(anyCollection(), anyCollection(), anyString(), any());
+    }
+
+    private OrderTransitionRow row(UUID id, String orderNumber) {
+        OrderTransitionRow row = mock(OrderTransitionRow.class);
+        lenient().when(row.getOrderId()).thenReturn(id);
+        lenient().when(row.getOrderNumber()).thenReturn(orderNumber);
+        return row;
+    }
+}
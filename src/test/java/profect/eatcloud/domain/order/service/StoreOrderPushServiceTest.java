@@ -0,0 +1,96 @@
+package profect.eatcloud.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import profect.eatcloud.domain.order.dto.response.StoreOrderPushMessage;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreOrderPushServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private StoreOrderPushService pushService;
+
+    private final UUID storeId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        pushService = new StoreOrderPushService(messagingTemplate, stringRedisTemplate, listenerContainer,
+            objectMapper, false);
+    }
+
+    @Test
+    void paidOrder_ShouldBeFannedOutAndDeliveredToStoreTopic() {
+        pushService.onOrderEvent(event("PAID", "PENDING"));
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(StoreOrderPushService.PUSH_CHANNEL), published.capture());
+
+        pushService.onMessage(new DefaultMessage(StoreOrderPushService.PUSH_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        ArgumentCaptor<StoreOrderPushMessage> pushed = ArgumentCaptor.forClass(StoreOrderPushMessage.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/stores/" + storeId + "/orders"), pushed.capture());
+        assertEquals("PAID", pushed.getValue().status());
+    }
+
+    @Test
+    void canceledBeforePayment_ShouldNotBePushed() {
+        pushService.onOrderEvent(event("CANCELED", "PENDING"));
+
+        verifyNoInteractions(stringRedisTemplate, messagingTemplate);
+    }
+
+    @Test
+    void kitchenAndRefundTransitions_ShouldBePushed() {
+        pushService.onOrderEvent(event("PREPARING", "CONFIRMED"));
+        pushService.onOrderEvent(event("DELIVERING", "READY"));
+        pushService.onOrderEvent(event("REFUNDED", "COMPLETED"));
+
+        verify(stringRedisTemplate, times(3)).convertAndSend(eq(StoreOrderPushService.PUSH_CHANNEL), anyString());
+    }
+
+    @Test
+    void fanOutFailure_ShouldStillDeliverLocally() {
+        doThrow(new RuntimeException("redis down")).when(stringRedisTemplate).convertAndSend(anyString(), anyString());
+
+        pushService.onOrderEvent(event("CONFIRMED", "PAID"));
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/stores/" + storeId + "/orders"),
+            any(StoreOrderPushMessage.class));
+    }
+
+    private OrderLifecycleEvent event(String type, String previousStatus) {
+        return new OrderLifecycleEvent(1L, UUID.randomUUID(), "ORD-20250101-0000001", UUID.randomUUID(), storeId,
+            type, previousStatus, 15000, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
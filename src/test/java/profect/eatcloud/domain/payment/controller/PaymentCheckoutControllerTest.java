@@ -0,0 +1,156 @@
+package profect.eatcloud.domain.payment.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.ui.ExtendedModelMap;
+
+import profect.eatcloud.domain.payment.dto.CheckoutRequest;
+import profect.eatcloud.domain.payment.dto.CheckoutResponse;
+import profect.eatcloud.domain.payment.dto.IdempotentResponse;
+import profect.eatcloud.domain.payment.dto.PaymentCallbackRequest;
+import profect.eatcloud.domain.payment.exception.PaymentException;
+import profect.eatcloud.domain.payment.exception.PaymentValidationException;
+import profect.eatcloud.domain.payment.service.PaymentAuthenticationService;
+import profect.eatcloud.domain.payment.service.PaymentIdempotencyService;
+import profect.eatcloud.domain.payment.service.PaymentProcessingService;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCheckoutControllerTest {
+
+    private static final String STORE_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String MENU_ID = "550e8400-e29b-41d4-a716-446655440001";
+
+    private MockMvc mockMvc;
+    private PaymentController controller;
+
+    @Mock
+    private PaymentProcessingService paymentProcessingService;
+
+    @Mock
+    private PaymentAuthenticationService paymentAuthenticationService;
+
+    @Mock
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @BeforeEach
+    void setup() {
+        controller = new PaymentController(paymentProcessingService,
+            paymentAuthenticationService, paymentIdempotencyService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .build();
+    }
+
+    @DisplayName("체크아웃 JSON 본문을 CheckoutRequest 로 바로 바인딩")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenTypedBody_whenCheckout_thenBindCheckoutRequest() throws Exception {
+        given(paymentIdempotencyService.execute(eq("checkout"), isNull(), isNull(), any()))
+            .willAnswer(invocation -> ((Supplier<IdempotentResponse>) invocation.getArgument(3)).get());
+        given(paymentProcessingService.processCheckout(any(CheckoutRequest.class)))
+            .willReturn(CheckoutResponse.builder().orderId("TOSS_ORDER").amount(18000).build());
+
+        mockMvc.perform(post("/api/v1/payment/checkout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"storeId":"%s","totalPrice":36000,"usePoints":false,
+                     "orderMenuList":[{"menuId":"%s","menuName":"후라이드치킨","price":18000,"quantity":2}]}
+                    """.formatted(STORE_ID, MENU_ID)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orderId").value("TOSS_ORDER"));
+
+        ArgumentCaptor<CheckoutRequest> captor = ArgumentCaptor.forClass(CheckoutRequest.class);
+        then(paymentProcessingService).should().processCheckout(captor.capture());
+        CheckoutRequest request = captor.getValue();
+        assertThat(request.getStoreId()).isEqualTo(UUID.fromString(STORE_ID));
+        assertThat(request.getOrderType()).isEqualTo("배달");
+        assertThat(request.getOrderMenuList()).hasSize(1);
+        assertThat(request.getOrderMenuList().get(0).getQuantity()).isEqualTo(2);
+    }
+
+    @DisplayName("매장 ID 가 없으면 기본 매장으로 대체하지 않고 400")
+    @Test
+    void givenMissingStoreId_whenCheckout_thenBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/payment/checkout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"totalPrice":18000,
+                     "orderMenuList":[{"menuId":"%s","price":18000,"quantity":1}]}
+                    """.formatted(MENU_ID)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("매장 ID는 필수입니다."));
+
+        then(paymentProcessingService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("형식이 잘못된 본문은 400")
+    @Test
+    void givenMalformedBody_whenCheckout_thenBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/payment/checkout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"storeId\":\"not-a-uuid\"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("주문 데이터 형식이 올바르지 않습니다."));
+
+        then(paymentProcessingService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("결제 검증 실패는 종결된 실패로 캐시")
+    @Test
+    void givenValidationFailure_whenPaymentSuccess_thenCacheFailView() {
+        CompletableFuture<IdempotentResponse>[] cached = captureSuccessAction();
+        given(paymentProcessingService.processPaymentSuccess(any(PaymentCallbackRequest.class)))
+            .willReturn(CompletableFuture.failedFuture(
+                new PaymentValidationException("callback", "결제 금액이 일치하지 않습니다.")));
+
+        String view = controller.paymentSuccess("pk_1", "TOSS_ORDER", 18000, null, new ExtendedModelMap()).join();
+
+        assertThat(view).isEqualTo("payment/fail");
+        assertThat(cached[0].join().view()).isEqualTo("payment/fail");
+    }
+
+    @DisplayName("일시 오류는 캐시하지 않고 예외로 끝내 재시도 허용")
+    @Test
+    void givenTransientFailure_whenPaymentSuccess_thenDoNotCache() {
+        CompletableFuture<IdempotentResponse>[] cached = captureSuccessAction();
+        given(paymentProcessingService.processPaymentSuccess(any(PaymentCallbackRequest.class)))
+            .willReturn(CompletableFuture.failedFuture(
+                new PaymentException("결제 승인 중 오류가 발생했습니다: timeout", "PAYMENT_CONFIRM_ERROR")));
+        ExtendedModelMap model = new ExtendedModelMap();
+
+        String view = controller.paymentSuccess("pk_1", "TOSS_ORDER", 18000, null, model).join();
+
+        assertThat(view).isEqualTo("payment/fail");
+        assertThat(model.getAttribute("error")).isEqualTo("결제 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(cached[0]).isCompletedExceptionally();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<IdempotentResponse>[] captureSuccessAction() {
+        CompletableFuture<IdempotentResponse>[] actionResult = new CompletableFuture[1];
+        given(paymentIdempotencyService.executeAsync(eq("success"), eq("TOSS_ORDER"), eq("pk_1"), any()))
+            .willAnswer(invocation -> {
+                actionResult[0] = ((Supplier<CompletableFuture<IdempotentResponse>>) invocation.getArgument(3)).get();
+                return actionResult[0];
+            });
+        return actionResult;
+    }
+}
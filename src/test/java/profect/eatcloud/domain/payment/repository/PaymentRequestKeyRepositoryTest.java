@@ -0,0 +1,38 @@
+package profect.eatcloud.domain.payment.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+import profect.eatcloud.domain.payment.entity.PaymentRequestKey;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class PaymentRequestKeyRepositoryTest {
+
+	@Autowired
+	private PaymentRequestKeyRepository paymentRequestKeyRepository;
+
+	@Test
+	@DisplayName("다른 월에 요청되었더라도 같은 토스 주문 ID 는 거부")
+	void saveAndFlush_DuplicateTossOrderId_Throws() {
+		// given
+		paymentRequestKeyRepository.saveAndFlush(new PaymentRequestKey("ORDER_123456", UUID.randomUUID(),
+			LocalDateTime.of(2025, 1, 31, 23, 59)));
+
+		// when & then
+		PaymentRequestKey duplicate = new PaymentRequestKey("ORDER_123456", UUID.randomUUID(),
+			LocalDateTime.of(2025, 2, 1, 0, 1));
+		assertThatThrownBy(() -> paymentRequestKeyRepository.saveAndFlush(duplicate))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+}
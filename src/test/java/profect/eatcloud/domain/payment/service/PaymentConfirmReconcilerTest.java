@@ -0,0 +1,133 @@
+package profect.eatcloud.domain.payment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
+import profect.eatcloud.domain.payment.entity.PaymentRequest;
+import profect.eatcloud.domain.payment.exception.PaymentException;
+import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmReconcilerTest {
+
+    @Mock
+    private PaymentRequestRepository paymentRequestRepository;
+
+    @Mock
+    private TossPaymentService tossPaymentService;
+
+    @Mock
+    private PaymentConfirmationService paymentConfirmationService;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC"));
+    private final LocalDateTime cutoff = LocalDateTime.now(clock).minusMinutes(2);
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentConfirmReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new PaymentConfirmReconciler(paymentRequestRepository, tossPaymentService,
+            paymentConfirmationService, meterRegistry, Duration.ofMinutes(2), 100, clock);
+    }
+
+    @Test
+    void reconcile_ShouldCompleteRequestApprovedByToss() {
+        PaymentRequest paymentRequest = claimed(paymentRequest());
+        TossPaymentResponse payment = tossPayment("DONE");
+        when(tossPaymentService.findPaymentByOrderIdAsync("ORDER_123456")).thenReturn(Mono.just(payment));
+
+        int resolved = reconciler.reconcile();
+
+        assertEquals(1, resolved);
+        verify(paymentConfirmationService).complete(paymentRequest, payment);
+        verify(paymentConfirmationService, never()).abort(any());
+    }
+
+    @Test
+    void reconcile_ShouldAbortRequestUnknownToToss() {
+        PaymentRequest paymentRequest = claimed(paymentRequest());
+        when(tossPaymentService.findPaymentByOrderIdAsync("ORDER_123456")).thenReturn(Mono.empty());
+
+        int resolved = reconciler.reconcile();
+
+        assertEquals(1, resolved);
+        verify(paymentConfirmationService).abort(paymentRequest);
+        verify(paymentConfirmationService, never()).complete(any(), any());
+    }
+
+    @Test
+    void reconcile_ShouldLeaveRequestWhileTossIsStillProcessing() {
+        claimed(paymentRequest());
+        when(tossPaymentService.findPaymentByOrderIdAsync("ORDER_123456"))
+            .thenReturn(Mono.just(tossPayment("IN_PROGRESS")));
+
+        int resolved = reconciler.reconcile();
+
+        assertEquals(0, resolved);
+        verifyNoInteractions(paymentConfirmationService);
+    }
+
+    @Test
+    void reconcile_ShouldSkipRequestClaimedByAnotherInstance() {
+        PaymentRequest paymentRequest = paymentRequest();
+        when(paymentRequestRepository.findStaleConfirming(cutoff, 100)).thenReturn(List.of(paymentRequest));
+        when(paymentRequestRepository.claimStaleConfirming(paymentRequest.getPaymentRequestId(), cutoff))
+            .thenReturn(0);
+
+        int resolved = reconciler.reconcile();
+
+        assertEquals(0, resolved);
+        verifyNoInteractions(tossPaymentService, paymentConfirmationService);
+    }
+
+    @Test
+    void reconcile_ShouldCountFailureAndContinue() {
+        claimed(paymentRequest());
+        when(tossPaymentService.findPaymentByOrderIdAsync("ORDER_123456"))
+            .thenReturn(Mono.error(new PaymentException("결제 조회 중 오류가 발생했습니다: timeout", "PAYMENT_QUERY_ERROR")));
+
+        int resolved = reconciler.reconcile();
+
+        assertEquals(0, resolved);
+        verifyNoInteractions(paymentConfirmationService);
+        assertEquals(1.0, meterRegistry.counter("payment.confirm.reconciled", "outcome", "failed").count());
+    }
+
+    private PaymentRequest claimed(PaymentRequest paymentRequest) {
+        when(paymentRequestRepository.findStaleConfirming(cutoff, 100)).thenReturn(List.of(paymentRequest));
+        when(paymentRequestRepository.claimStaleConfirming(paymentRequest.getPaymentRequestId(), cutoff))
+            .thenReturn(1);
+        return paymentRequest;
+    }
+
+    private PaymentRequest paymentRequest() {
+        PaymentRequest paymentRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "ORDER_123456", 15000);
+        paymentRequest.setPaymentRequestId(UUID.randomUUID());
+        paymentRequest.setStatus("CONFIRMING");
+        return paymentRequest;
+    }
+
+    private TossPaymentResponse tossPayment(String status) {
+        TossPaymentResponse payment = new TossPaymentResponse();
+        payment.setStatus(status);
+        return payment;
+    }
+}
@@ -0,0 +1,187 @@
+package profect.eatcloud.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import profect.eatcloud.domain.customer.entity.Customer;
+import profect.eatcloud.domain.customer.repository.CustomerRepository;
+import profect.eatcloud.domain.order.entity.Order;
+import profect.eatcloud.domain.order.service.OrderService;
+import profect.eatcloud.domain.payment.dto.PaymentCallbackRequest;
+import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
+import profect.eatcloud.domain.payment.entity.Payment;
+import profect.eatcloud.domain.payment.entity.PaymentRequest;
+import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
+import profect.eatcloud.domain.payment.service.PaymentRollbackService.RollbackResult;
+import profect.eatcloud.domain.payment.service.PaymentValidationService.ValidationResult;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmationServiceTest {
+
+    @Mock
+    private PaymentValidationService paymentValidationService;
+
+    @Mock
+    private PaymentRollbackService paymentRollbackService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private PaymentRequestRepository paymentRequestRepository;
+
+    @InjectMocks
+    private PaymentConfirmationService paymentConfirmationService;
+
+    private final PaymentCallbackRequest callback = PaymentCallbackRequest.builder()
+        .paymentKey("payment_key_123")
+        .orderId("ORDER_123456")
+        .amount(15000)
+        .build();
+
+    @DisplayName("승인 전 결제 요청을 CONFIRMING 으로 선점")
+    @Test
+    void givenPendingRequest_whenBegin_thenMarkConfirming() {
+        PaymentRequest paymentRequest = paymentRequest();
+        given(paymentValidationService.validateCallback("ORDER_123456", 15000, "payment_key_123"))
+            .willReturn(ValidationResult.success(paymentRequest));
+        given(paymentRequestRepository.markConfirming(paymentRequest.getPaymentRequestId())).willReturn(1);
+
+        PaymentRequest result = paymentConfirmationService.begin(callback);
+
+        assertThat(result).isSameAs(paymentRequest);
+    }
+
+    @DisplayName("다른 콜백이 이미 선점한 결제는 승인하지 않음")
+    @Test
+    void givenAlreadyClaimedRequest_whenBegin_thenThrow() {
+        PaymentRequest paymentRequest = paymentRequest();
+        given(paymentValidationService.validateCallback("ORDER_123456", 15000, "payment_key_123"))
+            .willReturn(ValidationResult.success(paymentRequest));
+        given(paymentRequestRepository.markConfirming(paymentRequest.getPaymentRequestId())).willReturn(0);
+
+        assertThatThrownBy(() -> paymentConfirmationService.begin(callback))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("이미 처리 중인 결제입니다");
+    }
+
+    @DisplayName("검증 실패 시 선점하지 않음")
+    @Test
+    void givenInvalidCallback_whenBegin_thenThrowWithoutClaim() {
+        given(paymentValidationService.validateCallback("ORDER_123456", 15000, "payment_key_123"))
+            .willReturn(ValidationResult.fail("결제 금액이 일치하지 않습니다."));
+
+        assertThatThrownBy(() -> paymentConfirmationService.begin(callback))
+            .hasMessageContaining("결제 금액이 일치하지 않습니다");
+        then(paymentRequestRepository).should(never()).markConfirming(any());
+    }
+
+    @DisplayName("승인 후 결제 요청을 PAID 로 종결하고 결제 저장 및 주문 결제 완료")
+    @Test
+    void givenTossResponse_whenComplete_thenSavePaymentAndCompleteOrder() {
+        PaymentRequest paymentRequest = paymentRequest();
+        UUID customerId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
+        Order order = Order.builder().orderId(paymentRequest.getOrderId()).customerId(customerId).build();
+        Customer customer = Customer.builder().id(customerId).build();
+        TossPaymentResponse tossResponse = new TossPaymentResponse();
+
+        given(paymentRequestRepository.finishConfirming(paymentRequest.getPaymentRequestId(), "PAID")).willReturn(1);
+        given(orderService.findById(paymentRequest.getOrderId())).willReturn(Optional.of(order));
+        given(customerRepository.findById(customerId)).willReturn(Optional.of(customer));
+        given(paymentService.saveSuccessfulPayment(paymentRequest, customer, tossResponse))
+            .willReturn(Payment.builder().paymentId(paymentId).build());
+
+        paymentConfirmationService.complete(paymentRequest, tossResponse);
+
+        then(orderService).should().completePayment(paymentRequest.getOrderId(), paymentId);
+    }
+
+    @DisplayName("이미 종결된 결제 요청은 주문을 결제 완료로 되돌리지 않음")
+    @Test
+    void givenFinishedRequest_whenComplete_thenSkip() {
+        PaymentRequest paymentRequest = paymentRequest();
+        given(paymentRequestRepository.finishConfirming(paymentRequest.getPaymentRequestId(), "PAID")).willReturn(0);
+
+        paymentConfirmationService.complete(paymentRequest, new TossPaymentResponse());
+
+        then(paymentService).should(never()).saveSuccessfulPayment(any(), any(), any());
+        then(orderService).should(never()).completePayment(any(), any());
+    }
+
+    @DisplayName("승인 실패 시 결제 요청을 FAILED 로 종결하고 주문 취소/포인트 환불")
+    @Test
+    void givenFailedConfirmation_whenAbort_thenRollback() {
+        PaymentRequest paymentRequest = paymentRequest();
+        given(paymentRequestRepository.finishConfirming(paymentRequest.getPaymentRequestId(), "FAILED"))
+            .willReturn(1);
+        given(paymentRollbackService.rollbackByOrderId(paymentRequest.getOrderId(), "FAILED"))
+            .willReturn(RollbackResult.failure("주문 정보를 찾을 수 없습니다."));
+
+        paymentConfirmationService.abort(paymentRequest);
+
+        then(paymentRollbackService).should().rollbackByOrderId(paymentRequest.getOrderId(), "FAILED");
+    }
+
+    @DisplayName("이미 종결된 결제 요청은 다시 환불하지 않음")
+    @Test
+    void givenFinishedRequest_whenAbort_thenSkipRollback() {
+        PaymentRequest paymentRequest = paymentRequest();
+        given(paymentRequestRepository.finishConfirming(paymentRequest.getPaymentRequestId(), "FAILED"))
+            .willReturn(0);
+
+        paymentConfirmationService.abort(paymentRequest);
+
+        then(paymentRollbackService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("실패 콜백은 PENDING 인 결제 요청만 취소")
+    @Test
+    void givenPendingRequest_whenCancel_thenRollback() {
+        PaymentRequest paymentRequest = paymentRequest();
+        RollbackResult rolledBack = RollbackResult.success(paymentRequest.getOrderId(), 0);
+        given(paymentRequestRepository.expirePending(eq(List.of(paymentRequest.getPaymentRequestId())), anyString()))
+            .willReturn(1);
+        given(paymentRollbackService.rollbackByOrderId(paymentRequest.getOrderId(), "CANCELED"))
+            .willReturn(rolledBack);
+
+        assertThat(paymentConfirmationService.cancel(paymentRequest)).isSameAs(rolledBack);
+    }
+
+    @DisplayName("승인 중인 결제 요청에 대한 실패 콜백은 주문 취소/환불하지 않음")
+    @Test
+    void givenConfirmingRequest_whenCancel_thenReject() {
+        PaymentRequest paymentRequest = paymentRequest();
+        paymentRequest.setStatus("CONFIRMING");
+        given(paymentRequestRepository.expirePending(eq(List.of(paymentRequest.getPaymentRequestId())), anyString()))
+            .willReturn(0);
+
+        RollbackResult result = paymentConfirmationService.cancel(paymentRequest);
+
+        assertThat(result.isSuccess()).isFalse();
+        then(paymentRollbackService).shouldHaveNoInteractions();
+    }
+
+    private PaymentRequest paymentRequest() {
+        PaymentRequest paymentRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "ORDER_123456", 15000);
+        paymentRequest.setPaymentRequestId(UUID.randomUUID());
+        return paymentRequest;
+    }
+}
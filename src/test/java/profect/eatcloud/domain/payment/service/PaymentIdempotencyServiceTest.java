@@ -0,0 +1,166 @@
+package profect.eatcloud.domain.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import profect.eatcloud.domain.payment.dto.IdempotentResponse;
+import profect.eatcloud.domain.payment.exception.IdempotencyConflictException;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentIdempotencyServiceTest {
+
+    private static final String KEY = "idempotency:checkout:customer-1:key-1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentIdempotencyService service;
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new PaymentIdempotencyService(stringRedisTemplate, redisHealthMonitor, objectMapper,
+            meterRegistry, Duration.ofHours(24), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void firstRequest_ShouldRunActionAndStoreResponse() throws Exception {
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(KEY, PaymentIdempotencyService.IN_PROGRESS, Duration.ofSeconds(30)))
+            .thenReturn(true);
+
+        IdempotentResponse response = service.execute("checkout", "customer-1", "key-1", this::checkout);
+
+        assertEquals(1, invocations.get());
+        verify(valueOperations).set(KEY, objectMapper.writeValueAsString(response), Duration.ofHours(24));
+    }
+
+    @Test
+    void replay_ShouldReturnStoredResponseWithoutRunningAction() throws Exception {
+        String stored = objectMapper.writeValueAsString(IdempotentResponse.ofBody(200, Map.of("orderId", "TOSS_1")));
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn(stored);
+
+        IdempotentResponse response = service.execute("checkout", "customer-1", "key-1", this::checkout);
+
+        assertEquals(0, invocations.get());
+        assertEquals("TOSS_1", response.body().get("orderId"));
+        assertEquals(1.0, meterRegistry.counter("payment.idempotency.replayed").count());
+    }
+
+    @Test
+    void concurrentRequest_ShouldBeRejectedWhileInProgress() {
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn(PaymentIdempotencyService.IN_PROGRESS);
+
+        assertThrows(IdempotencyConflictException.class,
+            () -> service.execute("checkout", "customer-1", "key-1", this::checkout));
+        assertEquals(0, invocations.get());
+    }
+
+    @Test
+    void failedAction_ShouldReleaseKeyForRetry() {
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertThrows(RuntimeException.class, () -> service.execute("checkout", "customer-1", "key-1", () -> {
+            throw new RuntimeException("주문 처리 실패");
+        }));
+
+        verify(stringRedisTemplate).delete(KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void redisFailureOnClaim_ShouldRecordFailureAndRunUncached() {
+        RuntimeException error = new RuntimeException("redis down");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenThrow(error);
+
+        IdempotentResponse response = service.execute("checkout", "customer-1", "key-1", this::checkout);
+
+        assertEquals(1, invocations.get());
+        assertEquals("TOSS_1", response.body().get("orderId"));
+        verify(redisHealthMonitor).recordFailure(error);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void redisFailureOnClaim_ShouldRunAsyncActionUncached() {
+        RuntimeException error = new RuntimeException("redis down");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenThrow(error);
+
+        IdempotentResponse response = service.executeAsync("checkout", "customer-1", "key-1",
+            () -> CompletableFuture.completedFuture(checkout())).join();
+
+        assertEquals(1, invocations.get());
+        assertEquals(200, response.status());
+        verify(redisHealthMonitor).recordFailure(error);
+    }
+
+    @Test
+    void redisFailureOnRelease_ShouldKeepOriginalException() {
+        RuntimeException error = new RuntimeException("redis down");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(stringRedisTemplate.delete(KEY)).thenThrow(error);
+
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+            () -> service.execute("checkout", "customer-1", "key-1", () -> {
+                throw new IllegalStateException("주문 처리 실패");
+            }));
+
+        assertInstanceOf(IllegalStateException.class, thrown);
+        verify(redisHealthMonitor).recordFailure(error);
+    }
+
+    @Test
+    void missingKey_ShouldBypassCache() {
+        service.execute("checkout", "customer-1", null, this::checkout);
+
+        assertEquals(1, invocations.get());
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private IdempotentResponse checkout() {
+        invocations.incrementAndGet();
+        return IdempotentResponse.ofBody(200, Map.of("orderId", "TOSS_1"));
+    }
+}
@@ -0,0 +1,143 @@
+package profect.eatcloud.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import profect.eatcloud.domain.order.service.OrderService;
+import profect.eatcloud.domain.payment.dto.PaymentCallbackRequest;
+import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
+import profect.eatcloud.domain.payment.entity.PaymentRequest;
+import profect.eatcloud.domain.payment.exception.PaymentException;
+import profect.eatcloud.domain.payment.service.PaymentRollbackService.RollbackResult;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentProcessingServiceTest {
+
+    @Mock
+    private PaymentAuthenticationService paymentAuthenticationService;
+
+    @Mock
+    private PaymentValidationService paymentValidationService;
+
+    @Mock
+    private TossPaymentService tossPaymentService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PaymentConfirmationService paymentConfirmationService;
+
+    @InjectMocks
+    private PaymentProcessingService paymentProcessingService;
+
+    private final PaymentCallbackRequest callback = PaymentCallbackRequest.builder()
+        .paymentKey("payment_key_123")
+        .orderId("ORDER_123456")
+        .amount(15000)
+        .build();
+
+    @DisplayName("토스가 거절한 결제는 주문 취소/포인트 환불")
+    @Test
+    void givenTossRejection_whenProcessPaymentSuccess_thenAbort() {
+        PaymentRequest paymentRequest = begun();
+        WebClientResponseException rejected = WebClientResponseException.create(403, "Forbidden", null,
+            "{\"code\":\"REJECT_CARD_COMPANY\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        given(tossPaymentService.confirmPaymentAsync("payment_key_123", "ORDER_123456", 15000))
+            .willReturn(Mono.error(new PaymentException("결제 승인 중 오류가 발생했습니다", "PAYMENT_CONFIRM_ERROR", rejected)));
+
+        CompletableFuture<Void> result = paymentProcessingService.processPaymentSuccess(callback);
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class);
+        then(paymentConfirmationService).should().abort(paymentRequest);
+    }
+
+    @DisplayName("승인 결과를 알 수 없는 오류는 취소하지 않고 CONFIRMING 으로 둠")
+    @Test
+    void givenTossTimeout_whenProcessPaymentSuccess_thenKeepConfirming() {
+        begun();
+        given(tossPaymentService.confirmPaymentAsync("payment_key_123", "ORDER_123456", 15000))
+            .willReturn(Mono.error(new PaymentException("결제 승인 중 오류가 발생했습니다", "PAYMENT_CONFIRM_ERROR",
+                new TimeoutException())));
+
+        CompletableFuture<Void> result = paymentProcessingService.processPaymentSuccess(callback);
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class);
+        then(paymentConfirmationService).should(never()).abort(any());
+    }
+
+    @DisplayName("승인 후 처리 실패는 이미 결제된 것이므로 취소하지 않음")
+    @Test
+    void givenCompleteFailure_whenProcessPaymentSuccess_thenDoNotAbort() {
+        PaymentRequest paymentRequest = begun();
+        TossPaymentResponse tossResponse = new TossPaymentResponse();
+        given(tossPaymentService.confirmPaymentAsync("payment_key_123", "ORDER_123456", 15000))
+            .willReturn(Mono.just(tossResponse));
+        willThrow(new RuntimeException("db down")).given(paymentConfirmationService)
+            .complete(paymentRequest, tossResponse);
+
+        CompletableFuture<Void> result = paymentProcessingService.processPaymentSuccess(callback);
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class);
+        then(paymentConfirmationService).should(never()).abort(any());
+    }
+
+    @DisplayName("실패 콜백은 PENDING 인 요청만 취소하고 결과를 돌려줌")
+    @Test
+    void givenPendingRequest_whenProcessPaymentFailure_thenCancel() {
+        PaymentRequest paymentRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "ORDER_123456", 15000);
+        given(paymentValidationService.findByTossOrderId("ORDER_123456")).willReturn(Optional.of(paymentRequest));
+        given(paymentConfirmationService.cancel(paymentRequest))
+            .willReturn(RollbackResult.success(paymentRequest.getOrderId(), 1000));
+
+        Map<String, Object> result = paymentProcessingService.processPaymentFailure(callback);
+
+        assertThat(result).containsEntry("rollbackCompleted", true)
+            .containsEntry("refundedPoints", 1000);
+    }
+
+    @DisplayName("승인 중이거나 종결된 요청에 대한 실패 콜백은 롤백하지 않음")
+    @Test
+    void givenConfirmingRequest_whenProcessPaymentFailure_thenReject() {
+        PaymentRequest paymentRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "ORDER_123456", 15000);
+        paymentRequest.setStatus("CONFIRMING");
+        given(paymentValidationService.findByTossOrderId("ORDER_123456")).willReturn(Optional.of(paymentRequest));
+        given(paymentConfirmationService.cancel(paymentRequest))
+            .willReturn(RollbackResult.failure("이미 처리 중이거나 처리된 결제입니다. 상태: CONFIRMING"));
+
+        Map<String, Object> result = paymentProcessingService.processPaymentFailure(callback);
+
+        assertThat(result).containsEntry("rollbackCompleted", false)
+            .doesNotContainKey("refundedPoints");
+    }
+
+    private PaymentRequest begun() {
+        PaymentRequest paymentRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "ORDER_123456", 15000);
+        paymentRequest.setPaymentRequestId(UUID.randomUUID());
+        given(paymentConfirmationService.begin(callback)).willReturn(paymentRequest);
+        return paymentRequest;
+    }
+}
@@ -0,0 +1,160 @@
+package profect.eatcloud.domain.payment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentTimeoutSchedulerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private PaymentRequestRepository paymentRequestRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC"));
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentTimeoutScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PaymentTimeoutScheduler(stringRedisTemplate, redisHealthMonitor, paymentRequestRepository,
+            meterRegistry, Duration.ofMinutes(5), 2, 10, clock);
+    }
+
+    @Test
+    void schedule_ShouldAddDueTimeToSortedSet() {
+        UUID paymentRequestId = UUID.randomUUID();
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        scheduler.schedule(paymentRequestId);
+
+        verify(zSetOperations).add(PaymentTimeoutScheduler.TIMEOUT_KEY, paymentRequestId.toString(),
+            clock.millis() + Duration.ofMinutes(5).toMillis());
+    }
+
+    @Test
+    void sweep_ShouldExpireDueRequestsInBatches() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq(PaymentTimeoutScheduler.TIMEOUT_KEY), anyDouble(), anyDouble(),
+            anyLong(), anyLong()))
+            .thenReturn(ids(first, second), ids(third));
+        when(paymentRequestRepository.expirePending(any(), anyString())).thenReturn(2, 1);
+
+        int expired = scheduler.sweep();
+
+        assertEquals(3, expired);
+        verify(paymentRequestRepository).expirePending(List.of(first, second), PaymentTimeoutScheduler.FAILURE_REASON);
+        verify(paymentRequestRepository).expirePending(List.of(third), PaymentTimeoutScheduler.FAILURE_REASON);
+        verify(zSetOperations, times(2)).remove(eq(PaymentTimeoutScheduler.TIMEOUT_KEY), any(Object[].class));
+        assertEquals(3.0, meterRegistry.counter("payment.timeout.expired").count());
+    }
+
+    @Test
+    void sweep_ShouldKeepEntriesWhenUpdateFails() {
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq(PaymentTimeoutScheduler.TIMEOUT_KEY), anyDouble(), anyDouble(),
+            anyLong(), anyLong()))
+            .thenReturn(ids(UUID.randomUUID()));
+        when(paymentRequestRepository.expirePending(any(), anyString())).thenThrow(new RuntimeException("db down"));
+
+        assertThrows(RuntimeException.class, () -> scheduler.sweep());
+
+        verify(zSetOperations, never()).remove(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void sweep_ShouldRecordRedisFailureWhenReadFails() {
+        RuntimeException error = new RuntimeException("redis down");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq(PaymentTimeoutScheduler.TIMEOUT_KEY), anyDouble(), anyDouble(),
+            anyLong(), anyLong()))
+            .thenThrow(error);
+
+        int expired = scheduler.sweep();
+
+        assertEquals(0, expired);
+        verify(redisHealthMonitor).recordFailure(error);
+        verifyNoInteractions(paymentRequestRepository);
+    }
+
+    @Test
+    void sweep_ShouldKeepExpiredCountWhenRemoveFails() {
+        RuntimeException error = new RuntimeException("redis down");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq(PaymentTimeoutScheduler.TIMEOUT_KEY), anyDouble(), anyDouble(),
+            anyLong(), anyLong()))
+            .thenReturn(ids(UUID.randomUUID(), UUID.randomUUID()));
+        when(paymentRequestRepository.expirePending(any(), anyString())).thenReturn(2);
+        when(zSetOperations.remove(eq(PaymentTimeoutScheduler.TIMEOUT_KEY), any(Object[].class))).thenThrow(error);
+
+        int expired = scheduler.sweep();
+
+        assertEquals(2, expired);
+        verify(redisHealthMonitor).recordFailure(error);
+        verify(paymentRequestRepository, times(1)).expirePending(any(), anyString());
+        assertEquals(2.0, meterRegistry.counter("payment.timeout.expired").count());
+    }
+
+    @Test
+    void reconcile_ShouldExpireOverdueRequestsFromDatabase() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusMinutes(5);
+        when(paymentRequestRepository.expireOverdue(eq(cutoff), anyInt(), anyString())).thenReturn(2, 0);
+
+        int expired = scheduler.reconcile();
+
+        assertEquals(2, expired);
+        verify(paymentRequestRepository, times(2)).expireOverdue(cutoff, 2, PaymentTimeoutScheduler.FAILURE_REASON);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private Set<String> ids(UUID... ids) {
+        Set<String> values = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            values.add(id.toString());
+        }
+        return values;
+    }
+}
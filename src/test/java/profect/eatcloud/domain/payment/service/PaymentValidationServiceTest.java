@@ -3,7 +3,6 @@ package profect.eatcloud.domain.payment.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -16,6 +15,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import profect.eatcloud.domain.payment.entity.PaymentRequest;
+import profect.eatcloud.domain.payment.entity.PaymentRequestKey;
+import profect.eatcloud.domain.payment.repository.PaymentRequestKeyRepository;
 import profect.eatcloud.domain.payment.repository.PaymentRequestRepository;
 import profect.eatcloud.domain.payment.service.PaymentValidationService.ValidationResult;
 
@@ -25,6 +26,9 @@ class PaymentValidationServiceTest {
     @Mock
     private PaymentRequestRepository paymentRequestRepository;
 
+    @Mock
+    private PaymentRequestKeyRepository paymentRequestKeyRepository;
+
     @Mock
     private PaymentService paymentService;
 
@@ -54,6 +58,7 @@ class PaymentValidationServiceTest {
         assertThat(result.getPgProvider()).isEqualTo("TOSS");
         assertThat(result.getStatus()).isEqualTo("PENDING");
         then(paymentRequestRepository).should().save(any(PaymentRequest.class));
+        then(paymentRequestKeyRepository).should().saveAndFlush(any(PaymentRequestKey.class));
         then(paymentService).should().schedulePaymentTimeout(paymentRequestId);
     }
 
@@ -67,8 +72,8 @@ class PaymentValidationServiceTest {
         PaymentRequest confirmedRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "{\"tossOrderId\":\"ORDER_ALREADY_CONFIRMED\",\"amount\":15000}");
         confirmedRequest.setStatus("CONFIRMED");
 
-        given(paymentRequestRepository.findAll())
-                .willReturn(Arrays.asList(confirmedRequest));
+        given(paymentRequestRepository.findByTossOrderId(tossOrderId))
+                .willReturn(Optional.of(confirmedRequest));
 
         ValidationResult result = paymentValidationService.validateCallback(tossOrderId, amount, paymentKey);
 
@@ -87,8 +92,8 @@ class PaymentValidationServiceTest {
         PaymentRequest savedRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "{\"tossOrderId\":\"ORDER_AMOUNT_MISMATCH\",\"amount\":10000}");
         savedRequest.setStatus("PENDING");
 
-        given(paymentRequestRepository.findAll())
-                .willReturn(Arrays.asList(savedRequest));
+        given(paymentRequestRepository.findByTossOrderId(tossOrderId))
+                .willReturn(Optional.of(savedRequest));
 
         ValidationResult result = paymentValidationService.validateCallback(tossOrderId, callbackAmount, paymentKey);
 
@@ -105,8 +110,8 @@ class PaymentValidationServiceTest {
         Integer amount = 20000;
         String paymentKey = "payment_key_not_found";
 
-        given(paymentRequestRepository.findAll())
-                .willReturn(Arrays.asList());
+        given(paymentRequestRepository.findByTossOrderId(nonExistentOrderId))
+                .willReturn(Optional.empty());
 
         ValidationResult result = paymentValidationService.validateCallback(nonExistentOrderId, amount, paymentKey);
 
@@ -125,8 +130,8 @@ class PaymentValidationServiceTest {
         PaymentRequest savedRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "{\"tossOrderId\":\"ORDER_SUCCESS\",\"amount\":25000}");
         savedRequest.setStatus("PENDING");
 
-        given(paymentRequestRepository.findAll())
-                .willReturn(Arrays.asList(savedRequest));
+        given(paymentRequestRepository.findByTossOrderId(tossOrderId))
+                .willReturn(Optional.of(savedRequest));
 
         ValidationResult result = paymentValidationService.validateCallback(tossOrderId, amount, paymentKey);
 
@@ -146,8 +151,8 @@ class PaymentValidationServiceTest {
         PaymentRequest originalRequest = new PaymentRequest(UUID.randomUUID(), "TOSS", "{\"tossOrderId\":\"ORDER_HACK_ATTEMPT\",\"amount\":100000}");
         originalRequest.setStatus("PENDING");
 
-        given(paymentRequestRepository.findAll())
-                .willReturn(Arrays.asList(originalRequest));
+        given(paymentRequestRepository.findByTossOrderId(tossOrderId))
+                .willReturn(Optional.of(originalRequest));
 
         ValidationResult result = paymentValidationService.validateCallback(tossOrderId, hackedAmount, paymentKey);
 
@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import profect.eatcloud.domain.customer.entity.Customer;
 import profect.eatcloud.domain.customer.repository.CustomerRepository;
+import profect.eatcloud.domain.payment.repository.PointLedgerRepository;
 import profect.eatcloud.domain.payment.service.PointService.PointResult;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +24,9 @@ class PointServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
     @InjectMocks
     private PointService pointService;
 
@@ -30,38 +34,36 @@ class PointServiceTest {
     @Test
     void givenSufficientPoints_whenUsePoints_thenReturnSuccess() {
         UUID customerId = UUID.randomUUID();
-        Customer customer = Customer.builder()
-                .id(customerId)
-                .points(5000)
-                .build();
+        UUID orderId = UUID.randomUUID();
 
-        given(customerRepository.findById(customerId))
-                .willReturn(Optional.of(customer));
-        given(customerRepository.save(any(Customer.class)))
-                .willReturn(customer);
+        given(pointLedgerRepository.deduct(customerId, 2000, orderId))
+                .willReturn(Optional.of(3000));
 
-        PointResult result = pointService.usePoints(customerId, 2000);
+        PointResult result = pointService.usePoints(customerId, 2000, orderId);
 
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getUsedPoints()).isEqualTo(2000);
         assertThat(result.getRemainingPoints()).isEqualTo(3000);
-        assertThat(customer.getPoints()).isEqualTo(3000);
-        then(customerRepository).should().save(customer);
+        then(customerRepository).should(never()).findById(any(UUID.class));
+        then(customerRepository).should(never()).save(any(Customer.class));
     }
 
     @DisplayName("포인트 부족 시 사용 실패")
     @Test
     void givenInsufficientPoints_whenUsePoints_thenReturnFailure() {
         UUID customerId = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
         Customer customer = Customer.builder()
                 .id(customerId)
                 .points(1000)
                 .build();
 
+        given(pointLedgerRepository.deduct(customerId, 2000, orderId))
+                .willReturn(Optional.empty());
         given(customerRepository.findById(customerId))
                 .willReturn(Optional.of(customer));
 
-        PointResult result = pointService.usePoints(customerId, 2000);
+        PointResult result = pointService.usePoints(customerId, 2000, orderId);
 
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getErrorMessage()).contains("포인트가 부족합니다");
@@ -73,11 +75,14 @@ class PointServiceTest {
     @Test
     void givenNonExistentCustomer_whenUsePoints_thenReturnFailure() {
         UUID nonExistentCustomerId = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
 
+        given(pointLedgerRepository.deduct(nonExistentCustomerId, 1000, orderId))
+                .willReturn(Optional.empty());
         given(customerRepository.findById(nonExistentCustomerId))
                 .willReturn(Optional.empty());
 
-        PointResult result = pointService.usePoints(nonExistentCustomerId, 1000);
+        PointResult result = pointService.usePoints(nonExistentCustomerId, 1000, orderId);
 
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getErrorMessage()).contains("고객을 찾을 수 없습니다");
@@ -88,7 +93,7 @@ class PointServiceTest {
     void givenZeroPoints_whenUsePoints_thenReturnFailure() {
         UUID customerId = UUID.randomUUID();
 
-        PointResult result = pointService.usePoints(customerId, 0);
+        PointResult result = pointService.usePoints(customerId, 0, UUID.randomUUID());
 
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getErrorMessage()).contains("유효하지 않은 포인트 사용 요청입니다");
@@ -101,7 +106,7 @@ class PointServiceTest {
     void givenNegativePoints_whenUsePoints_thenReturnFailure() {
         UUID customerId = UUID.randomUUID();
 
-        PointResult result = pointService.usePoints(customerId, -1000);
+        PointResult result = pointService.usePoints(customerId, -1000, UUID.randomUUID());
 
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getErrorMessage()).contains("유효하지 않은 포인트 사용 요청입니다");
@@ -114,7 +119,7 @@ class PointServiceTest {
     void givenNullPoints_whenUsePoints_thenReturnFailure() {
         UUID customerId = UUID.randomUUID();
 
-        PointResult result = pointService.usePoints(customerId, null);
+        PointResult result = pointService.usePoints(customerId, null, UUID.randomUUID());
 
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getErrorMessage()).contains("유효하지 않은 포인트 사용 요청입니다");
@@ -127,7 +132,7 @@ class PointServiceTest {
     void givenNullCustomerId_whenUsePoints_thenReturnFailure() {
         Integer pointsToUse = 1000;
 
-        PointResult result = pointService.usePoints(null, pointsToUse);
+        PointResult result = pointService.usePoints(null, pointsToUse, UUID.randomUUID());
 
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getErrorMessage()).contains("유효하지 않은 포인트 사용 요청입니다");
@@ -139,23 +144,52 @@ class PointServiceTest {
     @Test
     void givenValidCustomer_whenRefundPoints_thenReturnSuccess() {
         UUID customerId = UUID.randomUUID();
-        Customer customer = Customer.builder()
-                .id(customerId)
-                .points(1000)
-                .build();
+        UUID orderId = UUID.randomUUID();
 
-        given(customerRepository.findById(customerId))
-                .willReturn(Optional.of(customer));
-        given(customerRepository.save(any(Customer.class)))
-                .willReturn(customer);
+        given(pointLedgerRepository.credit(customerId, 500, orderId, "REFUND"))
+                .willReturn(Optional.of(1500));
 
-        PointResult result = pointService.refundPoints(customerId, 500);
+        PointResult result = pointService.refundPoints(customerId, 500, orderId);
 
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getUsedPoints()).isEqualTo(500);
         assertThat(result.getRemainingPoints()).isEqualTo(1500);
-        assertThat(customer.getPoints()).isEqualTo(1500);
-        then(customerRepository).should().save(customer);
+        then(customerRepository).should(never()).save(any(Customer.class));
+    }
+
+    @DisplayName("존재하지 않는 고객 포인트 환불 실패")
+    @Test
+    void givenNonExistentCustomer_whenRefundPoints_thenReturnFailure() {
+        UUID customerId = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
+
+        given(pointLedgerRepository.credit(customerId, 500, orderId, "REFUND"))
+                .willReturn(Optional.empty());
+
+        PointResult result = pointService.refundPoints(customerId, 500, orderId);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getErrorMessage()).contains("고객을 찾을 수 없습니다");
+    }
+
+    @DisplayName("원장 합계로 잔액 재계산")
+    @Test
+    void givenExistingCustomer_whenRebuildBalance_thenUpdateFromLedger() {
+        UUID customerId = UUID.randomUUID();
+
+        given(pointLedgerRepository.rebuildBalance(customerId)).willReturn(1);
+
+        assertThat(pointService.rebuildBalance(customerId)).isTrue();
+    }
+
+    @DisplayName("존재하지 않는 고객 잔액 재계산 실패")
+    @Test
+    void givenNonExistentCustomer_whenRebuildBalance_thenReturnFalse() {
+        UUID customerId = UUID.randomUUID();
+
+        given(pointLedgerRepository.rebuildBalance(customerId)).willReturn(0);
+
+        assertThat(pointService.rebuildBalance(customerId)).isFalse();
     }
 
     @DisplayName("포인트 사용 가능 여부 확인 - 충분한 포인트")
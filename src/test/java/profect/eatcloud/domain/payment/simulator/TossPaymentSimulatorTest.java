@@ -0,0 +1,113 @@
+package profect.eatcloud.domain.payment.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import profect.eatcloud.domain.payment.dto.TossPaymentResponse;
+import profect.eatcloud.domain.payment.simulator.TossPaymentSimulator.LatencyDistribution;
+import profect.eatcloud.domain.payment.simulator.TossPaymentSimulator.SimulatedResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TossPaymentSimulatorTest {
+
+    private static final String BODY = "{\"paymentKey\":\"pk_1\",\"orderId\":\"TOSS_ORDER_1\",\"amount\":15000}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Clock clock = Clock.fixed(Instant.parse("2025-10-01T01:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Test
+    void confirm_ShouldApproveWithTossResponseShape() throws Exception {
+        TossPaymentSimulator simulator = simulator(LatencyDistribution.FIXED, 0.0, 0.0);
+
+        SimulatedResponse result = simulator.confirm(BODY, "pk_1");
+
+        assertEquals(200, result.status());
+        TossPaymentResponse response = objectMapper.readValue(result.body(), TossPaymentResponse.class);
+        assertEquals("pk_1", response.getPaymentKey());
+        assertEquals("TOSS_ORDER_1", response.getOrderId());
+        assertEquals("DONE", response.getStatus());
+        assertEquals(15000, response.getTotalAmount());
+        assertEquals("2025-10-01T10:00:00+09:00", response.getApprovedAt());
+    }
+
+    @Test
+    void confirm_ShouldReplayFirstResultForSameIdempotencyKey() {
+        TossPaymentSimulator simulator = simulator(LatencyDistribution.FIXED, 0.0, 1.0);
+
+        SimulatedResponse first = simulator.confirm(BODY, "pk_1");
+        SimulatedResponse replayed = simulator.confirm("", "pk_1");
+
+        assertEquals(403, first.status());
+        assertSame(first, replayed);
+    }
+
+    @Test
+    void confirm_ShouldNotRememberTransientErrors() {
+        TossPaymentSimulator simulator = simulator(LatencyDistribution.FIXED, 1.0, 0.0);
+
+        assertEquals(500, simulator.confirm(BODY, "pk_1").status());
+        assertEquals(400, simulator.confirm("", "pk_1").status());
+    }
+
+    @Test
+    void confirm_ShouldRejectInvalidBody() {
+        TossPaymentSimulator simulator = simulator(LatencyDistribution.FIXED, 0.0, 0.0);
+
+        assertEquals(400, simulator.confirm("{\"paymentKey\":\"pk_1\"}", null).status());
+        assertEquals(400, simulator.confirm("not-json", null).status());
+    }
+
+    @Test
+    void lookup_ShouldReturnApprovedPaymentByOrderId() throws Exception {
+        TossPaymentSimulator simulator = simulator(LatencyDistribution.FIXED, 0.0, 0.0);
+        simulator.confirm(BODY, "pk_1");
+
+        SimulatedResponse result = simulator.lookup("TOSS_ORDER_1");
+
+        assertEquals(200, result.status());
+        TossPaymentResponse response = objectMapper.readValue(result.body(), TossPaymentResponse.class);
+        assertEquals("TOSS_ORDER_1", response.getOrderId());
+        assertEquals("DONE", response.getStatus());
+    }
+
+    @Test
+    void lookup_ShouldReturnNotFoundForRejectedOrUnknownOrder() {
+        TossPaymentSimulator simulator = simulator(LatencyDistribution.FIXED, 0.0, 1.0);
+        simulator.confirm(BODY, "pk_1");
+
+        assertEquals(404, simulator.lookup("TOSS_ORDER_1").status());
+        assertEquals(404, simulator.lookup("TOSS_ORDER_UNKNOWN").status());
+    }
+
+    @Test
+    void sampleLatency_ShouldFollowConfiguredDistribution() {
+        TossPaymentSimulator uniform = simulator(LatencyDistribution.UNIFORM, 0.0, 0.0);
+        for (int i = 0; i < 1_000; i++) {
+            long millis = uniform.sampleLatency().toMillis();
+            assertTrue(millis >= 80 && millis <= 400, "uniform latency out of range: " + millis);
+        }
+
+        TossPaymentSimulator logNormal = simulator(LatencyDistribution.LOG_NORMAL, 0.0, 0.0);
+        long[] samples = new long[10_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = logNormal.sampleLatency().toMillis();
+        }
+        Arrays.sort(samples);
+        // 중앙값 80ms, p99 400ms 근처
+        assertEquals(80, samples[samples.length / 2], 8);
+        assertEquals(400, samples[(int) (samples.length * 0.99)], 80);
+    }
+
+    private TossPaymentSimulator simulator(LatencyDistribution distribution, double errorRate, double rejectRate) {
+        Random random = new Random(42);
+        return new TossPaymentSimulator(objectMapper, distribution, Duration.ofMillis(80), Duration.ofMillis(400),
+            errorRate, rejectRate, "카드", clock, () -> random);
+    }
+}
@@ -0,0 +1,76 @@
+package profect.eatcloud.domain.store.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import profect.eatcloud.domain.order.event.OrderLifecycleEvent;
+import profect.eatcloud.domain.store.repository.DailyStoreSalesRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSalesAggregatorTest {
+
+    @Mock
+    private DailyStoreSalesRepository dailyStoreSalesRepository;
+
+    @InjectMocks
+    private StoreSalesAggregator storeSalesAggregator;
+
+    private final UUID storeId = UUID.randomUUID();
+    private final LocalDateTime orderedAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Test
+    void onOrderEvent_ShouldAddPaidOrderOnce() {
+        when(dailyStoreSalesRepository.markEventProcessed(1L)).thenReturn(1);
+        when(dailyStoreSalesRepository.addSales(orderedAt.toLocalDate(), storeId, 1, BigDecimal.valueOf(15000)))
+            .thenReturn(1);
+
+        storeSalesAggregator.onOrderEvent(event(1L, "PAID", "PENDING"));
+
+        verify(dailyStoreSalesRepository).addSales(orderedAt.toLocalDate(), storeId, 1, BigDecimal.valueOf(15000));
+        verify(dailyStoreSalesRepository, never()).insertSales(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void onOrderEvent_RedeliveredEventShouldNotBeCountedTwice() {
+        when(dailyStoreSalesRepository.markEventProcessed(1L)).thenReturn(0);
+
+        storeSalesAggregator.onOrderEvent(event(1L, "PAID", "PENDING"));
+
+        verify(dailyStoreSalesRepository, never()).addSales(any(), any(), anyInt(), any());
+        verify(dailyStoreSalesRepository, never()).insertSales(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void onOrderEvent_ShouldSubtractCancelAndRefundOfPaidOrders() {
+        when(dailyStoreSalesRepository.markEventProcessed(anyLong())).thenReturn(1);
+        when(dailyStoreSalesRepository.addSales(orderedAt.toLocalDate(), storeId, -1, BigDecimal.valueOf(-15000)))
+            .thenReturn(1);
+
+        storeSalesAggregator.onOrderEvent(event(3L, "CANCELED", "PREPARING"));
+        storeSalesAggregator.onOrderEvent(event(4L, "REFUNDED", "COMPLETED"));
+
+        verify(dailyStoreSalesRepository, times(2))
+            .addSales(orderedAt.toLocalDate(), storeId, -1, BigDecimal.valueOf(-15000));
+    }
+
+    @Test
+    void onOrderEvent_ShouldIgnoreCancelBeforePayment() {
+        storeSalesAggregator.onOrderEvent(event(2L, "CANCELED", "PENDING"));
+
+        verifyNoInteractions(dailyStoreSalesRepository);
+    }
+
+    private OrderLifecycleEvent event(Long eventId, String eventType, String previousStatus) {
+        return new OrderLifecycleEvent(eventId, UUID.randomUUID(), "ORD-20251001-0000001", UUID.randomUUID(),
+            storeId, eventType, previousStatus, 15000, orderedAt, orderedAt);
+    }
+}
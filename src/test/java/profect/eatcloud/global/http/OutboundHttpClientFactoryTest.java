@@ -0,0 +1,112 @@
+package profect.eatcloud.global.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboundHttpClientFactoryTest {
+
+    private MockEnvironment environment;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpClientFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+            .withProperty("http.client.default.stub.enabled", "true")
+            .withProperty("http.client.default.retry-backoff", "1ms")
+            .withProperty("http.client.default.retry-max-backoff", "5ms");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.shutdown();
+    }
+
+    @Test
+    void stubMode_ShouldAnswerLocallyAndRecordLatency() {
+        environment.setProperty("http.client.test.stub.body", "{\"ok\":true}");
+        factory = new OutboundHttpClientFactory(environment, meterRegistry, WebClient.builder(), List.of());
+
+        String body = factory.create("test", "https://example.invalid/v1")
+            .get().uri("/ping")
+            .retrieve()
+            .bodyToMono(String.class)
+            .block(Duration.ofSeconds(5));
+
+        assertEquals("{\"ok\":true}", body);
+        assertEquals(1, meterRegistry.get("http.client.outbound")
+            .tags("client", "test", "outcome", "SUCCESS").timer().count());
+    }
+
+    @Test
+    void idempotentRequest_ShouldBeRetriedOnServiceUnavailable() {
+        environment.setProperty("http.client.test.stub.status", "503");
+        factory = new OutboundHttpClientFactory(environment, meterRegistry, WebClient.builder(), List.of());
+
+        Mono<String> call = factory.create("test", "https://example.invalid")
+            .get().uri("/ping")
+            .retrieve()
+            .bodyToMono(String.class);
+
+        assertThrows(WebClientResponseException.ServiceUnavailable.class, () -> call.block(Duration.ofSeconds(5)));
+        assertEquals(3, meterRegistry.get("http.client.outbound")
+            .tags("client", "test", "outcome", "SERVER_ERROR").timer().count());
+        assertEquals(2.0, meterRegistry.get("http.client.outbound.retries").tag("client", "test").counter().count());
+    }
+
+    @Test
+    void nonIdempotentRequest_ShouldNotBeRetried() {
+        environment.setProperty("http.client.test.stub.status", "503");
+        factory = new OutboundHttpClientFactory(environment, meterRegistry, WebClient.builder(), List.of());
+
+        Mono<String> call = factory.create("test", "https://example.invalid")
+            .post().uri("/orders")
+            .bodyValue("{}")
+            .retrieve()
+            .bodyToMono(String.class);
+
+        assertThrows(WebClientResponseException.ServiceUnavailable.class, () -> call.block(Duration.ofSeconds(5)));
+        assertEquals(1, meterRegistry.get("http.client.outbound")
+            .tags("client", "test", "outcome", "SERVER_ERROR").timer().count());
+        assertEquals(0.0, meterRegistry.get("http.client.outbound.retries").tag("client", "test").counter().count());
+    }
+
+    @Test
+    void stubMode_ShouldUseHandlerRegisteredForClientAndKeepBasePath() {
+        HttpStubHandler echoPath = new HttpStubHandler() {
+            @Override
+            public String clientName() {
+                return "test";
+            }
+
+            @Override
+            public Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+                return response.sendString(Mono.just(request.uri()));
+            }
+        };
+        factory = new OutboundHttpClientFactory(environment, meterRegistry, WebClient.builder(), List.of(echoPath));
+
+        String body = factory.create("test", "https://example.invalid/v1")
+            .get().uri("/payments/abc")
+            .retrieve()
+            .bodyToMono(String.class)
+            .block(Duration.ofSeconds(5));
+
+        assertEquals("/v1/payments/abc", body);
+    }
+}
@@ -0,0 +1,65 @@
+package profect.eatcloud.global.partition;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionHealthIndicatorTest {
+
+    private static final String EXISTS_SQL = "SELECT to_regclass(?) IS NOT NULL";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PartitionHealthIndicator indicator;
+
+    @Test
+    void check_ShouldBeUpWhenNextMonthExistsAndDefaultsAreEmpty() {
+        when(jdbcTemplate.queryForObject(eq(EXISTS_SQL), eq(Boolean.class), anyString())).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+
+        Health health = indicator.check(YearMonth.of(2025, 10));
+
+        assertEquals(Status.UP, health.getStatus());
+    }
+
+    @Test
+    void check_ShouldBeDownWhenFuturePartitionIsMissing() {
+        when(jdbcTemplate.queryForObject(eq(EXISTS_SQL), eq(Boolean.class), anyString()))
+            .thenAnswer(invocation -> !"p_orders_y2025m11".equals(invocation.getArgument(2)));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+
+        Health health = indicator.check(YearMonth.of(2025, 10));
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(List.of("p_orders_y2025m11"), health.getDetails().get("missingPartitions"));
+    }
+
+    @Test
+    void check_ShouldBeDownWhenRowsLandInDefaultPartition() {
+        when(jdbcTemplate.queryForObject(eq(EXISTS_SQL), eq(Boolean.class), anyString())).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM p_payments_default)", Boolean.class))
+            .thenReturn(true);
+
+        Health health = indicator.check(YearMonth.of(2025, 10));
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(List.of("p_payments_default"), health.getDetails().get("nonEmptyDefaultPartitions"));
+    }
+}
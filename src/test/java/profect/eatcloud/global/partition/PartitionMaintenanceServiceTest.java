@@ -0,0 +1,88 @@
+package profect.eatcloud.global.partition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PartitionMaintenanceService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new PartitionMaintenanceService(jdbcTemplate, transactionManager, meterRegistry,
+            true, 2, 12, "archive");
+    }
+
+    @Test
+    void maintain_ShouldCreateFuturePartitionsAndArchiveExpiredOnes() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class), any(), any())).thenReturn("");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), anyString())).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("p_orders")))
+            .thenReturn(List.of("p_orders_y2024m09", "p_orders_y2024m10", "p_orders_y2024m11"));
+
+        int archived = service.maintain(YearMonth.of(2025, 10));
+
+        // 2024-11 ~ 2025-10 (12개월) 만 온라인으로 남는다
+        assertEquals(2, archived);
+        verify(jdbcTemplate).execute("ALTER TABLE p_orders DETACH PARTITION p_orders_y2024m09");
+        verify(jdbcTemplate).execute("ALTER TABLE p_orders_y2024m09 SET SCHEMA archive");
+        verify(jdbcTemplate).execute("ALTER TABLE p_orders DETACH PARTITION p_orders_y2024m10");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE p_orders DETACH PARTITION p_orders_y2024m11");
+        // 테이블 3개 x (이번 달 + 2개월)
+        verify(jdbcTemplate, times(9))
+            .queryForObject(eq("SELECT p_create_monthly_partition(?, ?)::text"), eq(String.class), any(), any());
+        assertEquals(2.0, meterRegistry.counter("partition.archived").count());
+    }
+
+    @Test
+    void maintain_ShouldSkipWhenAnotherInstanceHoldsTheLock() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(false);
+
+        int archived = service.maintain(YearMonth.of(2025, 10));
+
+        assertEquals(-1, archived);
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), any());
+    }
+
+    @Test
+    void scheduledMaintain_ShouldCountFailures() {
+        when(transactionManager.getTransaction(any())).thenThrow(new IllegalStateException("db down"));
+
+        service.scheduledMaintain();
+
+        assertEquals(1.0, meterRegistry.counter("partition.maintenance.failures").count());
+    }
+
+    @Test
+    void parseMonth_ShouldReadPartitionSuffix() {
+        assertEquals(YearMonth.of(2025, 1), PartitionMaintenanceService.parseMonth("p_payments_y2025m01"));
+        assertNull(PartitionMaintenanceService.parseMonth("p_payments_default"));
+        assertEquals("p_payments_y2025m01", PartitionMaintenanceService.partitionName("p_payments", YearMonth.of(2025, 1)));
+    }
+}
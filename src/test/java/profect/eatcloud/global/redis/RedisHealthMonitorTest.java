@@ -0,0 +1,107 @@
+package profect.eatcloud.global.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisHealthMonitorTest {
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisHealthMonitor monitor;
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new RedisHealthMonitor(connectionFactory, meterRegistry, 2, Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    void connectivityFailuresOverThreshold_ShouldOpenCircuit() {
+        when(clock.instant()).thenReturn(now);
+
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        assertTrue(monitor.isAvailable());
+
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        assertFalse(monitor.isAvailable());
+        assertEquals(RedisHealthMonitor.State.OPEN, monitor.getState());
+        assertEquals(1.0, meterRegistry.counter("redis.circuit.trips").count());
+        assertEquals(2.0, meterRegistry.get("redis.circuit.state").gauge().value());
+    }
+
+    @Test
+    void nonConnectivityFailure_ShouldNotCount() {
+        monitor.recordFailure(new IllegalStateException("serialization"));
+        monitor.recordFailure(new IllegalStateException("serialization"));
+
+        assertTrue(monitor.isAvailable());
+        verifyNoInteractions(connectionFactory);
+    }
+
+    @Test
+    void probeBeforeOpenDurationElapsed_ShouldNotPing() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(1));
+        tripCircuit();
+
+        monitor.probe();
+
+        assertEquals(RedisHealthMonitor.State.OPEN, monitor.getState());
+        verifyNoInteractions(connectionFactory);
+    }
+
+    @Test
+    void successfulProbeAfterOpenDuration_ShouldCloseCircuit() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(6));
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        tripCircuit();
+
+        monitor.probe();
+
+        assertTrue(monitor.isAvailable());
+        verify(connection).ping();
+        verify(connection).close();
+    }
+
+    @Test
+    void failedProbeInHalfOpen_ShouldReopenCircuit() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(6), now.plusSeconds(6));
+        when(connectionFactory.getConnection()).thenThrow(new RedisConnectionFailureException("down"));
+        tripCircuit();
+
+        monitor.probe();
+
+        assertEquals(RedisHealthMonitor.State.OPEN, monitor.getState());
+        assertEquals(2.0, meterRegistry.counter("redis.circuit.trips").count());
+        assertEquals(1.0, meterRegistry.counter("redis.circuit.probe.failures").count());
+    }
+
+    private void tripCircuit() {
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+    }
+}
@@ -0,0 +1,92 @@
+package profect.eatcloud.global.redis.codec;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import profect.eatcloud.login.dto.SignupRedisData;
+import profect.eatcloud.login.dto.SignupRequestDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedRedisSerializerTest {
+
+    private final RedisCodecRegistry registry =
+        new RedisCodecRegistry(List.of(new StringValueCodec(), new SignupRedisDataCodec()));
+    private final GenericJackson2JsonRedisSerializer legacySerializer = new GenericJackson2JsonRedisSerializer();
+    private final VersionedRedisSerializer serializer =
+        new VersionedRedisSerializer(registry, legacySerializer, true);
+
+    @Test
+    void signupData_ShouldRoundTripThroughBinaryCodec() {
+        SignupRedisData data = signupData();
+
+        byte[] bytes = serializer.serialize(data);
+        SignupRedisData restored = (SignupRedisData)serializer.deserialize(bytes);
+
+        assertEquals(VersionedRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(data.getCode(), restored.getCode());
+        assertEquals(data.getRequest().getEmail(), restored.getRequest().getEmail());
+        assertEquals(data.getRequest().getPassword(), restored.getRequest().getPassword());
+        assertEquals(data.getRequest().getNickname(), restored.getRequest().getNickname());
+        assertNull(restored.getRequest().getPhone());
+    }
+
+    @Test
+    void token_ShouldRoundTripThroughBinaryCodec() {
+        String token = "eyJhbGciOiJIUzI1NiJ9.payload.signature";
+
+        assertEquals(token, serializer.deserialize(serializer.serialize(token)));
+    }
+
+    @Test
+    void legacyJsonValue_ShouldStillBeReadable() {
+        byte[] legacy = legacySerializer.serialize(signupData());
+
+        SignupRedisData restored = (SignupRedisData)serializer.deserialize(legacy);
+
+        assertEquals("123456", restored.getCode());
+        assertEquals("test@example.com", restored.getRequest().getEmail());
+    }
+
+    @Test
+    void binaryWritesDisabled_ShouldWriteJson() {
+        VersionedRedisSerializer readOnly = new VersionedRedisSerializer(registry, legacySerializer, false);
+
+        byte[] bytes = readOnly.serialize(signupData());
+
+        assertNotEquals(VersionedRedisSerializer.MAGIC, bytes[0]);
+        assertEquals("123456", ((SignupRedisData)serializer.deserialize(bytes)).getCode());
+    }
+
+    @Test
+    void unregisteredType_ShouldFallBackToJson() {
+        byte[] bytes = serializer.serialize(new HashMap<>(Map.of("key", "value")));
+
+        assertNotEquals(VersionedRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(Map.of("key", "value"), serializer.deserialize(bytes));
+    }
+
+    @Test
+    void unknownCodecOrNewerVersion_ShouldFail() {
+        assertThrows(SerializationException.class,
+            () -> serializer.deserialize(new byte[] {VersionedRedisSerializer.MAGIC, 99, 1}));
+        assertThrows(SerializationException.class,
+            () -> serializer.deserialize(new byte[] {VersionedRedisSerializer.MAGIC, 1, 2, 0}));
+    }
+
+    @Test
+    void duplicatedCodecId_ShouldBeRejected() {
+        assertThrows(IllegalStateException.class,
+            () -> new RedisCodecRegistry(List.of(new StringValueCodec(), new StringValueCodec())));
+    }
+
+    static SignupRedisData signupData() {
+        return new SignupRedisData(
+            new SignupRequestDto("test@example.com", "$2a$10$abcdefghijklmnopqrstuv", "홍길동", "길동이", null),
+            "123456");
+    }
+}
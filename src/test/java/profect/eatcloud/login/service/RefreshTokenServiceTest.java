@@ -0,0 +1,55 @@
+package profect.eatcloud.login.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import profect.eatcloud.domain.admin.repository.AdminRepository;
+import profect.eatcloud.domain.customer.entity.Customer;
+import profect.eatcloud.domain.customer.repository.CustomerRepository;
+import profect.eatcloud.domain.manager.repository.ManagerRepository;
+import profect.eatcloud.global.redis.RedisHealthMonitor;
+import profect.eatcloud.global.redis.RedisUnavailableException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private ValueOperations<String, Object> valueOperations;
+    @Mock private AdminRepository adminRepository;
+    @Mock private ManagerRepository managerRepository;
+    @Mock private CustomerRepository customerRepository;
+    @Mock private RedisHealthMonitor redisHealthMonitor;
+
+    @InjectMocks private RefreshTokenService refreshTokenService;
+
+    private final Customer customer = Customer.builder().id(UUID.randomUUID()).build();
+
+    @Test
+    void isValid_WhenCircuitOpen_ShouldThrowInsteadOfRejectingToken() {
+        given(redisHealthMonitor.isAvailable()).willReturn(false);
+
+        assertThrows(RedisUnavailableException.class, () -> refreshTokenService.isValid(customer, "token"));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void isValid_WhenTokenMatches_ShouldRecordSuccess() {
+        given(redisHealthMonitor.isAvailable()).willReturn(true);
+        given(redisTemplate.hasKey("blacklist:token")).willReturn(false);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("refresh:customer:" + customer.getId())).willReturn("token");
+
+        assertTrue(refreshTokenService.isValid(customer, "token"));
+        verify(redisHealthMonitor).recordSuccess();
+    }
+}
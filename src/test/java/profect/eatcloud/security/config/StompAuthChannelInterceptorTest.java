@@ -0,0 +1,93 @@
+package profect.eatcloud.security.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import profect.eatcloud.domain.manager.entity.Manager;
+import profect.eatcloud.domain.manager.repository.ManagerRepository;
+import profect.eatcloud.domain.store.entity.Store;
+import profect.eatcloud.security.jwt.JwtTokenProvider;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+	@Mock
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Mock
+	private ManagerRepository managerRepository;
+
+	@Mock
+	private MessageChannel channel;
+
+	@InjectMocks
+	private StompAuthChannelInterceptor interceptor;
+
+	private final UUID managerId = UUID.randomUUID();
+	private final UUID storeId = UUID.randomUUID();
+
+	@Test
+	void send_ToStoreTopicShouldBeRejected() {
+		Message<?> message = frame(StompCommand.SEND, "/topic/stores/" + storeId + "/orders");
+
+		assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+		verifyNoInteractions(managerRepository);
+	}
+
+	@Test
+	void subscribe_ToOwnStoreTopicShouldBeAllowed() {
+		Manager manager = Manager.builder()
+			.store(Store.builder().storeId(storeId).build())
+			.build();
+		given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+		Message<?> message = frame(StompCommand.SUBSCRIBE, "/topic/stores/" + storeId + "/orders");
+
+		assertSame(message, interceptor.preSend(message, channel));
+	}
+
+	@Test
+	void subscribe_ToOtherStoreTopicShouldBeRejected() {
+		Manager manager = Manager.builder()
+			.store(Store.builder().storeId(storeId).build())
+			.build();
+		given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+		Message<?> message = frame(StompCommand.SUBSCRIBE, "/topic/stores/" + UUID.randomUUID() + "/orders");
+
+		assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+	}
+
+	@Test
+	void subscribe_WhenManagerNotFoundShouldBeRejected() {
+		given(managerRepository.findById(managerId)).willReturn(Optional.empty());
+		Message<?> message = frame(StompCommand.SUBSCRIBE, "/topic/stores/" + UUID.randomUUID() + "/orders");
+
+		assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+	}
+
+	private Message<?> frame(StompCommand command, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setDestination(destination);
+		accessor.setUser(new UsernamePasswordAuthenticationToken(managerId.toString(), null,
+			List.of(new SimpleGrantedAuthority("ROLE_MANAGER"))));
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}